@@ -0,0 +1,97 @@
+package com.kosa.fillinv.global.persistence;
+
+import com.kosa.fillinv.lesson.entity.Lesson;
+import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.lesson.repository.LessonSpecifications;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.entity.ScheduleTime;
+import com.kosa.fillinv.schedule.repository.ScheduleParticipantRole;
+import com.kosa.fillinv.schedule.repository.ScheduleTimeSpecifications;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * LessonSpecifications / ScheduleTimeSpecifications 조건 생성 벤치마크
+ * Specification 조합 + Hibernate Criteria 트리 생성까지만 측정한다. (SQL 변환, DB 접근 제외)
+ * Hibernate 는 DB 연결 없이 메타데이터만 구성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    private EntityManagerFactory entityManagerFactory;
+    private CriteriaBuilder cb;
+
+    private List<String> candidateLessonIds;
+    private Instant from;
+    private Instant to;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setPackagesToScan("com.kosa.fillinv");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.MySQLDialect",
+                "hibernate.boot.allow_jdbc_metadata_access", "false",
+                "hibernate.hbm2ddl.auto", "none"
+        ));
+        factory.afterPropertiesSet();
+
+        entityManagerFactory = factory.getObject();
+        cb = entityManagerFactory.getCriteriaBuilder();
+
+        candidateLessonIds = IntStream.range(0, 200).mapToObj(i -> "lesson-" + i).toList();
+        from = Instant.now();
+        to = from.plus(30, ChronoUnit.DAYS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public CriteriaQuery<Lesson> lessonKeywordSearch() {
+        CriteriaQuery<Lesson> query = cb.createQuery(Lesson.class);
+        Root<Lesson> root = query.from(Lesson.class);
+
+        return query.where(LessonSpecifications.search("자바", LessonType.MENTORING, List.of(3L, 27L, 28L), null)
+                .toPredicate(root, query, cb));
+    }
+
+    @Benchmark
+    public CriteriaQuery<Lesson> lessonIndexedSearchAfterCursor() {
+        CriteriaQuery<Lesson> query = cb.createQuery(Lesson.class);
+        Root<Lesson> root = query.from(Lesson.class);
+
+        return query.where(LessonSpecifications.search(candidateLessonIds, null, List.of(3L, 27L, 28L), null)
+                .and(LessonSpecifications.after("popularityScore", false, 42.5, "lesson-100"))
+                .toPredicate(root, query, cb));
+    }
+
+    @Benchmark
+    public CriteriaQuery<ScheduleTime> scheduleTimeSearch() {
+        CriteriaQuery<ScheduleTime> query = cb.createQuery(ScheduleTime.class);
+        Root<ScheduleTime> root = query.from(ScheduleTime.class);
+
+        return query.where(ScheduleTimeSpecifications.search("spring", from, to, ScheduleStatus.APPROVED,
+                "mentor-1", "mentee-1", ScheduleParticipantRole.BOTH).toPredicate(root, query, cb));
+    }
+}
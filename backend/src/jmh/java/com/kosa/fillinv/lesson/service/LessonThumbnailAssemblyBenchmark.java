@@ -0,0 +1,137 @@
+package com.kosa.fillinv.lesson.service;
+
+import com.kosa.fillinv.category.dto.CategoryResponseDto;
+import com.kosa.fillinv.category.service.CategoryService;
+import com.kosa.fillinv.global.concurrent.DbCallBulkhead;
+import com.kosa.fillinv.lesson.entity.LessonThumbnailModel;
+import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.lesson.service.client.*;
+import com.kosa.fillinv.lesson.service.dto.LessonDTO;
+import com.kosa.fillinv.lesson.service.dto.LessonThumbnail;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 레슨 목록 썸네일 조립 벤치마크 (LessonReadService.search -> assembleLessonThumbnail)
+ * - READ_MODEL : lesson_thumbnail 읽기 모델이 모두 있는 경우
+ * - AGGREGATE  : 읽기 모델이 없어 멘토/평점/수강생 수를 병렬 조회하는 경우
+ * 외부 조회(클라이언트)는 즉시 응답하는 스텁이므로 조립 자체의 비용과 할당량만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LessonThumbnailAssemblyBenchmark {
+
+    public enum Path {
+        READ_MODEL, AGGREGATE
+    }
+
+    @Param({"READ_MODEL", "AGGREGATE"})
+    private Path path;
+
+    @Param({"12", "100"})
+    private int pageSize;
+
+    private LessonReadService lessonReadService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<LessonDTO> lessons = IntStream.range(0, pageSize)
+                .mapToObj(i -> lesson("lesson-" + i, "mentor-" + (i % 10), (long) (i % 5)))
+                .toList();
+
+        LessonService lessonService = mock(LessonService.class);
+        ReviewClient reviewClient = mock(ReviewClient.class);
+        ProfileClient profileClient = mock(ProfileClient.class);
+        StockClient stockClient = mock(StockClient.class);
+        CategoryService categoryService = mock(CategoryService.class);
+        ScheduleClient scheduleClient = mock(ScheduleClient.class);
+        LessonThumbnailProjector lessonThumbnailProjector = mock(LessonThumbnailProjector.class);
+
+        Page<LessonDTO> page = new PageImpl<>(lessons, PageRequest.of(0, pageSize), pageSize * 10L);
+        when(lessonService.searchLesson(any())).thenReturn(page);
+
+        Map<String, MentorSummaryDTO> mentors = IntStream.range(0, 10)
+                .mapToObj(i -> new MentorSummaryDTO("mentor-" + i, "멘토" + i, null, null))
+                .collect(Collectors.toMap(MentorSummaryDTO::mentorId, Function.identity()));
+        when(profileClient.getMentors(any())).thenReturn(mentors);
+
+        Map<String, Float> ratings = lessons.stream().collect(Collectors.toMap(LessonDTO::id, lesson -> 4.2f));
+        when(reviewClient.getAverageRating(any())).thenReturn(ratings);
+
+        Map<String, Integer> menteeCounts = lessons.stream().collect(Collectors.toMap(LessonDTO::id, lesson -> 7));
+        when(scheduleClient.countByLessonIdInAndStatusIn(anyCollection(), anyCollection())).thenReturn(menteeCounts);
+
+        Map<Long, CategoryResponseDto> categories = new HashMap<>();
+        for (long id = 0; id < 5; id++) {
+            categories.put(id, new CategoryResponseDto(id, "카테고리" + id, null, String.valueOf(id)));
+        }
+        when(categoryService.getAllCategoriesMap()).thenReturn(categories);
+
+        Map<String, LessonThumbnailModel> models = path == Path.READ_MODEL
+                ? lessons.stream().collect(Collectors.toMap(LessonDTO::id, this::model))
+                : Map.of();
+        when(lessonThumbnailProjector.getAll(any())).thenReturn(models);
+
+        lessonReadService = new LessonReadService(lessonService, reviewClient, profileClient, stockClient,
+                categoryService, scheduleClient, lessonThumbnailProjector, new DbCallBulkhead(5));
+    }
+
+    @Benchmark
+    public Page<LessonThumbnail> search() {
+        return lessonReadService.search();
+    }
+
+    private LessonThumbnailModel model(LessonDTO lesson) {
+        return LessonThumbnailModel.builder()
+                .lessonId(lesson.id())
+                .mentorId(lesson.mentorId())
+                .mentorNickname("멘토")
+                .categoryName("카테고리")
+                .ratingSum(42L)
+                .reviewCount(10L)
+                .menteeCount(7)
+                .build();
+    }
+
+    private LessonDTO lesson(String id, String mentorId, Long categoryId) {
+        Instant now = Instant.now();
+
+        return new LessonDTO(
+                id,
+                "레슨 " + id,
+                LessonType.MENTORING,
+                "default-thumbnail.png",
+                "설명",
+                "온라인",
+                mentorId,
+                categoryId,
+                now,
+                now.plusSeconds(3600 * 24),
+                10000,
+                10,
+                now,
+                null,
+                0.0,
+                Collections.emptyList(),
+                Collections.emptyList()
+        );
+    }
+}
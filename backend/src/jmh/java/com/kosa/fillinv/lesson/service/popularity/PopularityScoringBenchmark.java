@@ -0,0 +1,163 @@
+package com.kosa.fillinv.lesson.service.popularity;
+
+import com.kosa.fillinv.lesson.entity.LessonTemp;
+import com.kosa.fillinv.lesson.repository.LessonPopularityRepository;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 인기 점수 계산 경로 벤치마크
+ * - rebuildFromHistory : 리뷰/스케쥴 이력을 스트리밍으로 누적 (리뷰 수에 비례)
+ * - renormalize        : 누적 집계로 전체 레슨 점수 계산 (레슨 수에 비례)
+ * DB 대신 메모리에 만든 합성 데이터를 저장소 스텁으로 흘려보낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PopularityScoringBenchmark {
+
+    private static final int LESSON_COUNT = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int reviewCount;
+
+    private LessonPopularityService lessonPopularityService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticRepository repository = new SyntheticRepository(LESSON_COUNT, reviewCount, new SplittableRandom(42));
+        lessonPopularityService = new LessonPopularityService(repository, null, null, null);
+    }
+
+    @Benchmark
+    public void rebuildFromHistory() {
+        lessonPopularityService.rebuildFromHistory();
+    }
+
+    @Benchmark
+    public List<LessonTemp> renormalize() {
+        return lessonPopularityService.renormalize();
+    }
+
+    @Benchmark
+    public void scoreLoop(Blackhole blackhole) {
+        PopularityNorms norms = new PopularityNorms(50, reviewCount / LESSON_COUNT * 2L, 4.1);
+        for (int i = 0; i < LESSON_COUNT; i++) {
+            PopularityInput input = new PopularityInput("lesson", i % 50, i % 20, (i % 20) * 4.0, i % 20, 3, 5, 2, i % 4);
+            blackhole.consume(PopularityScoreCalculator.score(input, norms));
+        }
+    }
+
+    static class SyntheticRepository extends LessonPopularityRepository {
+
+        private final String[] lessonIds;
+        private final int[] reviewLessons;
+        private final int[] reviewScores;
+        private final Instant[] reviewCreatedAts;
+        private final int[] bookingLessons;
+        private final Instant[] bookingCreatedAts;
+
+        SyntheticRepository(int lessonCount, int reviewCount, SplittableRandom random) {
+            super(null);
+
+            lessonIds = new String[lessonCount];
+            for (int i = 0; i < lessonCount; i++) {
+                lessonIds[i] = "lesson-%08d".formatted(i);
+            }
+
+            Instant now = Instant.now();
+            reviewLessons = new int[reviewCount];
+            reviewScores = new int[reviewCount];
+            reviewCreatedAts = new Instant[reviewCount];
+            for (int i = 0; i < reviewCount; i++) {
+                reviewLessons[i] = random.nextInt(lessonCount);
+                reviewScores[i] = 1 + random.nextInt(5);
+                reviewCreatedAts[i] = now.minus(random.nextInt(3 * 365), ChronoUnit.DAYS);
+            }
+
+            int bookingCount = reviewCount / 10;
+            bookingLessons = new int[bookingCount];
+            bookingCreatedAts = new Instant[bookingCount];
+            for (int i = 0; i < bookingCount; i++) {
+                bookingLessons[i] = random.nextInt(lessonCount);
+                bookingCreatedAts[i] = now.minus(random.nextInt(7 * 24), ChronoUnit.HOURS);
+            }
+        }
+
+        @Override
+        public List<String> findAllLessonIds() {
+            return List.of(lessonIds);
+        }
+
+        @Override
+        public void streamReviews(ReviewRowHandler handler) {
+            for (int i = 0; i < reviewLessons.length; i++) {
+                handler.handle(lessonIds[reviewLessons[i]], reviewScores[i], reviewCreatedAts[i]);
+            }
+        }
+
+        @Override
+        public void streamStatusCounts(StatusCountRowHandler handler) {
+            for (String lessonId : lessonIds) {
+                handler.handle(lessonId, ScheduleStatus.APPROVED, 5);
+                handler.handle(lessonId, ScheduleStatus.CANCELED, 1);
+            }
+        }
+
+        @Override
+        public void streamBookingsSince(Instant since, BookingRowHandler handler) {
+            for (int i = 0; i < bookingLessons.length; i++) {
+                handler.handle(lessonIds[bookingLessons[i]], bookingCreatedAts[i]);
+            }
+        }
+
+        @Override
+        public void streamActiveInputs(LocalDate windowStart, Consumer<PopularityInput> consumer) {
+            for (int i = 0; i < lessonIds.length; i++) {
+                consumer.accept(new PopularityInput(lessonIds[i], i % 50, i % 20, (i % 20) * 4.0, i % 20, 3, 5, 2, i % 4));
+            }
+        }
+
+        @Override
+        public PopularityNorms findNorms(LocalDate windowStart) {
+            return new PopularityNorms(50, 20, 4.1);
+        }
+
+        @Override
+        public void deleteBookingsBefore(LocalDate date) {
+        }
+
+        @Override
+        public void deleteAll() {
+        }
+
+        @Override
+        public long findMaxOutboxId() {
+            return 0;
+        }
+
+        @Override
+        public void deleteOutboxUpTo(long maxId) {
+        }
+
+        @Override
+        public void bulkInsertStats(List<PopularityInput> stats) {
+        }
+
+        @Override
+        public void bulkInsertBookings(List<Object[]> rows) {
+        }
+    }
+}
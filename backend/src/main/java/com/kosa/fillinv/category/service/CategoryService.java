@@ -5,37 +5,116 @@ import com.kosa.fillinv.category.entity.Category;
 import com.kosa.fillinv.category.repository.CategoryRepository;
 import com.kosa.fillinv.global.exception.ResourceException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
 
+    // 카테고리는 거의 바뀌지 않고 대부분의 요청에서 읽히므로 메모리 스냅샷으로 제공
+    // 다른 인스턴스나 SQL 로 바뀐 카테고리는 주기적으로 다시 읽어 반영한다.
+    private final AtomicReference<CategoryTree> tree = new AtomicReference<>();
+
+    @Transactional(readOnly = true)
     public List<CategoryResponseDto> getAllCategories() {
-        List<Category> categories = categoryRepository.findAll();
-        return categories.stream()
-                .map(CategoryResponseDto::of)
-                .collect(Collectors.toList());
+        return getTree().all();
     }
 
+    @Transactional(readOnly = true)
     public Map<Long, CategoryResponseDto> getAllCategoriesMap() {
-        return categoryRepository.findAll().stream()
-                .collect(Collectors.toMap(
-                        Category::getId,
-                        CategoryResponseDto::of
-                ));
+        return getTree().asMap();
     }
 
+    @Transactional(readOnly = true)
+    public CategoryResponseDto getCategory(Long categoryId) {
+        return findCategory(categoryId)
+                .orElseThrow(() -> new ResourceException.NotFound("카테고리를 찾을 수 없습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CategoryResponseDto> findCategory(Long categoryId) {
+        if (categoryId == null) {
+            return Optional.empty();
+        }
+
+        Optional<CategoryResponseDto> cached = getTree().get(categoryId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        // 스냅샷 이후에 추가된 카테고리일 수 있으므로 DB 를 확인하고, 있으면 스냅샷을 갱신
+        Optional<CategoryResponseDto> found = categoryRepository.findById(categoryId).map(CategoryResponseDto::of);
+        if (found.isPresent()) {
+            reload();
+        }
+        return found;
+    }
+
+    /**
+     * categoryPath 에 해당하는 카테고리와 그 하위 카테고리 전체
+     * 스냅샷에 없는 경로는 이후에 추가된 카테고리일 수 있으므로 한 번 다시 읽어 확인한다.
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryResponseDto> getSubtree(String categoryPath) {
+        List<CategoryResponseDto> subtree = getTree().subtree(categoryPath);
+        if (!subtree.isEmpty()) {
+            return subtree;
+        }
+
+        reload();
+        return getTree().subtree(categoryPath);
+    }
+
+    @Transactional(readOnly = true)
     public Category getCategoryById(Long categoryId) {
         return categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ResourceException.NotFound("카테고리를 찾을 수 없습니다."));
     }
+
+    /**
+     * DB 에서 카테고리 전체를 다시 읽어 새 스냅샷으로 교체한다.
+     * 읽는 쪽은 교체 전/후 스냅샷 중 하나를 온전히 보게 된다.
+     */
+    @Scheduled(
+            initialDelayString = "${fillinv.category.refresh-interval-ms:600000}",
+            fixedDelayString = "${fillinv.category.refresh-interval-ms:600000}"
+    )
+    @Transactional(readOnly = true)
+    public void reload() {
+        CategoryTree loaded = CategoryTree.of(
+                categoryRepository.findAll().stream()
+                        .map(CategoryResponseDto::of)
+                        .toList()
+        );
+
+        CategoryTree previous = tree.getAndSet(loaded);
+        if (previous == null || previous.size() != loaded.size()) {
+            log.info("Category tree loaded. categories={}", loaded.size());
+        }
+    }
+
+    private CategoryTree getTree() {
+        CategoryTree current = tree.get();
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (tree) {
+            if (tree.get() == null) {
+                reload();
+            }
+            return tree.get();
+        }
+    }
 }
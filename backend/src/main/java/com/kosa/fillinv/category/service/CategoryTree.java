@@ -0,0 +1,88 @@
+package com.kosa.fillinv.category.service;
+
+import com.kosa.fillinv.category.dto.CategoryResponseDto;
+
+import java.util.*;
+
+/**
+ * 카테고리 계층 구조의 불변 스냅샷
+ * 생성 이후 변경되지 않으므로 여러 스레드에서 잠금 없이 읽을 수 있고, 변경 시에는 새 스냅샷으로 통째로 교체한다.
+ * <p>
+ * categoryPath 는 루트부터 ':' 로 이어진 id 경로이다. (예: "3", "3:27")
+ */
+public final class CategoryTree {
+
+    private static final char PATH_DELIMITER = ':';
+
+    private final List<CategoryResponseDto> categories;
+
+    private final Map<Long, CategoryResponseDto> byId;
+
+    private final NavigableMap<String, CategoryResponseDto> byPath;
+
+    private CategoryTree(List<CategoryResponseDto> categories) {
+        List<CategoryResponseDto> sorted = new ArrayList<>(categories);
+        sorted.sort(Comparator.comparing(CategoryResponseDto::categoryId));
+
+        Map<Long, CategoryResponseDto> idMap = new HashMap<>();
+        TreeMap<String, CategoryResponseDto> pathMap = new TreeMap<>();
+        for (CategoryResponseDto category : sorted) {
+            idMap.put(category.categoryId(), category);
+            pathMap.put(category.categoryPath(), category);
+        }
+
+        this.categories = List.copyOf(sorted);
+        this.byId = Map.copyOf(idMap);
+        this.byPath = Collections.unmodifiableNavigableMap(pathMap);
+    }
+
+    public static CategoryTree of(Collection<CategoryResponseDto> categories) {
+        return new CategoryTree(List.copyOf(categories));
+    }
+
+    public static CategoryTree empty() {
+        return new CategoryTree(List.of());
+    }
+
+    public Optional<CategoryResponseDto> get(Long categoryId) {
+        if (categoryId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byId.get(categoryId));
+    }
+
+    /**
+     * path 에 해당하는 카테고리와 그 하위 카테고리 전체 (path 순)
+     * "3" 의 하위는 "3:..." 이며, "30" 처럼 문자열 접두사만 같은 카테고리는 포함하지 않는다.
+     */
+    public List<CategoryResponseDto> subtree(String categoryPath) {
+        if (categoryPath == null || categoryPath.isBlank()) {
+            return categories;
+        }
+
+        List<CategoryResponseDto> result = new ArrayList<>();
+
+        CategoryResponseDto self = byPath.get(categoryPath);
+        if (self != null) {
+            result.add(self);
+        }
+
+        String childPrefix = categoryPath + PATH_DELIMITER;
+        String childPrefixEnd = categoryPath + (char) (PATH_DELIMITER + 1);
+        result.addAll(byPath.subMap(childPrefix, true, childPrefixEnd, false).values());
+
+        return result;
+    }
+
+    public List<CategoryResponseDto> all() {
+        return categories;
+    }
+
+    public Map<Long, CategoryResponseDto> asMap() {
+        return byId;
+    }
+
+    public int size() {
+        return categories.size();
+    }
+}
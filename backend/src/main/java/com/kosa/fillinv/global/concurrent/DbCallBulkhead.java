@@ -0,0 +1,58 @@
+package com.kosa.fillinv.global.concurrent;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 조회(FanOutScope)에서 DB 를 사용하는 작업 수를 서버 전체에서 제한하는 bulkhead
+ * 작업마다 커넥션 풀에서 커넥션을 하나씩 가져가므로, 요청이 몰려도 풀 크기보다 적은 수만 동시에 실행되도록 한다.
+ * 허가를 얻지 못한 작업은 기다리며, 기다린 시간도 작업 timeout 에 포함된다.
+ * <p>
+ * 허가 수를 지정하지 않으면 커넥션 풀 크기의 절반으로 정한다.
+ * 나머지 절반은 요청 스레드가 직접 사용하는 커넥션 몫이다. (open-in-view 로 요청이 끝날 때까지 커넥션을 잡고 있다)
+ */
+@Slf4j
+@Component
+public class DbCallBulkhead {
+
+    // 커넥션 풀 크기를 알 수 없을 때의 허가 수
+    private static final int DEFAULT_MAX_CONCURRENT = 5;
+
+    private final Semaphore permits;
+
+    @Autowired
+    public DbCallBulkhead(
+            DataSource dataSource,
+            @Value("${fillinv.fan-out.max-concurrent-db-calls:0}") int maxConcurrent
+    ) {
+        this(maxConcurrent > 0 ? maxConcurrent : halfOfPool(dataSource));
+        log.info("DB call bulkhead permits={}", permits.availablePermits());
+    }
+
+    public DbCallBulkhead(int maxConcurrent) {
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    Semaphore permits() {
+        return permits;
+    }
+
+    static int halfOfPool(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return Math.max(1, poolSize / 2);
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to read connection pool size. Using default bulkhead permits.", e);
+        }
+        return DEFAULT_MAX_CONCURRENT;
+    }
+}
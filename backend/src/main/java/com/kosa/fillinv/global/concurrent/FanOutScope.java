@@ -0,0 +1,139 @@
+package com.kosa.fillinv.global.concurrent;
+
+import com.kosa.fillinv.global.exception.BusinessException;
+import com.kosa.fillinv.global.response.ErrorCode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 조회를 가상 스레드에서 동시에 실행하는 구조적 동시성 스코프
+ * (Java 21 의 StructuredTaskScope 는 preview API 라서 동일한 규칙을 직접 구현)
+ * <p>
+ * - fork 한 작업은 모두 스코프 안에서만 살아있고, close 시 끝나지 않은 작업은 취소된다.
+ * - 작업마다 timeout 이 적용되며, 하나라도 실패하거나 시간을 넘기면 나머지 작업을 취소하고 즉시 예외를 던진다.
+ * - bulkhead 와 함께 열면 작업은 허가를 얻은 뒤에만 실행된다. (DB 커넥션을 사용하는 작업의 동시 실행 수 제한)
+ * <pre>
+ * try (FanOutScope scope = FanOutScope.open(Duration.ofSeconds(2))) {
+ *     Supplier&lt;A&gt; a = scope.fork(() -> clientA.call());
+ *     Supplier&lt;B&gt; b = scope.fork(() -> clientB.call());
+ *     scope.join();
+ *     return combine(a.get(), b.get());
+ * }
+ * </pre>
+ */
+public final class FanOutScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration timeout;
+    private final Semaphore bulkhead;
+    private final List<Future<?>> running = new ArrayList<>();
+    private final List<CompletableFuture<?>> results = new ArrayList<>();
+
+    // 처음 실패한 작업의 예외 (join 이 모든 작업을 기다리지 않고 바로 깨어나기 위해 사용)
+    private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+    private boolean joined = false;
+
+    private FanOutScope(Duration timeout, Semaphore bulkhead) {
+        this.timeout = timeout;
+        this.bulkhead = bulkhead;
+    }
+
+    public static FanOutScope open(Duration timeout) {
+        return new FanOutScope(timeout, null);
+    }
+
+    public static FanOutScope open(Duration timeout, DbCallBulkhead bulkhead) {
+        return new FanOutScope(timeout, bulkhead.permits());
+    }
+
+    public <T> Supplier<T> fork(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, e) -> {
+                    if (e != null) {
+                        firstFailure.completeExceptionally(e);
+                    }
+                });
+
+        running.add(executor.submit(() -> {
+            try {
+                if (bulkhead != null) {
+                    bulkhead.acquire();
+                }
+            } catch (InterruptedException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            // 결과를 알리기 전에 허가를 반납해 join 이후에는 허가가 모두 돌아와 있도록 한다
+            T value;
+            try {
+                value = task.call();
+            } catch (Throwable e) {
+                releasePermit();
+                result.completeExceptionally(e);
+                return;
+            }
+            releasePermit();
+            result.complete(value);
+        }));
+        results.add(result);
+
+        return () -> {
+            if (!joined) {
+                throw new IllegalStateException("join() 이후에만 결과를 조회할 수 있습니다.");
+            }
+            return result.join();
+        };
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 기다린다. 하나라도 실패하면 나머지를 취소하고 원인 예외를 그대로 던진다.
+     */
+    public void join() {
+        CompletableFuture<Void> all = CompletableFuture.allOf(results.toArray(CompletableFuture[]::new));
+        try {
+            CompletableFuture.anyOf(all, firstFailure).join();
+            joined = true;
+        } catch (CompletionException | CancellationException e) {
+            cancelAll();
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.shutdown();
+    }
+
+    private void releasePermit() {
+        if (bulkhead != null) {
+            bulkhead.release();
+        }
+    }
+
+    private void cancelAll() {
+        running.forEach(future -> future.cancel(true));
+    }
+
+    private RuntimeException unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof TimeoutException) {
+            return new BusinessException(ErrorCode.TIMEOUT);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,159 @@
+package com.kosa.fillinv.global.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 해시드 타이밍 휠 기반 타이머
+ * 만료 시각을 tick 단위 버킷에 나눠 담고, 워커 스레드가 tick 마다 현재 버킷만 확인한다.
+ * 예약/취소가 O(1) 이라 수만 개의 만료 예약을 걸어두어도 우선순위 큐처럼 비용이 늘어나지 않는다.
+ * <p>
+ * - 만료 정밀도는 tick 단위이며, 만료 작업은 워커 스레드에서 실행되므로 짧게 끝나야 한다.
+ * - 휠 한 바퀴(tick * ticksPerWheel)보다 먼 만료는 남은 바퀴 수(remainingRounds)로 관리한다.
+ */
+@Slf4j
+public final class HashedWheelTimer implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Queue<Timeout>[] wheel;
+
+    // 워커 스레드가 다음 tick 에 버킷으로 옮길 신규 예약
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+
+    @SuppressWarnings("unchecked")
+    public HashedWheelTimer(String name, Duration tickDuration, int ticksPerWheel) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("ticksPerWheel must be positive");
+        }
+
+        this.tickNanos = tickDuration.toNanos();
+
+        int size = Integer.highestOneBit(ticksPerWheel - 1 | 1) << 1;
+        this.mask = size - 1;
+        this.wheel = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+
+        this.startNanos = System.nanoTime();
+        this.worker = Thread.ofPlatform().name(name).daemon().unstarted(this::run);
+        this.worker.start();
+    }
+
+    public Timeout schedule(Runnable task, Duration delay) {
+        if (!running) {
+            throw new IllegalStateException("timer is closed");
+        }
+
+        long delayNanos = Math.max(0, delay.toNanos());
+        Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + delayNanos);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            waitForTick(tick);
+            if (!running) {
+                return;
+            }
+
+            transferPending(tick);
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void waitForTick(long tick) {
+        long deadline = startNanos + (tick + 1) * tickNanos;
+        long remaining;
+        while (running && (remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private void transferPending(long currentTick) {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            // 이미 지난 만료도 현재 tick 버킷에 넣어 이번 tick 에 실행한다
+            long deadlineTick = Math.max(currentTick, timeout.deadlineNanos / tickNanos);
+            timeout.remainingRounds = (deadlineTick - currentTick) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    public static final class Timeout {
+
+        private final Runnable task;
+        private final long deadlineNanos;
+
+        // 워커 스레드에서만 읽고 쓴다
+        private long remainingRounds;
+
+        private volatile boolean cancelled = false;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 만료 전이면 예약을 취소한다. 버킷에서는 워커 스레드가 다음에 지나갈 때 제거된다.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void expire() {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Timer task failed.", e);
+            }
+        }
+    }
+}
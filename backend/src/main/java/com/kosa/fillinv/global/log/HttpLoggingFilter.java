@@ -28,6 +28,10 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
             "/v3/api-docs/**"
     );
 
+    // 캘린더 구독 경로는 본문을 캐싱하거나 기록하지 않는다
+    // .ics 응답은 스트리밍하므로 ContentCachingResponseWrapper 로 감싸면 전체가 메모리에 쌓이고, 발급 응답 본문과 URI 에는 구독 토큰이 들어 있다
+    private static final String CALENDAR_FEED_URI = "/api/v1/schedules/calendar/feed/**";
+
     private final AntPathMatcher antPathMatcher = new AntPathMatcher();
 
     @Override
@@ -43,6 +47,17 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
             return;
         }
 
+        if (antPathMatcher.match(CALENDAR_FEED_URI, requestURI)) {
+            createRequestId();
+            try {
+                log.info(new RequestLogMessage(request.getMethod(), maskFeedToken(requestURI), "").toString());
+                filterChain.doFilter(request, response);
+            } finally {
+                MDC.remove("request_id");
+            }
+            return;
+        }
+
         final ContentCachingRequestWrapper cacheRequest = new ContentCachingRequestWrapper(request, 1024 * 1024 * 50); // 50MB까지 캐싱 가능
         final ContentCachingResponseWrapper cacheResponse = new ContentCachingResponseWrapper(response);
 
@@ -75,6 +90,11 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
         log.info(responseLog.toString());
     }
 
+    // /calendar/feed/{token}.ics 의 토큰을 가린다
+    static String maskFeedToken(String requestURI) {
+        return requestURI.replaceFirst("/feed/[^/]+$", "/feed/****");
+    }
+
     private boolean isExcluded(String requestURI) {
         return EXCLUDE_URI.stream()
                 .anyMatch(pattern -> antPathMatcher.match(pattern, requestURI));
@@ -0,0 +1,21 @@
+package com.kosa.fillinv.global.response;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static <T> CursorResponse<T> of(Slice<T> slice, String nextCursor) {
+        return new CursorResponse<>(
+                slice.getContent(),
+                slice.getSize(),
+                slice.hasNext(),
+                nextCursor
+        );
+    }
+}
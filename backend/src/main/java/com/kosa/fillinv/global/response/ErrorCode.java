@@ -20,6 +20,7 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND(NOT_FOUND, "G01", "요청한 자원을 찾을 수 없습니다"),
     NOT_SUPPORTED(BAD_REQUEST, "G02", "지원하지 않는 요청입니다"),
     INVALID_ARGUMENT(BAD_REQUEST, "G03", "인자가 올바르지 않습니다."),
+    TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "G04", "요청 처리 시간이 초과되었습니다."),
 
     // Member Error
     MEMBER_NOT_FOUND(NOT_FOUND, "M01", "회원을 찾을 수 없습니다."),
@@ -49,6 +50,12 @@ public enum ErrorCode {
     INVALID_SCHEDULE_STATUS(NOT_FOUND, "SCH09", "스케쥴 상태가 올바르지 않습니다."),
     INVALID_DATE_FORMAT(NOT_FOUND, "SCH10", "날짜 형식이 올바르지 않습니다."),
     NO_SEAT(BAD_REQUEST, "SCH11", "남은 좌석이 없습니다."),
+    SCHEDULE_TIME_CONFLICT(BAD_REQUEST, "SCH12", "멘토의 다른 예약과 시간이 겹칩니다."),
+    EMPTY_CART(BAD_REQUEST, "SCH13", "예약할 항목이 없습니다."),
+    CART_MENTOR_MISMATCH(BAD_REQUEST, "SCH14", "한 번에 예약하려면 같은 멘토의 레슨이어야 합니다."),
+    INVALID_SCHEDULE_CURSOR(BAD_REQUEST, "SCH15", "커서 정보가 올바르지 않습니다."),
+    DUPLICATE_CART_ITEM(BAD_REQUEST, "SCH16", "같은 시간대나 스터디를 한 번에 두 번 예약할 수 없습니다."),
+    CALENDAR_FEED_NOT_FOUND(NOT_FOUND, "SCH17", "캘린더 구독 주소를 찾을 수 없습니다."),
 
     // Review Error
     REVIEW_NOT_ALLOWED(BAD_REQUEST, "R01", "리뷰를 작성할 수 없는 상태입니다."),
@@ -1,15 +1,14 @@
 package com.kosa.fillinv.global.scheduler;
 
-import com.kosa.fillinv.lesson.entity.Lesson;
+import com.kosa.fillinv.lesson.entity.LessonPopularityGeneration;
 import com.kosa.fillinv.lesson.entity.LessonTemp;
 import com.kosa.fillinv.lesson.repository.LessonBulkRepository;
-import com.kosa.fillinv.lesson.repository.LessonRepository;
+import com.kosa.fillinv.lesson.repository.LessonPopularityGenerationRepository;
 import com.kosa.fillinv.lesson.repository.LessonTempRepository;
-
-import com.kosa.fillinv.review.repository.ReviewRepository;
-import com.kosa.fillinv.schedule.entity.ScheduleStatus;
-import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.lesson.service.cache.LessonDetailCache;
+import com.kosa.fillinv.lesson.service.popularity.LessonPopularityService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -17,194 +16,95 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * 인기 점수 야간 재정규화
+ * 레슨별 점수는 이벤트로 갱신되는 누적 집계(LessonPopularityService)로 수시 반영되며,
+ * 이 작업은 정규화 기준값(최댓값, 전체 평균)과 7일 신청 구간을 다시 맞춘다.
+ * 새 점수는 포인터 행을 잠그고 발급받은 회차로 lesson_temp 에 먼저 기록하고, 점수가 바뀐 레슨만 한 트랜잭션에서 반영하므로
+ * 계산 중에도 POPULARITY 정렬은 이전 점수로 정상 동작한다.
+ * 회차 발급 이후 수시 반영으로 다시 계산된 레슨은 그 점수가 더 새로우므로 반영에서 제외한다.
+ */
+@Slf4j
 @Component
 @EnableScheduling
 @RequiredArgsConstructor
 public class LessonPopularityScheduler {
 
-    private static final int BAYESIAN_AVERAGE_WEIGHT = 5; // 베이지안 평균 가중치
-    private static final double RECENT_APP_COUNT_WEIGHT = 0.6;
-    private static final double REVIEW_COUNT_WEIGHT = 0.2;
-    private static final double BAYESIAN_AVG_WEIGHT = 0.2;
-    private final LessonRepository lessonRepository;
-    private final ScheduleRepository scheduleRepository;
-    private final ReviewRepository reviewRepository;
     private final LessonTempRepository lessonTempRepository;
+    private final LessonPopularityGenerationRepository lessonPopularityGenerationRepository;
     private final LessonBulkRepository lessonBulkRepository;
+    private final LessonPopularityService lessonPopularityService;
     private final TransactionTemplate transactionTemplate;
+    private final LessonDetailCache lessonDetailCache;
 
     @Scheduled(cron = "0 0 1 * * *")
     public void updateLessonPopularity() {
 
-        // 점수 초기화
-        transactionTemplate.executeWithoutResult(status -> resetAllScores());
+        // 회차 발급 (포인터 행 잠금은 이 짧은 트랜잭션 동안만 유지)
+        Long generation = transactionTemplate.execute(status -> lockPointer().claimNext());
+
+        // 계산 및 발급받은 회차(shadow)로 Temp 저장 - lessons 는 건드리지 않는다
+        transactionTemplate.executeWithoutResult(status -> calculateAndSaveToTemp(generation));
 
-        // 계산 및 Temp 저장
-        transactionTemplate.executeWithoutResult(status -> calculateAndSaveToTemp());
+        // 변경된 점수 반영 + 회차 포인터 전환 (한 트랜잭션)
+        List<LessonTemp> applied = transactionTemplate.execute(status -> flipGeneration(generation));
+        if (applied != null) {
+            lessonDetailCache.refreshScores(applied);
+        }
 
-        // Lesson 업데이트
-        transactionTemplate.executeWithoutResult(status -> updateLessonsFromTemp());
+        // 이전 회차 Temp 정리
+        transactionTemplate.executeWithoutResult(status -> lessonTempRepository.deleteByGenerationLessThan(generation));
 
     }
 
-    // 서버 실행 시 시작 (개발 단계)
+    /**
+     * 누적 집계가 비어 있을 때만(최초 배포) 이력으로 구성한 뒤 점수 계산
+     * 이후에는 outbox 로 변화량이 유실되지 않으므로 재시작 시 이력을 다시 읽지 않는다.
+     * 포인터 행을 잠그고 확인하므로 여러 노드가 동시에 시작해도 한 번만 구성한다.
+     */
     @EventListener(ApplicationReadyEvent.class)
     public void init() {
-        updateLessonPopularity();
-    }
-
-    private void resetAllScores() {
-        lessonRepository.resetAllPopularityScores();
-    }
-
-    private void calculateAndSaveToTemp() {
-
-        Instant now = Instant.now();
-        List<Lesson> activeLessons = lessonRepository.findAllByDeletedAtIsNull();
-        if (activeLessons.isEmpty()) {
-            return;
-        }
-
-        Instant startDate = now.minus(7, ChronoUnit.DAYS);
-
-        // 최근 7일 신청 조회
-        Map<String, Long> recentStatsMap = scheduleRepository.countByLessonIdAndCreatedAtAfter(startDate).stream()
-                .collect(Collectors.toMap(
-                        row -> (String) row[0],
-                        row -> (Long) row[1]));
-
-        // 전체 기간 상태별 신청 수 조회 (취소율 계산용)
-        List<Object[]> statusStats = scheduleRepository.countByLessonIdGroupedByStatus();
-        Map<String, Map<ScheduleStatus, Long>> statusCountsMap = new HashMap<>();
-
-        for (Object[] row : statusStats) {
-            String lessonId = (String) row[0];
-            ScheduleStatus status = (ScheduleStatus) row[1];
-            Long count = (Long) row[2];
-
-            statusCountsMap.computeIfAbsent(lessonId, k -> new HashMap<>()).put(status, count);
-        }
-
-        // 리뷰 관련 계산
-        List<Object[]> allReviews = reviewRepository.findAllReviewsForRanking();
-        Map<String, ReviewStat> reviewStatsMap = new HashMap<>();
-
-        long maxRecentAppCount = 0;
-        long maxReviewCount = 0;
-
-        Map<String, Double> lessonWeightedScoreSum = new HashMap<>();
-        Map<String, Double> lessonWeightSum = new HashMap<>();
-        Map<String, Long> lessonReviewCount = new HashMap<>();
-
-        double totalGlobalWeightedScoreSum = 0.0;
-        double totalGlobalWeightSum = 0.0;
-
-        for (Object[] row : allReviews) {
-            String lessonId = (String) row[0];
-            Double score = (Double) row[1];
-            Instant createdAt = (Instant) row[2];
-
-            // Time Decay 가중치 계산 (반감기 1년 = 365일)
-            long daysSince = ChronoUnit.DAYS.between(createdAt, now);
-            double weight = Math.pow(0.5, daysSince / 365.0);
-
-            lessonWeightedScoreSum.merge(lessonId, score * weight, Double::sum);
-            lessonWeightSum.merge(lessonId, weight, Double::sum);
-            lessonReviewCount.merge(lessonId, 1L, Long::sum);
-
-            totalGlobalWeightedScoreSum += (score * weight);
-            totalGlobalWeightSum += weight;
-        }
-
-        for (String lessonId : lessonReviewCount.keySet()) {
-            Long count = lessonReviewCount.get(lessonId);
-            Double wSum = lessonWeightedScoreSum.get(lessonId);
-            Double wWeight = lessonWeightSum.get(lessonId);
-            Double weightedAvg = (wWeight > 0) ? (wSum / wWeight) : 0.0;
-
-            reviewStatsMap.put(lessonId, new ReviewStat(count, weightedAvg));
-
-            if (count > maxReviewCount)
-                maxReviewCount = count;
-        }
-
-        for (Long count : recentStatsMap.values()) {
-            if (count > maxRecentAppCount)
-                maxRecentAppCount = count;
-        }
-
-        double C = (totalGlobalWeightSum > 0) ? (totalGlobalWeightedScoreSum / totalGlobalWeightSum) : 0.0;
-        final double MAX_RATING = 5.0;
-
-        List<LessonTemp> tempToSave = new ArrayList<>();
-
-        // 인기 점수 계산
-        for (Lesson lesson : activeLessons) {
-            String lessonId = lesson.getId();
-
-            Long recentAppCount = recentStatsMap.getOrDefault(lessonId, 0L);
-
-            ReviewStat reviewStat = reviewStatsMap.getOrDefault(lessonId, new ReviewStat(0L, 0.0));
-            Long v = reviewStat.count;
-            Double R = reviewStat.avgScore;
-
-            // 베이지안 평균
-            double bayesianAvg = 0.0;
-            if (v + BAYESIAN_AVERAGE_WEIGHT > 0) {
-                bayesianAvg = ((double) v / (v + BAYESIAN_AVERAGE_WEIGHT)) * R
-                        + ((double) BAYESIAN_AVERAGE_WEIGHT / (v + BAYESIAN_AVERAGE_WEIGHT)) * C;
+        Boolean rebuilt = transactionTemplate.execute(status -> {
+            lockPointer();
+            if (lessonPopularityService.hasStats()) {
+                return false;
             }
 
-            double normRecentApp = (maxRecentAppCount > 0) ? (double) recentAppCount / maxRecentAppCount : 0.0;
-            double normReviewCount = (maxReviewCount > 0) ? (double) v / maxReviewCount : 0.0;
-            double normRating = bayesianAvg / MAX_RATING;
-
-            // 기본 점수 (가중치 적용)
-            double baseScore = (normRecentApp * RECENT_APP_COUNT_WEIGHT)
-                    + (normReviewCount * REVIEW_COUNT_WEIGHT)
-                    + (normRating * BAYESIAN_AVG_WEIGHT);
-
-            // 취소율 패널티 적용
-            Map<ScheduleStatus, Long> counts = statusCountsMap.getOrDefault(lessonId, new HashMap<>());
-            long canceled = counts.getOrDefault(ScheduleStatus.CANCELED, 0L);
-            long approved = counts.getOrDefault(ScheduleStatus.APPROVED, 0L);
-            long completed = counts.getOrDefault(ScheduleStatus.COMPLETED, 0L);
-            long pending = counts.getOrDefault(ScheduleStatus.APPROVAL_PENDING, 0L);
-
-            // PAYMENT_PENDING 은 허수일 가능성이 높으므로 모수에서 제외
-            long totalValidRequests = canceled + approved + completed + pending;
-            double cancellationRate = (totalValidRequests > 0) ? (double) canceled / totalValidRequests : 0.0;
+            lessonPopularityService.rebuildFromHistory();
+            return true;
+        });
 
-            // 패널티 적용: (1 - 취소율) 곱하기
-            double finalScore = baseScore * (1.0 - cancellationRate);
-
-            double scaledScore = finalScore * 100.0;
-            double roundedScore = Math.round(scaledScore * 100.0) / 100.0;
-
-            tempToSave.add(new LessonTemp(lessonId, roundedScore));
+        if (Boolean.TRUE.equals(rebuilt)) {
+            updateLessonPopularity();
         }
+    }
 
-        lessonTempRepository.deleteAll();
-        lessonBulkRepository.bulkInsertLessonTemp(tempToSave);
+    private void calculateAndSaveToTemp(long generation) {
+        List<LessonTemp> tempToSave = lessonPopularityService.renormalize();
+        lessonBulkRepository.bulkInsertLessonTemp(tempToSave, generation);
     }
 
-    private void updateLessonsFromTemp() {
-        List<LessonTemp> temps = lessonTempRepository.findAll();
-        if (temps.isEmpty()) {
-            return;
+    private List<LessonTemp> flipGeneration(long generation) {
+        LessonPopularityGeneration pointer = lockPointer();
+
+        // 다른 노드가 이미 같은 회차를 반영했으면 건너뛴다
+        if (pointer.getGeneration() >= generation) {
+            return null;
         }
 
-        lessonBulkRepository.bulkUpdatePopularity(temps);
+        // 발급 이후 수시 반영된 레슨은 제외하고 반영
+        List<LessonTemp> applied = lessonBulkRepository.applyPopularityGeneration(generation);
+        pointer.flip(generation);
+
+        log.info("Lesson popularity generation flipped. generation={}, updated={}", generation, applied.size());
+        return applied;
     }
 
-    record ReviewStat(Long count, Double avgScore) {
+    private LessonPopularityGeneration lockPointer() {
+        return lessonPopularityGenerationRepository
+                .findByIdForUpdate(LessonPopularityGeneration.SINGLETON_ID)
+                .orElseGet(() -> lessonPopularityGenerationRepository.save(LessonPopularityGeneration.initial()));
     }
 }
@@ -0,0 +1,124 @@
+package com.kosa.fillinv.global.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * iCalendar(RFC 5545) 스트리밍 작성기
+ * 일정을 받는 즉시 Writer 로 내보내므로 일정 수와 관계없이 메모리 사용량이 일정하다.
+ * 줄바꿈은 CRLF 이며, 75 octet 을 넘는 줄은 UTF-8 문자 경계에서 접는다.
+ */
+public final class ICalendarWriter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String CRLF = "\r\n";
+
+    private final Writer out;
+
+    public ICalendarWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void begin(String productId, String calendarName) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:" + productId);
+        line("CALSCALE:GREGORIAN");
+        line("X-WR-CALNAME:" + escape(calendarName));
+    }
+
+    public void event(Event event) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + event.uid());
+        line("DTSTAMP:" + DATE_TIME.format(event.stamp()));
+        line("DTSTART:" + DATE_TIME.format(event.start()));
+        line("DTEND:" + DATE_TIME.format(event.end()));
+        line("SUMMARY:" + escape(event.summary()));
+        if (event.description() != null) {
+            line("DESCRIPTION:" + escape(event.description()));
+        }
+        line("STATUS:" + event.status().name());
+        line("END:VEVENT");
+    }
+
+    public void end() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+    }
+
+    public enum Status {
+        TENTATIVE, CONFIRMED, CANCELLED
+    }
+
+    public record Event(
+            String uid,
+            Instant stamp,
+            Instant start,
+            Instant end,
+            String summary,
+            String description,
+            Status status
+    ) {
+    }
+
+    // TEXT 값의 역슬래시, 세미콜론, 쉼표, 줄바꿈 이스케이프
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // 75 octet 마다 CRLF + 공백으로 접는다 (이어지는 줄은 공백 1 octet 을 포함)
+    private void line(String content) throws IOException {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int size = utf8Length(codePoint);
+
+            if (octets + size > limit) {
+                out.write(CRLF);
+                out.write(' ');
+                octets = 0;
+                limit = MAX_LINE_OCTETS - 1;
+            }
+
+            out.write(content, i, charCount);
+            octets += size;
+            i += charCount;
+        }
+        out.write(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
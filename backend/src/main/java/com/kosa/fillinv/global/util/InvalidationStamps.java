@@ -0,0 +1,82 @@
+package com.kosa.fillinv.global.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 캐시 무효화 시점 기록 (전역 시계 + 키별 마지막 무효화 시점)
+ * <p>
+ * - 조회를 시작할 때 now() 로 시점을 받아 두고, 저장할 때 isFresh() 로 그 사이 무효화되었는지 확인한다.
+ * - 최근 무효화된 키만 capacity 개까지 기억하며, 넘치면 가장 오래된 기록을 버리고 그 시점을 하한(floor)으로 올린다.
+ *   기록이 없는 키는 하한 시점에 무효화된 것으로 보므로, 오래 전에 시작된 조회 결과만 보수적으로 버려진다.
+ */
+public class InvalidationStamps {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final int capacity;
+
+    // 삽입 순서 = 무효화 시점 순서 (무효화할 때마다 제거 후 다시 넣는다)
+    private final LinkedHashMap<String, Long> lastInvalidated = new LinkedHashMap<>(256);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long clock = 0;
+
+    private long floor = 0;
+
+    public InvalidationStamps() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public InvalidationStamps(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public long now() {
+        lock.lock();
+        try {
+            return clock;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            lastInvalidated.remove(key);
+            lastInvalidated.put(key, ++clock);
+
+            Iterator<Long> iterator = lastInvalidated.values().iterator();
+            while (lastInvalidated.size() > capacity && iterator.hasNext()) {
+                floor = iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * stamp 시점 이후 key 가 무효화되지 않았으면 true
+     */
+    public boolean isFresh(String key, long stamp) {
+        lock.lock();
+        try {
+            return lastInvalidated.getOrDefault(key, floor) <= stamp;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return lastInvalidated.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
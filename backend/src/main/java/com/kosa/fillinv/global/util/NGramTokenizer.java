@@ -0,0 +1,43 @@
+package com.kosa.fillinv.global.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 부분 검색을 위한 n-gram(기본 2-gram) 토크나이저
+ * 형태소 분석 없이도 "스프링" 검색 시 "스프", "프링" 토큰으로 부분 일치를 찾을 수 있다.
+ */
+public final class NGramTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // 정규화된 텍스트가 GRAM_SIZE 보다 짧으면 토큰을 만들 수 없으므로 빈 Set 반환
+    public static Set<String> tokenize(String text) {
+        String normalized = normalize(text);
+        Set<String> tokens = new LinkedHashSet<>();
+
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            String token = normalized.substring(i, i + GRAM_SIZE);
+            if (!token.isBlank()) {
+                tokens.add(token);
+            }
+        }
+
+        return tokens;
+    }
+
+    public static boolean isSearchable(String keyword) {
+        return normalize(keyword).length() >= GRAM_SIZE;
+    }
+}
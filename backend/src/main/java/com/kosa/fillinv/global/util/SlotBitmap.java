@@ -0,0 +1,169 @@
+package com.kosa.fillinv.global.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하루를 10분 슬롯 144개로 나눈 일자별 비트맵 (Asia/Seoul 기준)
+ * 하루는 long 3개(192비트)로 표현되며, 예약 가능 여부 계산은 일자별 비트 연산(AND NOT)으로 끝난다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다.
+ */
+public final class SlotBitmap {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    public static final int SLOT_MINUTES = 10;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private static final long SLOT_SECONDS = SLOT_MINUTES * 60L;
+    private static final int WORDS = (SLOTS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private final Map<LocalDate, long[]> days = new HashMap<>();
+
+    // 구간에 조금이라도 걸치는 슬롯을 표시 (예약된 시간)
+    public void markCovering(Instant start, Instant end) {
+        mark(start, end, true);
+    }
+
+    // 구간에 완전히 포함된 슬롯만 표시 (이용 가능 시간)
+    public void markWithin(Instant start, Instant end) {
+        mark(start, end, false);
+    }
+
+    // 일자의 비트맵 복사본 (표시된 슬롯이 없으면 모두 0)
+    public long[] day(LocalDate date) {
+        long[] bits = days.get(date);
+        return bits == null ? empty() : bits.clone();
+    }
+
+    public void clear(LocalDate date) {
+        days.remove(date);
+    }
+
+    public void removeBefore(LocalDate date) {
+        days.keySet().removeIf(day -> day.isBefore(date));
+    }
+
+    public static long[] empty() {
+        return new long[WORDS];
+    }
+
+    // a 에서 b 에 표시된 슬롯을 뺀 결과
+    public static long[] andNot(long[] a, long[] b) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = a[i] & ~b[i];
+        }
+        return result;
+    }
+
+    // slot 이전의 슬롯을 모두 지운다
+    public static void clearBefore(long[] bits, int slot) {
+        for (int i = 0; i < WORDS && slot > 0; i++) {
+            int n = Math.min(Long.SIZE, slot);
+            bits[i] &= n == Long.SIZE ? 0L : -1L << n;
+            slot -= n;
+        }
+    }
+
+    // 시각이 속한 슬롯 번호
+    public static int slotOf(Instant instant) {
+        LocalDate date = instant.atZone(ZONE).toLocalDate();
+        return (int) (Duration.between(startOf(date), instant).getSeconds() / SLOT_SECONDS);
+    }
+
+    // 연속으로 표시된 슬롯을 하나의 구간으로 합쳐 반환
+    public static List<Range> ranges(LocalDate date, long[] bits) {
+        Instant dayStart = startOf(date);
+        List<Range> ranges = new ArrayList<>();
+
+        int slot = nextSetBit(bits, 0);
+        while (slot >= 0) {
+            int end = slot;
+            while (end < SLOTS_PER_DAY && isSet(bits, end)) {
+                end++;
+            }
+            ranges.add(new Range(
+                    dayStart.plusSeconds(slot * SLOT_SECONDS),
+                    dayStart.plusSeconds(end * SLOT_SECONDS)
+            ));
+            slot = nextSetBit(bits, end);
+        }
+        return ranges;
+    }
+
+    // 구간이 걸치는 일자 목록
+    public static List<LocalDate> datesOf(Instant start, Instant end) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate last = end.minusNanos(1).atZone(ZONE).toLocalDate();
+        for (LocalDate date = start.atZone(ZONE).toLocalDate(); !date.isAfter(last); date = date.plusDays(1)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    public static Instant startOf(LocalDate date) {
+        return date.atStartOfDay(ZONE).toInstant();
+    }
+
+    public record Range(Instant startTime, Instant endTime) {
+    }
+
+    private void mark(Instant start, Instant end, boolean covering) {
+        if (!start.isBefore(end)) {
+            return;
+        }
+
+        for (LocalDate date : datesOf(start, end)) {
+            Instant dayStart = startOf(date);
+            long from = Math.max(0, Duration.between(dayStart, start).getSeconds());
+            long to = Math.min(SLOTS_PER_DAY * SLOT_SECONDS, Duration.between(dayStart, end).getSeconds());
+
+            int fromSlot = (int) (covering ? from / SLOT_SECONDS : Math.ceilDiv(from, SLOT_SECONDS));
+            int toSlot = (int) (covering ? Math.ceilDiv(to, SLOT_SECONDS) : to / SLOT_SECONDS);
+            if (fromSlot < toSlot) {
+                setRange(days.computeIfAbsent(date, d -> empty()), fromSlot, toSlot);
+            }
+        }
+    }
+
+    // [from, to) 슬롯을 단어 단위 마스크로 표시
+    private static void setRange(long[] bits, int from, int to) {
+        int slot = from;
+        while (slot < to) {
+            int offset = slot & (Long.SIZE - 1);
+            int n = Math.min(Long.SIZE - offset, to - slot);
+            long mask = n == Long.SIZE ? -1L : ((1L << n) - 1) << offset;
+            bits[slot >>> 6] |= mask;
+            slot += n;
+        }
+    }
+
+    private static boolean isSet(long[] bits, int slot) {
+        return (bits[slot >>> 6] & (1L << (slot & (Long.SIZE - 1)))) != 0;
+    }
+
+    private static int nextSetBit(long[] bits, int from) {
+        if (from >= SLOTS_PER_DAY) {
+            return -1;
+        }
+
+        int word = from >>> 6;
+        long current = bits[word] & (-1L << (from & (Long.SIZE - 1)));
+        while (true) {
+            if (current != 0) {
+                int slot = word * Long.SIZE + Long.numberOfTrailingZeros(current);
+                return slot < SLOTS_PER_DAY ? slot : -1;
+            }
+            if (++word == WORDS) {
+                return -1;
+            }
+            current = bits[word];
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.kosa.fillinv.lesson.controller;
 
+import com.kosa.fillinv.global.response.CursorResponse;
 import com.kosa.fillinv.global.response.SuccessResponse;
 import com.kosa.fillinv.lesson.controller.dto.*;
 import com.kosa.fillinv.lesson.service.LessonReadService;
@@ -15,6 +16,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/lessons")
@@ -48,6 +51,16 @@ public class LessonController {
         return SuccessResponse.success(HttpStatus.OK, PageResponse.from(result));
     }
 
+    @GetMapping("/search/cursor")
+    public SuccessResponse<CursorResponse<LessonThumbnail>> searchByCursor(
+            @ModelAttribute LessonSearchRequest request,
+            @RequestParam(required = false) String cursor
+    ) {
+        CursorResponse<LessonThumbnail> result = lessonReadService.searchByCursor(request, cursor);
+
+        return SuccessResponse.success(HttpStatus.OK, result);
+    }
+
     @GetMapping("/mine")
     public SuccessResponse<PageResponse<LessonThumbnail>> mine(
             @AuthenticationPrincipal UserDetails principal,
@@ -69,6 +82,18 @@ public class LessonController {
         return SuccessResponse.success(HttpStatus.OK, detail);
     }
 
+    // 멘토링 레슨의 예약 가능한 시간 (from ~ to: yyyy-MM-dd)
+    @GetMapping("/{lessonId}/slots")
+    public SuccessResponse<MentoringSlotsResult> slots(
+            @PathVariable String lessonId,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to
+    ) {
+        MentoringSlotsResult slots = lessonReadService.slots(lessonId, from, to);
+
+        return SuccessResponse.success(HttpStatus.OK, slots);
+    }
+
     @PatchMapping("/{lessonId}")
     public SuccessResponse<EditLessonResponse> edit(
             @PathVariable String lessonId,
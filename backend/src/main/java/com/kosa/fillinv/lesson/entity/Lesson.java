@@ -67,6 +67,10 @@ public class Lesson extends BaseEntity {
     @ColumnDefault("0.0")
     private Double popularityScore = 0.0;
 
+    // 인기 점수를 마지막으로 기록한 회차 (수시 반영은 발급된 회차를 기록해 야간 반영이 덮어쓰지 않게 한다)
+    @Column(name = "popularity_generation")
+    private Long popularityGeneration;
+
     @Builder
     public Lesson(String id,
                   String title,
@@ -0,0 +1,45 @@
+package com.kosa.fillinv.lesson.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 레슨별 일자(UTC) 신청 수 버킷
+ * 최근 7일 신청 수는 버킷 합으로 계산하고, 기간이 지난 버킷은 야간 작업에서 삭제한다.
+ * (JdbcTemplate 으로만 갱신하며, 엔티티는 스키마 정의 용도)
+ */
+@Entity
+@Table(name = "lesson_daily_booking")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LessonDailyBooking {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "booking_count", nullable = false)
+    private Long bookingCount = 0L;
+
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        @Column(name = "lesson_id", nullable = false)
+        private String lessonId;
+
+        @Column(name = "booking_date", nullable = false)
+        private LocalDate bookingDate;
+    }
+}
@@ -0,0 +1,51 @@
+package com.kosa.fillinv.lesson.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 점수 반영 회차 포인터 (단일 행)
+ * lesson_temp 에 다음 회차 점수를 모두 기록한 뒤, 변경된 점수 반영과 회차 증가를 한 트랜잭션에서 수행한다.
+ * 계산할 회차 번호는 이 행을 잠근 상태에서 발급(claim)하므로 여러 노드가 같은 회차의 lesson_temp 를 쓰지 않는다.
+ */
+@Entity
+@Table(name = "lesson_popularity_generation")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LessonPopularityGeneration {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    @Column(name = "generation", nullable = false)
+    private Long generation;
+
+    // 마지막으로 발급한 회차 (반영된 회차보다 클 수 있다)
+    @Column(name = "claimed_generation", nullable = false)
+    private Long claimedGeneration;
+
+    public static LessonPopularityGeneration initial() {
+        LessonPopularityGeneration pointer = new LessonPopularityGeneration();
+        pointer.id = SINGLETON_ID;
+        pointer.generation = 0L;
+        pointer.claimedGeneration = 0L;
+        return pointer;
+    }
+
+    public long claimNext() {
+        claimedGeneration = Math.max(generation, claimedGeneration) + 1;
+        return claimedGeneration;
+    }
+
+    public void flip(long generation) {
+        this.generation = generation;
+    }
+}
@@ -0,0 +1,58 @@
+package com.kosa.fillinv.lesson.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 아직 누적 집계에 반영되지 않은 인기 점수 변화량 (이벤트 1건당 1행)
+ * 리뷰 작성/스케쥴 상태 변경 트랜잭션 안에서 기록되어 원본과 함께 커밋/롤백되고, 주기 작업이 읽어 반영한 뒤 삭제한다.
+ * (JdbcTemplate 으로만 갱신하며, 엔티티는 스키마 정의 용도)
+ */
+@Entity
+@Table(name = "lesson_popularity_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LessonPopularityOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "lesson_id", nullable = false)
+    private String lessonId;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount = 0L;
+
+    @Column(name = "decayed_score_sum", nullable = false)
+    private Double decayedScoreSum = 0.0;
+
+    @Column(name = "decayed_weight_sum", nullable = false)
+    private Double decayedWeightSum = 0.0;
+
+    @Column(name = "approval_pending_count", nullable = false)
+    private Long approvalPendingCount = 0L;
+
+    @Column(name = "approved_count", nullable = false)
+    private Long approvedCount = 0L;
+
+    @Column(name = "completed_count", nullable = false)
+    private Long completedCount = 0L;
+
+    @Column(name = "canceled_count", nullable = false)
+    private Long canceledCount = 0L;
+
+    // 신청 이벤트의 일자 (UTC, 신청이 아니면 null)
+    @Column(name = "booking_date")
+    private LocalDate bookingDate;
+}
@@ -0,0 +1,48 @@
+package com.kosa.fillinv.lesson.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레슨별 인기 점수 누적 집계
+ * 리뷰 작성, 스케쥴 상태 변경 시 증분 갱신되며 인기 점수는 이 값만으로 다시 계산한다.
+ * (JdbcTemplate 으로만 갱신하며, 엔티티는 스키마 정의 용도)
+ */
+@Entity
+@Table(name = "lesson_popularity_stat")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LessonPopularityStat {
+
+    @Id
+    @Column(name = "lesson_id", nullable = false)
+    private String lessonId;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount = 0L;
+
+    // Σ score * 2^((작성일 - 기준일) / 반감기) : 시간 감쇠 가중치를 증가형으로 저장 (가중 평균 계산 시 현재 시각 항이 약분된다)
+    @Column(name = "decayed_score_sum", nullable = false)
+    private Double decayedScoreSum = 0.0;
+
+    // Σ 2^((작성일 - 기준일) / 반감기)
+    @Column(name = "decayed_weight_sum", nullable = false)
+    private Double decayedWeightSum = 0.0;
+
+    @Column(name = "approval_pending_count", nullable = false)
+    private Long approvalPendingCount = 0L;
+
+    @Column(name = "approved_count", nullable = false)
+    private Long approvedCount = 0L;
+
+    @Column(name = "completed_count", nullable = false)
+    private Long completedCount = 0L;
+
+    @Column(name = "canceled_count", nullable = false)
+    private Long canceledCount = 0L;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +13,7 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
-@Table(name = "lesson_temp")
+@Table(name = "lesson_temp", uniqueConstraints = @UniqueConstraint(name = "uk_lesson_temp_generation_lesson", columnNames = {"generation", "lesson_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class LessonTemp {
@@ -27,6 +28,10 @@ public class LessonTemp {
     @Column(name = "score", nullable = false)
     private Double score;
 
+    // 점수 계산 회차 (lesson_popularity_generation 의 현재 회차보다 크면 아직 반영 전인 shadow 데이터)
+    @Column(name = "generation", nullable = false)
+    private Long generation = 0L;
+
     @Builder
     public LessonTemp(String lessonId, Double score) {
         this.id = UUID.randomUUID().toString();
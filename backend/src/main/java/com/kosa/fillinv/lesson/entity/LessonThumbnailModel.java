@@ -0,0 +1,84 @@
+package com.kosa.fillinv.lesson.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레슨 목록(썸네일) 조회용 비정규화 읽기 모델
+ * 멘토 프로필, 카테고리 이름, 평점, 수강생 수를 미리 계산해 두어 검색 시 집계 쿼리를 없앤다.
+ */
+@Entity
+@Table(name = "lesson_thumbnail")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LessonThumbnailModel {
+
+    @Id
+    @Column(name = "lesson_id", nullable = false)
+    private String lessonId;
+
+    @Column(name = "mentor_id", nullable = false)
+    private String mentorId;
+
+    @Column(name = "mentor_nickname")
+    private String mentorNickname;
+
+    @Column(name = "mentor_profile_image")
+    private String mentorProfileImage;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
+    // 평균 평점 = ratingSum / reviewCount (리뷰가 추가될 때 증분 갱신)
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum = 0L;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount = 0L;
+
+    // 승인/완료 상태의 스케쥴 수
+    @Column(name = "mentee_count", nullable = false)
+    private Integer menteeCount = 0;
+
+    @Builder
+    public LessonThumbnailModel(String lessonId,
+                                String mentorId,
+                                String mentorNickname,
+                                String mentorProfileImage,
+                                String categoryName,
+                                Long ratingSum,
+                                Long reviewCount,
+                                Integer menteeCount) {
+        this.lessonId = lessonId;
+        this.mentorId = mentorId;
+        this.mentorNickname = mentorNickname;
+        this.mentorProfileImage = mentorProfileImage;
+        this.categoryName = categoryName;
+        this.ratingSum = ratingSum == null ? 0L : ratingSum;
+        this.reviewCount = reviewCount == null ? 0L : reviewCount;
+        this.menteeCount = menteeCount == null ? 0 : menteeCount;
+    }
+
+    public void updateMentor(String mentorId, String mentorNickname, String mentorProfileImage) {
+        this.mentorId = mentorId;
+        this.mentorNickname = mentorNickname;
+        this.mentorProfileImage = mentorProfileImage;
+    }
+
+    public void updateCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    public Float getAverageRating() {
+        if (reviewCount == null || reviewCount == 0) {
+            return null;
+        }
+        return (float) ratingSum / reviewCount;
+    }
+}
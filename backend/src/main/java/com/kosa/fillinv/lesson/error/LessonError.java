@@ -20,5 +20,9 @@ public class LessonError {
     public static final String OPTION_REQUIRED = "옵션은 필수입니다.";
     public static final String OPTION_PRICE_INVALID = "옵션 가격 정보가 올바르지 않습니다.";
     public static final String AVAILABLE_TIME_REQUIRED = "이용 가능 시간은 필수입니다.";
+    public static final String INVALID_CURSOR = "커서 정보가 올바르지 않습니다.";
+    public static String INVALID_SLOT_RANGE(int maxDays) {
+        return String.format("조회 기간이 올바르지 않습니다. (최대 %d일)", maxDays);
+    }
     public static final String AVAILABLE_TIME_PRICE_INVALID = "이용 가능 시간의 가격 정보가 올바르지 않습니다.";
 }
@@ -1,6 +1,8 @@
 package com.kosa.fillinv.lesson.repository;
 
+import com.kosa.fillinv.lesson.entity.LessonPopularityGeneration;
 import com.kosa.fillinv.lesson.entity.LessonTemp;
+import com.kosa.fillinv.lesson.entity.LessonThumbnailModel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -8,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
@@ -18,10 +21,10 @@ public class LessonBulkRepository {
     private final JdbcTemplate jdbcTemplate;
 
     /**
-     * LessonTemp 테이블에 데이터 대량 삽입
+     * LessonTemp 테이블에 해당 회차 데이터 대량 삽입
      */
-    public void bulkInsertLessonTemp(List<LessonTemp> temps) {
-        String sql = "INSERT INTO lesson_temp (id, lesson_id, score) VALUES (?, ?, ?)";
+    public void bulkInsertLessonTemp(List<LessonTemp> temps, long generation) {
+        String sql = "INSERT INTO lesson_temp (id, lesson_id, score, generation) VALUES (?, ?, ?, ?)";
 
         for (int i = 0; i < temps.size(); i += BATCH_SIZE) {
             int end = Math.min(temps.size(), i + BATCH_SIZE);
@@ -34,6 +37,7 @@ public class LessonBulkRepository {
                     ps.setString(1, temp.getId());
                     ps.setString(2, temp.getLessonId());
                     ps.setDouble(3, temp.getScore());
+                    ps.setLong(4, generation);
                 }
 
                 @Override
@@ -45,10 +49,52 @@ public class LessonBulkRepository {
     }
 
     /**
-     * lessons 테이블의 인기 점수 대량 업데이트
+     * 해당 회차 lesson_temp 점수를 lessons 에 반영 (점수가 바뀐 행만 갱신)
+     * 바뀐 레슨은 잠금 없는 조회로 먼저 고르고, PK 로 BATCH_SIZE 개씩 갱신해 바뀌지 않은 행은 잠그지 않는다.
+     * 회차 발급 이후 수시 반영으로 다시 계산된 레슨(popularity_generation >= generation)은 더 새로운 점수이므로 건너뛴다.
+     * 호출 측은 포인터 행을 잠근 상태여야 한다. (조회와 갱신 사이에 수시 반영이 끼어들지 않는다)
+     *
+     * @return 실제로 반영한 점수
      */
-    public void bulkUpdatePopularity(List<LessonTemp> temps) {
-        String sql = "UPDATE lessons SET popularity_score = ? WHERE lesson_id = ?";
+    public List<LessonTemp> applyPopularityGeneration(long generation) {
+        String sql = "SELECT t.lesson_id, t.score FROM lesson_temp t " +
+                "JOIN lessons l ON l.lesson_id = t.lesson_id " +
+                "WHERE t.generation = ? AND (l.popularity_score IS NULL OR l.popularity_score <> t.score) " +
+                "AND (l.popularity_generation IS NULL OR l.popularity_generation < ?)";
+
+        List<LessonTemp> applied = new ArrayList<>();
+        List<LessonTemp> changed = new ArrayList<>(BATCH_SIZE);
+        jdbcTemplate.query(sql, rs -> {
+            changed.add(new LessonTemp(rs.getString(1), rs.getDouble(2)));
+            if (changed.size() >= BATCH_SIZE) {
+                bulkUpdatePopularity(changed, generation);
+                applied.addAll(changed);
+                changed.clear();
+            }
+        }, generation, generation);
+
+        bulkUpdatePopularity(changed, generation);
+        applied.addAll(changed);
+        return applied;
+    }
+
+    /**
+     * 마지막으로 발급한 인기 점수 회차를 공유 잠금으로 조회 (포인터 행이 없으면 0)
+     * 수시 반영이 이 잠금을 쥐고 있는 동안에는 다음 회차 발급과 회차 반영이 기다리므로,
+     * 발급 이후에 커밋되는 수시 반영은 항상 발급된 회차를 기록한다.
+     */
+    public long findClaimedGenerationForShare() {
+        String sql = "SELECT claimed_generation FROM lesson_popularity_generation WHERE id = ? LOCK IN SHARE MODE";
+
+        List<Long> generations = jdbcTemplate.queryForList(sql, Long.class, LessonPopularityGeneration.SINGLETON_ID);
+        return generations.isEmpty() ? 0L : generations.getFirst();
+    }
+
+    /**
+     * lessons 테이블의 인기 점수 대량 업데이트 (점수를 계산한 회차도 함께 기록)
+     */
+    public void bulkUpdatePopularity(List<LessonTemp> temps, long generation) {
+        String sql = "UPDATE lessons SET popularity_score = ?, popularity_generation = ? WHERE lesson_id = ?";
 
         for (int i = 0; i < temps.size(); i += BATCH_SIZE) {
             int end = Math.min(temps.size(), i + BATCH_SIZE);
@@ -59,7 +105,41 @@ public class LessonBulkRepository {
                 public void setValues(PreparedStatement ps, int j) throws SQLException {
                     LessonTemp temp = batchList.get(j);
                     ps.setDouble(1, temp.getScore());
-                    ps.setString(2, temp.getLessonId());
+                    ps.setLong(2, generation);
+                    ps.setString(3, temp.getLessonId());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batchList.size();
+                }
+            });
+        }
+    }
+
+    /**
+     * lesson_thumbnail 읽기 모델 대량 삽입
+     */
+    public void bulkInsertLessonThumbnail(List<LessonThumbnailModel> models) {
+        String sql = "INSERT INTO lesson_thumbnail (lesson_id, mentor_id, mentor_nickname, mentor_profile_image, " +
+                "category_name, rating_sum, review_count, mentee_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        for (int i = 0; i < models.size(); i += BATCH_SIZE) {
+            int end = Math.min(models.size(), i + BATCH_SIZE);
+            List<LessonThumbnailModel> batchList = models.subList(i, end);
+
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int j) throws SQLException {
+                    LessonThumbnailModel model = batchList.get(j);
+                    ps.setString(1, model.getLessonId());
+                    ps.setString(2, model.getMentorId());
+                    ps.setString(3, model.getMentorNickname());
+                    ps.setString(4, model.getMentorProfileImage());
+                    ps.setString(5, model.getCategoryName());
+                    ps.setLong(6, model.getRatingSum());
+                    ps.setLong(7, model.getReviewCount());
+                    ps.setInt(8, model.getMenteeCount());
                 }
 
                 @Override
@@ -0,0 +1,17 @@
+package com.kosa.fillinv.lesson.repository;
+
+import com.kosa.fillinv.lesson.entity.LessonPopularityGeneration;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface LessonPopularityGenerationRepository extends JpaRepository<LessonPopularityGeneration, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM LessonPopularityGeneration g WHERE g.id = :id")
+    Optional<LessonPopularityGeneration> findByIdForUpdate(@Param("id") Integer id);
+}
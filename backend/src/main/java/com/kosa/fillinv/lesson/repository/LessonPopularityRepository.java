@@ -0,0 +1,330 @@
+package com.kosa.fillinv.lesson.repository;
+
+import com.kosa.fillinv.lesson.service.popularity.PopularityDelta;
+import com.kosa.fillinv.lesson.service.popularity.PopularityInput;
+import com.kosa.fillinv.lesson.service.popularity.PopularityNorms;
+import com.kosa.fillinv.lesson.service.popularity.PopularityOutboxBatch;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 인기 점수 누적 집계 (lesson_popularity_stat, lesson_daily_booking) 저장소
+ * 동시 갱신 시 읽고-쓰기 경합이 없도록 모든 갱신을 단일 UPDATE/UPSERT 로 수행한다.
+ * 이벤트별 변화량은 lesson_popularity_outbox 에 기록하고 LessonPopularityService 가 주기적으로 모아 한 번에 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LessonPopularityRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INPUT_SELECT = "SELECT l.lesson_id, COALESCE(b.recent_bookings, 0) AS recent_bookings, " +
+            "COALESCE(s.review_count, 0) AS review_count, " +
+            "COALESCE(s.decayed_score_sum, 0) AS decayed_score_sum, COALESCE(s.decayed_weight_sum, 0) AS decayed_weight_sum, " +
+            "COALESCE(s.approval_pending_count, 0) AS approval_pending_count, COALESCE(s.approved_count, 0) AS approved_count, " +
+            "COALESCE(s.completed_count, 0) AS completed_count, COALESCE(s.canceled_count, 0) AS canceled_count " +
+            "FROM lessons l " +
+            "LEFT JOIN lesson_popularity_stat s ON s.lesson_id = l.lesson_id " +
+            "LEFT JOIN (SELECT lesson_id, SUM(booking_count) AS recent_bookings FROM lesson_daily_booking " +
+            "WHERE booking_date >= ? GROUP BY lesson_id) b ON b.lesson_id = l.lesson_id " +
+            "WHERE l.deleted_at IS NULL";
+
+    private static final PreparedStatementSetter NO_PARAMS = ps -> {
+    };
+
+    private static final RowMapper<PopularityInput> INPUT_ROW_MAPPER = (rs, rowNum) -> new PopularityInput(
+            rs.getString("lesson_id"),
+            rs.getLong("recent_bookings"),
+            rs.getLong("review_count"),
+            rs.getDouble("decayed_score_sum"),
+            rs.getDouble("decayed_weight_sum"),
+            rs.getLong("approval_pending_count"),
+            rs.getLong("approved_count"),
+            rs.getLong("completed_count"),
+            rs.getLong("canceled_count")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 대용량 조회를 한 번에 메모리에 올리지 않도록 전진 전용 커서로 읽는다 (MySQL 은 Integer.MIN_VALUE 일 때 행 단위 스트리밍)
+    @Value("${fillinv.jdbc.stream-fetch-size:-2147483648}")
+    private int streamFetchSize;
+
+    /**
+     * 메모리에 모은 변화량을 한 번에 반영 (레슨당 UPSERT 1회 + 일자별 신청 수 UPSERT)
+     * 상태별 건수는 음수가 되지 않도록 0 에서 멈춘다.
+     */
+    public void applyDeltas(List<PopularityDelta> deltas) {
+        String statSql = "INSERT INTO lesson_popularity_stat (lesson_id, review_count, decayed_score_sum, decayed_weight_sum, " +
+                "approval_pending_count, approved_count, completed_count, canceled_count) " +
+                "VALUES (?, ?, ?, ?, GREATEST(?, 0), GREATEST(?, 0), GREATEST(?, 0), GREATEST(?, 0)) " +
+                "ON DUPLICATE KEY UPDATE review_count = review_count + ?, " +
+                "decayed_score_sum = decayed_score_sum + ?, decayed_weight_sum = decayed_weight_sum + ?, " +
+                "approval_pending_count = GREATEST(approval_pending_count + ?, 0), " +
+                "approved_count = GREATEST(approved_count + ?, 0), " +
+                "completed_count = GREATEST(completed_count + ?, 0), " +
+                "canceled_count = GREATEST(canceled_count + ?, 0)";
+
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i += BATCH_SIZE) {
+            List<PopularityDelta> batchList = deltas.subList(i, Math.min(deltas.size(), i + BATCH_SIZE));
+            jdbcTemplate.batchUpdate(statSql, batchList, batchList.size(), (ps, delta) -> {
+                Object[] values = {
+                        delta.getReviewCount(), delta.getDecayedScoreSum(), delta.getDecayedWeightSum(),
+                        delta.statusCount(ScheduleStatus.APPROVAL_PENDING), delta.statusCount(ScheduleStatus.APPROVED),
+                        delta.statusCount(ScheduleStatus.COMPLETED), delta.statusCount(ScheduleStatus.CANCELED)
+                };
+                ps.setString(1, delta.getLessonId());
+                for (int column = 0; column < values.length; column++) {
+                    ps.setObject(2 + column, values[column]);
+                    ps.setObject(2 + values.length + column, values[column]);
+                }
+            });
+
+            batchList.forEach(delta -> delta.getDailyBookings().forEach((date, count) ->
+                    bookings.add(new Object[]{delta.getLessonId(), date, count})));
+        }
+
+        String bookingSql = "INSERT INTO lesson_daily_booking (lesson_id, booking_date, booking_count) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE booking_count = booking_count + ?";
+        for (int i = 0; i < bookings.size(); i += BATCH_SIZE) {
+            List<Object[]> batchList = bookings.subList(i, Math.min(bookings.size(), i + BATCH_SIZE));
+            jdbcTemplate.batchUpdate(bookingSql, batchList, batchList.size(), (ps, row) -> {
+                ps.setString(1, (String) row[0]);
+                ps.setDate(2, Date.valueOf((LocalDate) row[1]));
+                ps.setLong(3, (Long) row[2]);
+                ps.setLong(4, (Long) row[2]);
+            });
+        }
+    }
+
+    public List<PopularityInput> findInputs(Collection<String> lessonIds, LocalDate windowStart) {
+        if (lessonIds.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(lessonIds.size(), "?"));
+        List<Object> params = new ArrayList<>(lessonIds.size() + 1);
+        params.add(Date.valueOf(windowStart));
+        params.addAll(lessonIds);
+
+        return jdbcTemplate.query(INPUT_SELECT + " AND l.lesson_id IN (" + placeholders + ")", INPUT_ROW_MAPPER, params.toArray());
+    }
+
+    public void streamActiveInputs(LocalDate windowStart, Consumer<PopularityInput> consumer) {
+        stream(INPUT_SELECT, ps -> ps.setDate(1, Date.valueOf(windowStart)),
+                rs -> consumer.accept(INPUT_ROW_MAPPER.mapRow(rs, 0)));
+    }
+
+    /**
+     * 활성 레슨 기준 최댓값과 전체 리뷰 가중 평균
+     */
+    public PopularityNorms findNorms(LocalDate windowStart) {
+        Long maxRecentBookings = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(t.recent_bookings), 0) FROM (" +
+                "SELECT b.lesson_id, SUM(b.booking_count) AS recent_bookings FROM lesson_daily_booking b " +
+                "JOIN lessons l ON l.lesson_id = b.lesson_id " +
+                "WHERE b.booking_date >= ? AND l.deleted_at IS NULL GROUP BY b.lesson_id) t", Long.class, Date.valueOf(windowStart));
+
+        Long maxReviewCount = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(s.review_count), 0) FROM lesson_popularity_stat s " +
+                "JOIN lessons l ON l.lesson_id = s.lesson_id WHERE l.deleted_at IS NULL", Long.class);
+
+        return new PopularityNorms(
+                maxRecentBookings == null ? 0 : maxRecentBookings,
+                maxReviewCount == null ? 0 : maxReviewCount,
+                findGlobalWeightedAverage()
+        );
+    }
+
+    // 전체 리뷰의 시간 감쇠 가중 평균 (삭제된 레슨의 리뷰도 포함)
+    private double findGlobalWeightedAverage() {
+        Double average = jdbcTemplate.queryForObject("SELECT CASE WHEN SUM(decayed_weight_sum) > 0 " +
+                "THEN SUM(decayed_score_sum) / SUM(decayed_weight_sum) ELSE 0 END FROM lesson_popularity_stat", Double.class);
+        return average == null ? 0.0 : average;
+    }
+
+    /**
+     * 이벤트 1건의 변화량을 outbox 에 기록 (호출 측 트랜잭션에서 원본 변경과 함께 커밋된다)
+     * 집계 행을 잠그지 않는 INSERT 이므로 인기 레슨에 예약이 몰려도 서로 기다리지 않는다.
+     */
+    public void appendOutbox(PopularityDelta delta) {
+        LocalDate bookingDate = delta.getDailyBookings().keySet().stream().findFirst().orElse(null);
+
+        jdbcTemplate.update("INSERT INTO lesson_popularity_outbox (lesson_id, review_count, decayed_score_sum, decayed_weight_sum, " +
+                        "approval_pending_count, approved_count, completed_count, canceled_count, booking_date) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                delta.getLessonId(), delta.getReviewCount(), delta.getDecayedScoreSum(), delta.getDecayedWeightSum(),
+                delta.statusCount(ScheduleStatus.APPROVAL_PENDING), delta.statusCount(ScheduleStatus.APPROVED),
+                delta.statusCount(ScheduleStatus.COMPLETED), delta.statusCount(ScheduleStatus.CANCELED),
+                bookingDate == null ? null : Date.valueOf(bookingDate));
+    }
+
+    /**
+     * outbox 를 id 순으로 limit 행까지 잠그고 레슨별 변화량으로 합친다.
+     * 다른 노드가 잠근 행은 건너뛰므로(SKIP LOCKED) 같은 변화량을 두 번 반영하지 않는다.
+     */
+    public PopularityOutboxBatch claimOutbox(int limit) {
+        String sql = "SELECT id, lesson_id, review_count, decayed_score_sum, decayed_weight_sum, approval_pending_count, " +
+                "approved_count, completed_count, canceled_count, booking_date FROM lesson_popularity_outbox " +
+                "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+        List<Long> ids = new ArrayList<>();
+        Map<String, PopularityDelta> deltas = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            ids.add(rs.getLong("id"));
+
+            PopularityDelta delta = deltas.computeIfAbsent(rs.getString("lesson_id"), PopularityDelta::new);
+            delta.addReviews(rs.getLong("review_count"), rs.getDouble("decayed_score_sum"), rs.getDouble("decayed_weight_sum"));
+            delta.addStatusCount(ScheduleStatus.APPROVAL_PENDING, rs.getLong("approval_pending_count"));
+            delta.addStatusCount(ScheduleStatus.APPROVED, rs.getLong("approved_count"));
+            delta.addStatusCount(ScheduleStatus.COMPLETED, rs.getLong("completed_count"));
+            delta.addStatusCount(ScheduleStatus.CANCELED, rs.getLong("canceled_count"));
+
+            Date bookingDate = rs.getDate("booking_date");
+            if (bookingDate != null) {
+                delta.addBooking(bookingDate.toLocalDate());
+            }
+        }, limit);
+
+        return new PopularityOutboxBatch(ids, deltas.values());
+    }
+
+    public void deleteOutbox(List<Long> ids) {
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            List<Long> batchList = ids.subList(i, Math.min(ids.size(), i + BATCH_SIZE));
+            String placeholders = String.join(", ", Collections.nCopies(batchList.size(), "?"));
+            jdbcTemplate.update("DELETE FROM lesson_popularity_outbox WHERE id IN (" + placeholders + ")", batchList.toArray());
+        }
+    }
+
+    // 이력 재집계 시작 시점까지 기록된 outbox 의 마지막 id (재집계에 이미 포함되는 변화량)
+    public long findMaxOutboxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM lesson_popularity_outbox", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    public void deleteOutboxUpTo(long maxId) {
+        jdbcTemplate.update("DELETE FROM lesson_popularity_outbox WHERE id <= ?", maxId);
+    }
+
+    public boolean hasStats() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM lesson_popularity_stat)", Boolean.class));
+    }
+
+    public void deleteBookingsBefore(LocalDate date) {
+        jdbcTemplate.update("DELETE FROM lesson_daily_booking WHERE booking_date < ?", Date.valueOf(date));
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("DELETE FROM lesson_daily_booking");
+        jdbcTemplate.update("DELETE FROM lesson_popularity_stat");
+    }
+
+    /**
+     * 이력 데이터로부터 계산한 집계를 대량 삽입 (최초 구성용)
+     */
+    public void bulkInsertStats(List<PopularityInput> stats) {
+        String sql = "INSERT INTO lesson_popularity_stat (lesson_id, review_count, decayed_score_sum, decayed_weight_sum, " +
+                "approval_pending_count, approved_count, completed_count, canceled_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        for (int i = 0; i < stats.size(); i += BATCH_SIZE) {
+            List<PopularityInput> batchList = stats.subList(i, Math.min(stats.size(), i + BATCH_SIZE));
+            jdbcTemplate.batchUpdate(sql, batchList, batchList.size(), (ps, stat) -> {
+                ps.setString(1, stat.lessonId());
+                ps.setLong(2, stat.reviewCount());
+                ps.setDouble(3, stat.decayedScoreSum());
+                ps.setDouble(4, stat.decayedWeightSum());
+                ps.setLong(5, stat.approvalPendingCount());
+                ps.setLong(6, stat.approvedCount());
+                ps.setLong(7, stat.completedCount());
+                ps.setLong(8, stat.canceledCount());
+            });
+        }
+    }
+
+    /**
+     * (lessonId, 일자, 신청 수) 버킷 대량 삽입 (최초 구성용)
+     */
+    public void bulkInsertBookings(List<Object[]> rows) {
+        String sql = "INSERT INTO lesson_daily_booking (lesson_id, booking_date, booking_count) VALUES (?, ?, ?)";
+
+        for (int i = 0; i < rows.size(); i += BATCH_SIZE) {
+            List<Object[]> batchList = rows.subList(i, Math.min(rows.size(), i + BATCH_SIZE));
+            jdbcTemplate.batchUpdate(sql, batchList, batchList.size(), (ps, row) -> {
+                ps.setString(1, (String) row[0]);
+                ps.setDate(2, Date.valueOf((LocalDate) row[1]));
+                ps.setLong(3, (Long) row[2]);
+            });
+        }
+    }
+
+    /**
+     * 레슨 id 전체 (삭제된 레슨 포함, 엔티티 대신 id 만 조회)
+     */
+    public List<String> findAllLessonIds() {
+        return jdbcTemplate.queryForList("SELECT lesson_id FROM lessons", String.class);
+    }
+
+    public void streamReviews(ReviewRowHandler handler) {
+        stream("SELECT lesson_id, score, created_at FROM reviews WHERE deleted_at IS NULL", NO_PARAMS,
+                rs -> handler.handle(rs.getString(1), rs.getInt(2), toInstant(rs, 3)));
+    }
+
+    public void streamStatusCounts(StatusCountRowHandler handler) {
+        stream("SELECT lesson_id, status, COUNT(*) FROM schedules WHERE deleted_at IS NULL GROUP BY lesson_id, status", NO_PARAMS,
+                rs -> handler.handle(rs.getString(1), ScheduleStatus.valueOf(rs.getString(2)), rs.getLong(3)));
+    }
+
+    public void streamBookingsSince(Instant since, BookingRowHandler handler) {
+        stream("SELECT lesson_id, created_at FROM schedules WHERE created_at >= ? AND deleted_at IS NULL",
+                ps -> ps.setTimestamp(1, Timestamp.from(since), utcCalendar()),
+                rs -> handler.handle(rs.getString(1), toInstant(rs, 2)));
+    }
+
+    private void stream(String sql, PreparedStatementSetter setter, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamFetchSize);
+            setter.setValues(ps);
+            return ps;
+        }, handler);
+    }
+
+    // Instant 는 UTC 기준 TIMESTAMP 로 저장된다 (Hibernate 기본 매핑)
+    private Instant toInstant(ResultSet rs, int column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column, utcCalendar());
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private Calendar utcCalendar() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+
+    public interface ReviewRowHandler {
+        void handle(String lessonId, int score, Instant createdAt);
+    }
+
+    public interface StatusCountRowHandler {
+        void handle(String lessonId, ScheduleStatus status, long count);
+    }
+
+    public interface BookingRowHandler {
+        void handle(String lessonId, Instant createdAt);
+    }
+}
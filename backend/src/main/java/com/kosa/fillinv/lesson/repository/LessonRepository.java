@@ -2,8 +2,8 @@ package com.kosa.fillinv.lesson.repository;
 
 import com.kosa.fillinv.lesson.entity.Lesson;
 import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.lesson.service.dto.LessonKeywordVO;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -30,7 +30,7 @@ public interface LessonRepository extends JpaRepository<Lesson, String>, JpaSpec
 
     List<Lesson> findAllByDeletedAtIsNullOrderByPriceAsc();
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Lesson l SET l.popularityScore = 0.0")
-    void resetAllPopularityScores();
+    @Query("SELECT new com.kosa.fillinv.lesson.service.dto.LessonKeywordVO(l.id, l.title, l.description) " +
+            "FROM Lesson l WHERE l.deletedAt IS NULL")
+    List<LessonKeywordVO> findAllKeywordSources();
 }
@@ -1,9 +1,13 @@
 package com.kosa.fillinv.lesson.repository;
 
+import com.kosa.fillinv.global.util.NGramTokenizer;
 import com.kosa.fillinv.lesson.entity.Lesson;
 import com.kosa.fillinv.lesson.entity.LessonType;
+import jakarta.persistence.criteria.Path;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+
 public class LessonSpecifications {
 
     private LessonSpecifications() {
@@ -12,16 +16,66 @@ public class LessonSpecifications {
     public static Specification<Lesson> search(
             String keyword,
             LessonType lessonType,
-            String categoryPath,
+            Collection<Long> categoryIds,
             String mentorId
     ) {
         return Specification.where(deletedAtIsNull())
                 .and(keywordContains(keyword))
                 .and(lessonTypeEq(lessonType))
-                .and(categoryPathStartsWith(categoryPath))
+                .and(categoryIdIn(categoryIds))
+                .and(mentorIdEq(mentorId));
+    }
+
+    // 키워드 역색인에서 찾은 후보 lessonId 로 검색 (LIKE 풀스캔 대체)
+    public static Specification<Lesson> search(
+            Collection<String> lessonIds,
+            LessonType lessonType,
+            Collection<Long> categoryIds,
+            String mentorId
+    ) {
+        return Specification.where(deletedAtIsNull())
+                .and(idIn(lessonIds))
+                .and(lessonTypeEq(lessonType))
+                .and(categoryIdIn(categoryIds))
                 .and(mentorIdEq(mentorId));
     }
 
+    public static Specification<Lesson> idIn(Collection<String> lessonIds) {
+        return (root, query, cb) -> root.get("id").in(lessonIds);
+    }
+
+    /**
+     * 키셋 페이징 조건: (sortValue, id) 가 마지막으로 읽은 (lastValue, lastId) 보다 뒤에 있는 레슨
+     * DESC : value < last OR (value = last AND id < lastId)
+     * ASC  : value > last OR (value = last AND id > lastId)
+     */
+    public static <T extends Comparable<? super T>> Specification<Lesson> after(
+            String property,
+            boolean ascending,
+            T lastValue,
+            String lastId
+    ) {
+        return (root, query, cb) -> {
+            if (lastValue == null || lastId == null) {
+                return null;
+            }
+
+            Path<T> value = root.get(property);
+            Path<String> id = root.get("id");
+
+            if (ascending) {
+                return cb.or(
+                        cb.greaterThan(value, lastValue),
+                        cb.and(cb.equal(value, lastValue), cb.greaterThan(id, lastId))
+                );
+            }
+            return cb.or(
+                    cb.lessThan(value, lastValue),
+                    cb.and(cb.equal(value, lastValue), cb.lessThan(id, lastId))
+            );
+        };
+    }
+
     public static Specification<Lesson> mentorIdEq(String mentorId) {
         return (root, query, cb) -> {
             if (mentorId == null || mentorId.isBlank()) {
@@ -36,12 +90,18 @@ public class LessonSpecifications {
                 cb.isNull(root.get("deletedAt"));
     }
 
+    // 키워드 역색인과 같은 기준으로 제목 또는 설명에 포함된 레슨 (대소문자 무시, 앞뒤 공백 제거)
     private static Specification<Lesson> keywordContains(String keyword) {
         return (root, query, cb) -> {
             if (keyword == null || keyword.isBlank()) {
                 return null;
             }
-            return cb.like(root.get("title"), "%" + keyword + "%");
+
+            String pattern = "%" + NGramTokenizer.normalize(keyword) + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern)
+            );
         };
     }
 
@@ -54,16 +114,13 @@ public class LessonSpecifications {
         };
     }
 
-    private static Specification<Lesson> categoryPathStartsWith(String categoryPath) {
+    // 선택한 카테고리와 그 하위 카테고리 (null 이면 조건 없음)
+    private static Specification<Lesson> categoryIdIn(Collection<Long> categoryIds) {
         return (root, query, cb) -> {
-            if (categoryPath == null || categoryPath.isBlank()) {
+            if (categoryIds == null) {
                 return null;
             }
-
-            return cb.like(
-                    root.get("categoryPath"),
-                    categoryPath + "%"
-            );
+            return root.get("categoryId").in(categoryIds);
         };
     }
 }
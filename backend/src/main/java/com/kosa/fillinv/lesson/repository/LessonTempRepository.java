@@ -2,6 +2,13 @@ package com.kosa.fillinv.lesson.repository;
 
 import com.kosa.fillinv.lesson.entity.LessonTemp;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LessonTempRepository extends JpaRepository<LessonTemp, String> {
+
+    @Modifying
+    @Query("DELETE FROM LessonTemp t WHERE t.generation < :generation")
+    void deleteByGenerationLessThan(@Param("generation") Long generation);
 }
@@ -0,0 +1,56 @@
+package com.kosa.fillinv.lesson.repository;
+
+import com.kosa.fillinv.lesson.entity.LessonThumbnailModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LessonThumbnailModelRepository extends JpaRepository<LessonThumbnailModel, String> {
+
+    @Modifying
+    @Query("UPDATE LessonThumbnailModel t SET t.ratingSum = t.ratingSum + :ratingSum, t.reviewCount = t.reviewCount + :reviewCount, " +
+            "t.menteeCount = t.menteeCount + :menteeCount WHERE t.lessonId = :lessonId")
+    int addCounters(@Param("lessonId") String lessonId,
+                    @Param("ratingSum") long ratingSum,
+                    @Param("reviewCount") long reviewCount,
+                    @Param("menteeCount") int menteeCount);
+
+    @Modifying
+    @Query("UPDATE LessonThumbnailModel t SET t.mentorNickname = :nickname, t.mentorProfileImage = :profileImage " +
+            "WHERE t.mentorId = :mentorId")
+    int updateMentorProfile(@Param("mentorId") String mentorId,
+                            @Param("nickname") String nickname,
+                            @Param("profileImage") String profileImage);
+
+    /**
+     * 썸네일 행이 없거나 멘토, 멘토 프로필, 카테고리 이름이 원본과 다른 레슨 id 를 after 다음부터 lesson_id 순으로 조회
+     * 평점, 수강생 수는 커밋 후 모아서 반영하는 변화량과 겹치므로 비교하지 않는다.
+     * 잠그지 않는 조회이므로 보정 중에도 레슨 수정, 예약, 리뷰를 막지 않는다.
+     */
+    @Query(value = "SELECT l.lesson_id FROM lessons l " +
+            "LEFT JOIN lesson_thumbnail t ON t.lesson_id = l.lesson_id " +
+            "LEFT JOIN members m ON m.member_id = l.mentor_id " +
+            "LEFT JOIN profiles p ON p.member_id = l.mentor_id " +
+            "LEFT JOIN categories c ON c.category_id = l.category_id " +
+            "WHERE l.deleted_at IS NULL AND l.lesson_id > :after AND (" +
+            "t.lesson_id IS NULL " +
+            "OR t.mentor_id <> l.mentor_id " +
+            "OR NOT (t.mentor_nickname <=> m.nickname) " +
+            "OR NOT (t.mentor_profile_image <=> p.image) " +
+            "OR NOT (t.category_name <=> c.name)) " +
+            "ORDER BY l.lesson_id LIMIT :limit",
+            nativeQuery = true)
+    List<String> findDriftedLessonIds(@Param("after") String after, @Param("limit") int limit);
+
+    // 삭제되었거나 없는 레슨의 썸네일 행 (잠그지 않는 조회)
+    @Query(value = "SELECT t.lesson_id FROM lesson_thumbnail t " +
+            "WHERE NOT EXISTS (SELECT 1 FROM lessons l WHERE l.lesson_id = t.lesson_id AND l.deleted_at IS NULL) " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<String> findOrphanLessonIds(@Param("limit") int limit);
+}
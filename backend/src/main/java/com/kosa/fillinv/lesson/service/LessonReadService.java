@@ -1,24 +1,34 @@
 package com.kosa.fillinv.lesson.service;
 
 import com.kosa.fillinv.category.dto.CategoryResponseDto;
-import com.kosa.fillinv.category.entity.Category;
 import com.kosa.fillinv.category.service.CategoryService;
+import com.kosa.fillinv.global.concurrent.DbCallBulkhead;
+import com.kosa.fillinv.global.concurrent.FanOutScope;
 import com.kosa.fillinv.global.exception.ResourceException;
+import com.kosa.fillinv.global.response.CursorResponse;
+import com.kosa.fillinv.global.util.SlotBitmap;
 import com.kosa.fillinv.lesson.controller.dto.LessonSearchRequest;
+import com.kosa.fillinv.lesson.entity.LessonThumbnailModel;
 import com.kosa.fillinv.lesson.entity.LessonType;
 import com.kosa.fillinv.lesson.service.client.*;
 import com.kosa.fillinv.lesson.service.dto.*;
 import com.kosa.fillinv.schedule.entity.ScheduleStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.kosa.fillinv.lesson.error.LessonError.*;
@@ -39,9 +49,17 @@ public class LessonReadService {
 
     private final ScheduleClient scheduleClient;
 
-    private static final Set<ScheduleStatus> PARTICIPATED_STATUSES = Set.of(ScheduleStatus.APPROVED, ScheduleStatus.COMPLETED);
+    private final LessonThumbnailProjector lessonThumbnailProjector;
+
+    private final DbCallBulkhead dbCallBulkhead;
 
-    private static final Set<ScheduleStatus> MENTORING_BOOKED_STATUES = Set.of(ScheduleStatus.PAYMENT_PENDING, ScheduleStatus.APPROVAL_PENDING, ScheduleStatus.APPROVED);
+    // 동시에 실행하는 외부 조회 하나당 허용 시간
+    private static final Duration CLIENT_TIMEOUT = Duration.ofSeconds(3);
+
+    // 예약 가능 시간 조회 최대 기간 (일)
+    private static final int MAX_SLOT_DAYS = 62;
+
+    private static final Set<ScheduleStatus> PARTICIPATED_STATUSES = Set.of(ScheduleStatus.APPROVED, ScheduleStatus.COMPLETED);
 
     public Page<LessonThumbnail> search() {
         return search(LessonSearchRequest.empty());
@@ -64,6 +82,24 @@ public class LessonReadService {
         return searchByCondition(condition);
     }
 
+    public CursorResponse<LessonThumbnail> searchByCursor(
+            LessonSearchRequest request,
+            String cursor
+    ) {
+        LessonSearchCondition condition = resolveCondition(request);
+        LessonCursor lessonCursor = LessonCursor.decode(cursor, condition.sortType());
+
+        Slice<LessonDTO> lessonSlice = lessonService.searchLessonByCursor(condition, lessonCursor);
+
+        String nextCursor = null;
+        if (lessonSlice.hasNext()) {
+            LessonDTO last = lessonSlice.getContent().get(lessonSlice.getNumberOfElements() - 1);
+            nextCursor = LessonCursor.of(condition.sortType(), last).encode();
+        }
+
+        return CursorResponse.of(lessonSlice.map(thumbnailAssembler(lessonSlice.getContent())), nextCursor);
+    }
+
     private LessonSearchCondition resolveCondition(
             LessonSearchRequest request
     ) {
@@ -75,7 +111,7 @@ public class LessonReadService {
         if (categoryId == null) {
             return null;
         }
-        return categoryService.getCategoryById(categoryId).getCategoryPath();
+        return categoryService.getCategory(categoryId).categoryPath();
     }
 
     private void validateMentorId(String mentorId) {
@@ -96,10 +132,6 @@ public class LessonReadService {
         LessonDTO lessonDTO = lessonService.readLessonById(request.lessonId())
                 .orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(request.lessonId())));
 
-        MentorSummaryDTO mentorSummaryDTO = profileClient.readMentorById(lessonDTO.mentorId());
-
-        Category category = categoryService.getCategoryById(lessonDTO.categoryId());
-
         Set<String> keys = Set.of();
         if (lessonDTO.lessonType() == LessonType.STUDY) {
             keys = Set.of(lessonDTO.id());
@@ -108,10 +140,41 @@ public class LessonReadService {
                     .map(AvailableTimeDTO::id)
                     .collect(Collectors.toSet());
         }
+        Set<String> stockKeys = keys;
+
+        // 레슨 조회 이후의 조회들은 서로 독립적이므로 동시에 실행
+        MentorSummaryDTO mentorSummaryDTO;
+        CategoryResponseDto category;
+        Map<String, Integer> stockMap;
+        Integer menteeCount;
+        List<BookedTimeVO> bookedTimes;
+
+        // 카테고리와 예약된 시간은 메모리에서 조회하므로 동시 실행하지 않고, DB 조회만 bulkhead 안에서 동시에 실행
+        category = categoryService.getCategory(lessonDTO.categoryId());
+        bookedTimes = lessonDTO.lessonType() != LessonType.MENTORING ?
+                null :
+                scheduleClient.getBookedTimes(
+                        lessonDTO.mentorId(), // 멘토의 다른 레슨 예약과도 겹칠 수 없으므로 멘토 기준
+                        Instant.now().minus(7, ChronoUnit.DAYS) // 모든 schedule_time을 가져오지 않게
+                );
+
+        try (FanOutScope scope = FanOutScope.open(CLIENT_TIMEOUT, dbCallBulkhead)) {
+            Supplier<MentorSummaryDTO> mentorTask = scope.fork(() -> profileClient.readMentorById(lessonDTO.mentorId()));
+            Supplier<Map<String, Integer>> stockTask = stockKeys.isEmpty() ?
+                    Map::of :
+                    scope.fork(() -> stockClient.getStock(stockKeys));
+            Supplier<Integer> menteeCountTask = scope.fork(() -> scheduleClient.countByLessonIdAndStatusIn(
+                    request.lessonId(),
+                    PARTICIPATED_STATUSES
+            ));
+
+            scope.join();
+
+            mentorSummaryDTO = mentorTask.get();
+            stockMap = new HashMap<>(stockTask.get());
+            menteeCount = menteeCountTask.get();
+        }
 
-        Map<String, Integer> stockMap = keys.isEmpty() ?
-                new HashMap<>() :
-                new HashMap<>(stockClient.getStock(keys));
         for (String key : keys) {
             // Stock에서 조회되지 않은 남은 좌석 수가 있다면 Exception 대신 0으로 초기화
             stockMap.putIfAbsent(key, 0);
@@ -126,31 +189,60 @@ public class LessonReadService {
             availableTimeRemainSeats = stockMap;
         }
 
-        Integer menteeCount = scheduleClient.countByLessonIdAndStatusIn(
-                request.lessonId(),
-                PARTICIPATED_STATUSES
-        );
-
-        List<BookedTimeVO> bookedTimes = null;
-        if (lessonDTO.lessonType() == LessonType.MENTORING) {
-            bookedTimes = scheduleClient.getBookedTimes(
-                    request.lessonId(),
-                    MENTORING_BOOKED_STATUES,
-                    Instant.now().minus(7, ChronoUnit.DAYS) // 모든 schedule_time을 가져오지 않게
-            );
-        }
-
         return LessonDetailResult.of(
                 mentorSummaryDTO,
                 lessonDTO,
                 lessonRemainSeats,
                 availableTimeRemainSeats,
-                category.getName(),
+                category.name(),
                 menteeCount == null ? 0 : menteeCount,
                 bookedTimes
         );
     }
 
+    /*
+     * 멘토링 레슨의 예약 가능한 시간 (from ~ to 일자, Asia/Seoul 기준)
+     * 이용 가능 시간으로 만든 일자별 슬롯 비트맵에서 멘토의 예약된 슬롯과 지난 슬롯을 빼고, 연속된 슬롯을 구간으로 합쳐 반환
+     * */
+    public MentoringSlotsResult slots(String lessonId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_SLOT_DAYS) {
+            throw new ResourceException.InvalidArgument(INVALID_SLOT_RANGE(MAX_SLOT_DAYS));
+        }
+
+        LessonDTO lessonDTO = lessonService.readLessonById(lessonId)
+                .orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        if (lessonDTO.lessonType() != LessonType.MENTORING) {
+            throw new ResourceException.InvalidArgument(INVALID_LESSON_TYPE(lessonDTO.lessonType().name()));
+        }
+
+        SlotBitmap open = new SlotBitmap();
+        lessonDTO.availableTimeDTOList().stream()
+                .filter(time -> time.deletedAt() == null)
+                .forEach(time -> open.markWithin(time.startTime(), time.endTime()));
+
+        Map<LocalDate, long[]> booked = scheduleClient.getBookedSlots(lessonDTO.mentorId(), from, to);
+
+        Instant now = Instant.now();
+        LocalDate today = now.atZone(SlotBitmap.ZONE).toLocalDate();
+
+        List<MentoringSlotsResult.Slot> slots = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (date.isBefore(today)) {
+                continue;
+            }
+
+            long[] free = SlotBitmap.andNot(open.day(date), booked.getOrDefault(date, SlotBitmap.empty()));
+            if (date.equals(today)) {
+                SlotBitmap.clearBefore(free, SlotBitmap.slotOf(now) + 1); // 이미 시작된 슬롯은 예약할 수 없다
+            }
+
+            SlotBitmap.ranges(date, free).forEach(range ->
+                    slots.add(new MentoringSlotsResult.Slot(range.startTime(), range.endTime())));
+        }
+
+        return new MentoringSlotsResult(SlotBitmap.SLOT_MINUTES, slots);
+    }
+
     private Page<LessonThumbnail> assembleLessonThumbnail(
             Page<LessonDTO> lessonPage
     ) {
@@ -158,27 +250,64 @@ public class LessonReadService {
             return Page.empty(lessonPage.getPageable());
         }
 
-        Map<Long, CategoryResponseDto> allCategoriesMap = categoryService.getAllCategoriesMap();
+        return lessonPage.map(thumbnailAssembler(lessonPage.getContent()));
+    }
+
+    // lesson_thumbnail 읽기 모델을 PK 로 한 번에 조회하고, 아직 반영되지 않은 레슨만 기존 방식으로 조립
+    private Function<LessonDTO, LessonThumbnail> thumbnailAssembler(
+            List<LessonDTO> lessons
+    ) {
+        Set<String> lessonIds = lessons.stream()
+                .map(LessonDTO::id)
+                .collect(Collectors.toSet());
 
-        Set<String> mentorIds = lessonPage.stream()
+        Map<String, LessonThumbnailModel> models = lessonThumbnailProjector.getAll(lessonIds);
+
+        List<LessonDTO> missing = lessons.stream()
+                .filter(lesson -> !models.containsKey(lesson.id()))
+                .toList();
+        Function<LessonDTO, LessonThumbnail> fallback = missing.isEmpty() ? null : aggregateAssembler(missing);
+
+        return lesson -> {
+            LessonThumbnailModel model = models.get(lesson.id());
+            return model != null ? LessonThumbnail.of(lesson, model) : fallback.apply(lesson);
+        };
+    }
+
+    private Function<LessonDTO, LessonThumbnail> aggregateAssembler(
+            List<LessonDTO> lessons
+    ) {
+        Set<String> mentorIds = lessons.stream()
                 .map(LessonDTO::mentorId)
                 .collect(Collectors.toSet());
-        Set<String> lessonIds = lessonPage.stream()
+        Set<String> lessonIds = lessons.stream()
                 .map(LessonDTO::id)
                 .collect(Collectors.toSet());
 
-        Map<String, MentorSummaryDTO> mentorMap =
-                profileClient.getMentors(mentorIds);
+        Map<Long, CategoryResponseDto> allCategoriesMap;
+        Map<String, MentorSummaryDTO> mentorMap;
+        Map<String, Float> averageRating;
+        Map<String, Integer> menteeCountMap;
 
-        Map<String, Float> averageRating =
-                reviewClient.getAverageRating(lessonIds);
+        // 카테고리는 메모리에서 조회
+        allCategoriesMap = categoryService.getAllCategoriesMap();
 
-        Map<String, Integer> menteeCountMap = scheduleClient.countByLessonIdInAndStatusIn(
-                lessonIds,
-                PARTICIPATED_STATUSES
-        );
+        try (FanOutScope scope = FanOutScope.open(CLIENT_TIMEOUT, dbCallBulkhead)) {
+            Supplier<Map<String, MentorSummaryDTO>> mentorsTask = scope.fork(() -> profileClient.getMentors(mentorIds));
+            Supplier<Map<String, Float>> ratingTask = scope.fork(() -> reviewClient.getAverageRating(lessonIds));
+            Supplier<Map<String, Integer>> menteeCountTask = scope.fork(() -> scheduleClient.countByLessonIdInAndStatusIn(
+                    lessonIds,
+                    PARTICIPATED_STATUSES
+            ));
+
+            scope.join();
+
+            mentorMap = mentorsTask.get();
+            averageRating = ratingTask.get();
+            menteeCountMap = menteeCountTask.get();
+        }
 
-        return lessonPage.map(lesson -> {
+        return lesson -> {
             MentorSummaryDTO mentor = mentorMap.get(lesson.mentorId());
             Float rating = averageRating.get(lesson.id());
             Integer menteeCount = menteeCountMap.getOrDefault(lesson.id(), 0);
@@ -189,6 +318,6 @@ public class LessonReadService {
                     allCategoriesMap.get(lesson.categoryId()) == null ? null : allCategoriesMap.get(lesson.categoryId()).name(),
                     menteeCount
             );
-        });
+        };
     }
 }
@@ -1,6 +1,9 @@
 package com.kosa.fillinv.lesson.service;
 
+import com.kosa.fillinv.category.dto.CategoryResponseDto;
+import com.kosa.fillinv.category.service.CategoryService;
 import com.kosa.fillinv.global.exception.ResourceException;
+import com.kosa.fillinv.global.util.TransactionCallbacks;
 import com.kosa.fillinv.lesson.entity.AvailableTime;
 import com.kosa.fillinv.lesson.entity.Lesson;
 import com.kosa.fillinv.lesson.entity.LessonType;
@@ -9,19 +12,27 @@ import com.kosa.fillinv.lesson.repository.AvailableTimeRepository;
 import com.kosa.fillinv.lesson.repository.LessonRepository;
 import com.kosa.fillinv.lesson.repository.LessonSpecifications;
 import com.kosa.fillinv.lesson.repository.OptionRepository;
+import com.kosa.fillinv.lesson.service.cache.LessonDetailCache;
 import com.kosa.fillinv.lesson.service.dto.*;
+import com.kosa.fillinv.lesson.service.search.LessonKeywordIndex;
 import com.kosa.fillinv.stock.entity.Stock;
 import com.kosa.fillinv.stock.repository.StockRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static com.kosa.fillinv.lesson.error.LessonError.*;
@@ -33,13 +44,126 @@ public class LessonService {
     private final AvailableTimeRepository availableTimeRepository;
     private final OptionRepository optionRepository;
     private final StockRepository stockRepository;
+    private final LessonKeywordIndex lessonKeywordIndex;
+    private final LessonThumbnailProjector lessonThumbnailProjector;
+    private final LessonDetailCache lessonDetailCache;
+    private final CategoryService categoryService;
+
+    // 키워드 후보를 한 번의 IN 목록으로 넘기는 최대 수 (이보다 많으면 나눠서 조회한 뒤 합친다)
+    static final int CANDIDATE_CHUNK_SIZE = 500;
 
     public Page<LessonDTO> searchLesson(LessonSearchCondition condition) {
         Sort sortBy = condition.sortType().toSort();
         PageRequest pageRequest = PageRequest.of(condition.page(), condition.size(), sortBy);
-        Specification<Lesson> search = LessonSpecifications.search(condition.keyword(), condition.lessonType(), condition.categoryPath(), condition.mentorId());
 
-        return lessonRepository.findAll(search, pageRequest).map(LessonDTO::of);
+        List<Specification<Lesson>> specs = resolveSearchSpecifications(condition);
+        if (specs.isEmpty()) {
+            return Page.empty(pageRequest);
+        }
+        if (specs.size() == 1) {
+            return lessonRepository.findAll(specs.get(0), pageRequest).map(LessonDTO::of);
+        }
+
+        // 후보 묶음마다 앞에서 offset + size 개만 읽어 합친 뒤 요청한 페이지만 잘라낸다
+        int offset = (int) pageRequest.getOffset();
+        List<LessonDTO> content = findFirst(specs, condition.sortType(), offset + pageRequest.getPageSize()).stream()
+                .skip(offset)
+                .map(LessonDTO::of)
+                .toList();
+        long total = specs.stream()
+                .mapToLong(lessonRepository::count)
+                .sum();
+
+        return new PageImpl<>(content, pageRequest, total);
+    }
+
+    /**
+     * 커서 기반 검색. OFFSET 과 COUNT(*) 없이 (정렬 값, lessonId) 키셋 조건으로 size + 1 건만 읽는다.
+     */
+    public Slice<LessonDTO> searchLessonByCursor(LessonSearchCondition condition, LessonCursor cursor) {
+        int size = condition.size();
+        PageRequest pageRequest = PageRequest.ofSize(size);
+
+        List<Specification<Lesson>> specs = resolveSearchSpecifications(condition).stream()
+                .map(spec -> cursor == null ? spec : spec.and(after(cursor)))
+                .toList();
+        if (specs.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageRequest, false);
+        }
+
+        List<Lesson> lessons = findFirst(specs, condition.sortType(), size + 1);
+
+        boolean hasNext = lessons.size() > size;
+        List<LessonDTO> content = lessons.stream()
+                .limit(size)
+                .map(LessonDTO::of)
+                .toList();
+
+        return new SliceImpl<>(content, pageRequest, hasNext);
+    }
+
+    // 키워드는 역색인으로 후보 lessonId 를 먼저 찾고, 색인을 사용할 수 없으면 LIKE 검색으로 대체
+    // 후보가 많으면 CANDIDATE_CHUNK_SIZE 개씩 나눈 IN 조건마다 Specification 을 만들고, 색인 결과가 비어 있으면 빈 목록을 반환한다.
+    private List<Specification<Lesson>> resolveSearchSpecifications(LessonSearchCondition condition) {
+        List<Long> categoryIds = resolveCategoryIds(condition.categoryPath());
+        if (categoryIds != null && categoryIds.isEmpty()) {
+            return List.of();
+        }
+
+        Optional<Set<String>> candidateIds = lessonKeywordIndex.search(condition.keyword());
+        if (candidateIds.isEmpty()) {
+            return List.of(LessonSpecifications.search(condition.keyword(), condition.lessonType(), categoryIds, condition.mentorId()));
+        }
+
+        List<String> ids = List.copyOf(candidateIds.get());
+        List<Specification<Lesson>> specs = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CANDIDATE_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + CANDIDATE_CHUNK_SIZE, ids.size()));
+            specs.add(LessonSpecifications.search(chunk, condition.lessonType(), categoryIds, condition.mentorId()));
+        }
+        return specs;
+    }
+
+    // 카테고리 경로를 자신과 하위 카테고리 id 로 바꾼다 ("3" 은 "3", "3:..." 만 포함하고 "31" 은 포함하지 않는다)
+    // 경로가 없으면 null (조건 없음)
+    private List<Long> resolveCategoryIds(String categoryPath) {
+        if (categoryPath == null || categoryPath.isBlank()) {
+            return null;
+        }
+        return categoryService.getSubtree(categoryPath).stream()
+                .map(CategoryResponseDto::categoryId)
+                .toList();
+    }
+
+    // 묶음마다 (정렬 값, id) 순으로 앞에서 limit 개만 읽고 합쳐서 다시 정렬한다 (각 묶음은 PK IN 조회라 풀스캔이 없다)
+    private List<Lesson> findFirst(List<Specification<Lesson>> specs, LessonSortType sortType, int limit) {
+        Sort sortBy = sortType.toCursorSort();
+        if (specs.size() == 1) {
+            return lessonRepository.findBy(specs.get(0), query -> query.sortBy(sortBy).limit(limit).all());
+        }
+
+        return specs.stream()
+                .flatMap(spec -> lessonRepository.findBy(spec, query -> query.sortBy(sortBy).limit(limit).all()).stream())
+                .sorted(comparator(sortType))
+                .limit(limit)
+                .toList();
+    }
+
+    // toCursorSort() 와 같은 순서 (MySQL 과 같이 오름차순에서 null 이 먼저 온다)
+    private static Comparator<Lesson> comparator(LessonSortType sortType) {
+        Comparator<Lesson> byValue = switch (sortType) {
+            case CREATED_AT_ASC, CREATED_AT_DESC -> Comparator.comparing(Lesson::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case PRICE_ASC, PRICE_DESC -> Comparator.comparing(Lesson::getPrice, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case POPULARITY -> Comparator.comparing(Lesson::getPopularityScore, Comparator.nullsFirst(Comparator.naturalOrder()));
+        };
+        Comparator<Lesson> ordered = byValue.thenComparing(Lesson::getId);
+        return sortType.isAscending() ? ordered : ordered.reversed();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Specification<Lesson> after(LessonCursor cursor) {
+        LessonSortType sortType = cursor.sortType();
+        return LessonSpecifications.after(sortType.getProperty(), sortType.isAscending(), (Comparable) cursor.sortValue(), cursor.lessonId());
     }
 
     @Transactional
@@ -62,16 +186,28 @@ public class LessonService {
             stockRepository.save(createStockEntityForStudyLesson(saved));
         }
 
+        lessonThumbnailProjector.project(saved);
+        TransactionCallbacks.afterCommit(() -> lessonKeywordIndex.index(saved.getId(), saved.getTitle(), saved.getDescription()));
+
         return CreateLessonResult.of(saved);
     }
 
     public Optional<LessonDTO> readLessonById(String id) {
-        return findActiveLesson(id)
+        long stamp = lessonDetailCache.stamp();
+        Optional<LessonDTO> cached = lessonDetailCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<LessonDTO> loaded = findActiveLesson(id)
                 .map(lesson -> {
                     List<AvailableTime> availableTimes = findAllActiveAvailableTime(lesson.getId());
                     List<Option> options = findAllActiveOption(lesson.getId());
                     return LessonDTO.of(lesson, availableTimes, options);
                 });
+
+        loaded.ifPresent(lesson -> lessonDetailCache.put(id, stamp, lesson));
+        return loaded;
     }
 
     public List<LessonDTO> readLessonAll() {
@@ -82,6 +218,7 @@ public class LessonService {
     @Transactional
     public UpdateLessonResult updateLesson(String lessonId, UpdateLessonCommand command, String ownerId) {
         Lesson lesson = findActiveLesson(lessonId).orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         lesson.validateOwnership(ownerId);
 
@@ -92,22 +229,31 @@ public class LessonService {
         lesson.updateCloseAt(command.closeAt());
         lesson.updateCategory(command.categoryId(), command.categoryPath());
 
-        return UpdateLessonResult.of(lessonRepository.save(lesson));
+        Lesson saved = lessonRepository.save(lesson);
+        lessonThumbnailProjector.project(saved);
+        TransactionCallbacks.afterCommit(() -> lessonKeywordIndex.index(saved.getId(), saved.getTitle(), saved.getDescription()));
+
+        return UpdateLessonResult.of(saved);
     }
 
     @Transactional
     public void deleteLesson(String lessonId, String ownerId) {
         Lesson lesson = findActiveLesson(lessonId)
                 .orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         lesson.validateOwnership(ownerId);
 
         lesson.delete();
+
+        lessonThumbnailProjector.remove(lessonId);
+        TransactionCallbacks.afterCommit(() -> lessonKeywordIndex.remove(lessonId));
     }
 
     @Transactional
     public CreateAvailableTimeResult addAvailableTime(String lessonId, CreateAvailableTimeCommand command) {
         Lesson lesson = findActiveLesson(lessonId).orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         AvailableTime availableTime = createAvailableTimeEntity(lesson, command);
         lesson.addAvailableTime(availableTime);
@@ -119,6 +265,7 @@ public class LessonService {
     @Transactional
     public List<CreateAvailableTimeResult> addAvailableTime(String lessonId, List<CreateAvailableTimeCommand> commandList) {
         Lesson lesson = findActiveLesson(lessonId).orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         List<AvailableTime> availableTimeList = commandList.stream().map(c -> createAvailableTimeEntity(lesson, c)).toList();
         lesson.addAvailableTime(availableTimeList);
@@ -131,6 +278,7 @@ public class LessonService {
     @Transactional
     public void deleteAvailableTime(String lessonId, String availableTimeId) {
         Lesson lesson = findActiveLesson(lessonId).orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         lesson.removeAvailableTime(availableTimeId);
     }
@@ -138,6 +286,7 @@ public class LessonService {
     @Transactional
     public void deleteAvailableTime(String lessonId, List<String> availableTimeIdList) {
         Lesson lesson = findActiveLesson(lessonId).orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         lesson.removeAvailableTime(availableTimeIdList);
     }
@@ -145,6 +294,7 @@ public class LessonService {
     @Transactional
     public CreateOptionResult addOption(String lessonId, CreateOptionCommand command) {
         Lesson lesson = findActiveLesson(lessonId).orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         Option option = createOption(lesson, command);
         lesson.addOption(option);
@@ -156,6 +306,7 @@ public class LessonService {
     @Transactional
     public List<CreateOptionResult> addOption(String lessonId, List<CreateOptionCommand> commandList) {
         Lesson lesson = findActiveLesson(lessonId).orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         List<Option> optionList = commandList.stream().map(c -> createOption(lesson, c)).toList();
         lesson.addOption(optionList);
@@ -167,6 +318,7 @@ public class LessonService {
     @Transactional
     public void deleteOption(String lessonId, String optionId) {
         Lesson lesson = findActiveLesson(lessonId).orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         lesson.removeOption(optionId);
     }
@@ -174,10 +326,17 @@ public class LessonService {
     @Transactional
     public void deleteOption(String lessonId, List<String> optionIdList) {
         Lesson lesson = findActiveLesson(lessonId).orElseThrow(() -> new ResourceException.NotFound(LESSON_NOT_FOUND_MESSAGE_FORMAT(lessonId)));
+        invalidateDetail(lessonId);
 
         lesson.removeOption(optionIdList);
     }
 
+    // 현재 트랜잭션 안의 조회와 커밋 이후 조회 모두 변경 전 상세 캐시를 보지 않도록 커밋 후 한 번 더 무효화한다.
+    private void invalidateDetail(String lessonId) {
+        lessonDetailCache.invalidate(lessonId);
+        TransactionCallbacks.afterCommit(() -> lessonDetailCache.invalidate(lessonId));
+    }
+
     private Optional<Lesson> findActiveLesson(String id) {
         return lessonRepository.findByIdAndDeletedAtIsNull(id);
     }
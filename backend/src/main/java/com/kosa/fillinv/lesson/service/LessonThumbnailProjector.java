@@ -0,0 +1,246 @@
+package com.kosa.fillinv.lesson.service;
+
+import com.kosa.fillinv.category.dto.CategoryResponseDto;
+import com.kosa.fillinv.category.service.CategoryService;
+import com.kosa.fillinv.global.util.TransactionCallbacks;
+import com.kosa.fillinv.lesson.entity.Lesson;
+import com.kosa.fillinv.lesson.entity.LessonThumbnailModel;
+import com.kosa.fillinv.lesson.repository.LessonBulkRepository;
+import com.kosa.fillinv.lesson.repository.LessonRepository;
+import com.kosa.fillinv.lesson.repository.LessonThumbnailModelRepository;
+import com.kosa.fillinv.lesson.service.client.MentorSummaryDTO;
+import com.kosa.fillinv.lesson.service.client.ProfileClient;
+import com.kosa.fillinv.lesson.service.client.ReviewClient;
+import com.kosa.fillinv.lesson.service.client.ScheduleClient;
+import com.kosa.fillinv.lesson.service.dto.LessonRatingVO;
+import com.kosa.fillinv.member.event.MemberProfileChangedEvent;
+import com.kosa.fillinv.review.event.ReviewCreatedEvent;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.event.ScheduleStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * lesson_thumbnail 읽기 모델 갱신
+ * 레슨/멘토 정보는 발행한 트랜잭션 안에서 동기로 반영되어 원본 데이터와 함께 커밋/롤백된다.
+ * 평점/수강생 수는 커밋된 이벤트만 레슨별 변화량으로 모아 주기적으로 반영한다. (예약/리뷰 트랜잭션이 인기 레슨의 행을 잠그지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LessonThumbnailProjector {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final Set<ScheduleStatus> PARTICIPATED_STATUSES = Set.of(ScheduleStatus.APPROVED, ScheduleStatus.COMPLETED);
+
+    private final LessonThumbnailModelRepository lessonThumbnailModelRepository;
+    private final LessonRepository lessonRepository;
+    private final LessonBulkRepository lessonBulkRepository;
+    private final ProfileClient profileClient;
+    private final ReviewClient reviewClient;
+    private final ScheduleClient scheduleClient;
+    private final CategoryService categoryService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 아직 반영되지 않은 레슨별 평점/수강생 수 변화량
+    private final Map<String, CounterDelta> pendingCounters = new ConcurrentHashMap<>();
+
+    public Map<String, LessonThumbnailModel> getAll(Collection<String> lessonIds) {
+        return lessonThumbnailModelRepository.findAllById(lessonIds).stream()
+                .collect(Collectors.toMap(LessonThumbnailModel::getLessonId, Function.identity()));
+    }
+
+    // 레슨 생성/수정 시 멘토, 카테고리 정보를 반영 (평점, 수강생 수는 유지)
+    public void project(Lesson lesson) {
+        MentorSummaryDTO mentor = profileClient.getMentors(Set.of(lesson.getMentorId())).get(lesson.getMentorId());
+        String categoryName = categoryService.getCategory(lesson.getCategoryId()).name();
+
+        LessonThumbnailModel model = lessonThumbnailModelRepository.findById(lesson.getId())
+                .orElseGet(() -> LessonThumbnailModel.builder()
+                        .lessonId(lesson.getId())
+                        .mentorId(lesson.getMentorId())
+                        .build());
+
+        model.updateMentor(
+                lesson.getMentorId(),
+                mentor == null ? null : mentor.nickname(),
+                mentor == null ? null : mentor.profileImage()
+        );
+        model.updateCategoryName(categoryName);
+
+        lessonThumbnailModelRepository.save(model);
+    }
+
+    public void remove(String lessonId) {
+        lessonThumbnailModelRepository.deleteById(lessonId);
+    }
+
+    @EventListener
+    public void on(ReviewCreatedEvent event) {
+        record(event.lessonId(), new CounterDelta(event.score(), 1, 0));
+    }
+
+    @EventListener
+    public void on(ScheduleStatusChangedEvent event) {
+        int delta = participated(event.to()) - participated(event.from());
+        if (delta != 0) {
+            record(event.lessonId(), new CounterDelta(0, 0, delta));
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${fillinv.lesson.thumbnail.flush-interval-ms:5000}",
+            fixedDelayString = "${fillinv.lesson.thumbnail.flush-interval-ms:5000}"
+    )
+    public void flushCounters() {
+        if (pendingCounters.isEmpty()) {
+            return;
+        }
+
+        Map<String, CounterDelta> counters = new HashMap<>();
+        for (String lessonId : List.copyOf(pendingCounters.keySet())) {
+            CounterDelta delta = pendingCounters.remove(lessonId);
+            if (delta != null) {
+                counters.put(lessonId, delta);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> counters.forEach((lessonId, delta) ->
+                    lessonThumbnailModelRepository.addCounters(lessonId, delta.ratingSum(), delta.reviewCount(), delta.menteeCount())));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            counters.forEach((lessonId, delta) -> pendingCounters.merge(lessonId, delta, CounterDelta::plus));
+            log.warn("Failed to apply lesson thumbnail counters. lessons={}", counters.size(), e);
+        }
+    }
+
+    @EventListener
+    public void on(MemberProfileChangedEvent event) {
+        MentorSummaryDTO mentor = profileClient.getMentors(Set.of(event.memberId())).get(event.memberId());
+        if (mentor == null) {
+            return;
+        }
+
+        lessonThumbnailModelRepository.updateMentorProfile(event.memberId(), mentor.nickname(), mentor.profileImage());
+    }
+
+    /**
+     * 서버 시작 시 원본과 다른 행만 보정 (이벤트 누락이나 직접 수정된 데이터)
+     * 잠그지 않는 조회로 보정할 레슨을 고르고 REBUILD_BATCH_SIZE 개씩 짧은 트랜잭션으로 고치므로,
+     * 보정 중에도 썸네일이 비지 않고 함께 반영되는 평점/수강생 수 변화량을 덮어쓰지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int orphans = 0;
+        List<String> lessonIds;
+        while (!(lessonIds = lessonThumbnailModelRepository.findOrphanLessonIds(REBUILD_BATCH_SIZE)).isEmpty()) {
+            List<String> orphanIds = lessonIds;
+            transactionTemplate.executeWithoutResult(status -> lessonThumbnailModelRepository.deleteAllByIdInBatch(orphanIds));
+            orphans += lessonIds.size();
+        }
+
+        int drifted = 0;
+        String after = "";
+        while (!(lessonIds = lessonThumbnailModelRepository.findDriftedLessonIds(after, REBUILD_BATCH_SIZE)).isEmpty()) {
+            repair(lessonIds);
+            drifted += lessonIds.size();
+            after = lessonIds.getLast();
+        }
+
+        if (orphans == 0 && drifted == 0) {
+            log.info("Lesson thumbnail read model is up to date.");
+            return;
+        }
+        log.info("Lesson thumbnail read model repaired. drifted={}, orphans={}", drifted, orphans);
+    }
+
+    // 있는 행은 멘토, 카테고리 정보만 고치고(평점, 수강생 수 유지), 없는 행은 원본에서 집계해 새로 만든다
+    private void repair(List<String> lessonIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Lesson> lessons = lessonRepository.findAllById(lessonIds).stream()
+                    .filter(lesson -> !lesson.isDeleted())
+                    .toList();
+            Map<String, LessonThumbnailModel> existing = getAll(lessonIds);
+            Map<Long, CategoryResponseDto> categories = categoryService.getAllCategoriesMap();
+            Map<String, MentorSummaryDTO> mentors = profileClient.getMentors(
+                    lessons.stream().map(Lesson::getMentorId).collect(Collectors.toSet()));
+
+            List<Lesson> missing = new ArrayList<>();
+            for (Lesson lesson : lessons) {
+                LessonThumbnailModel model = existing.get(lesson.getId());
+                if (model == null) {
+                    missing.add(lesson);
+                    continue;
+                }
+
+                MentorSummaryDTO mentor = mentors.get(lesson.getMentorId());
+                CategoryResponseDto category = categories.get(lesson.getCategoryId());
+                model.updateMentor(
+                        lesson.getMentorId(),
+                        mentor == null ? null : mentor.nickname(),
+                        mentor == null ? null : mentor.profileImage()
+                );
+                model.updateCategoryName(category == null ? null : category.name());
+            }
+
+            if (!missing.isEmpty()) {
+                lessonBulkRepository.bulkInsertLessonThumbnail(assemble(missing, categories));
+            }
+        });
+    }
+
+    private List<LessonThumbnailModel> assemble(List<Lesson> lessons, Map<Long, CategoryResponseDto> categories) {
+        Set<String> lessonIds = lessons.stream().map(Lesson::getId).collect(Collectors.toSet());
+        Set<String> mentorIds = lessons.stream().map(Lesson::getMentorId).collect(Collectors.toSet());
+
+        Map<String, MentorSummaryDTO> mentors = profileClient.getMentors(mentorIds);
+        Map<String, LessonRatingVO> ratings = reviewClient.getRatings(lessonIds);
+        Map<String, Integer> menteeCounts = scheduleClient.countByLessonIdInAndStatusIn(lessonIds, PARTICIPATED_STATUSES);
+
+        return lessons.stream()
+                .map(lesson -> {
+                    MentorSummaryDTO mentor = mentors.get(lesson.getMentorId());
+                    CategoryResponseDto category = categories.get(lesson.getCategoryId());
+                    LessonRatingVO rating = ratings.get(lesson.getId());
+
+                    return LessonThumbnailModel.builder()
+                            .lessonId(lesson.getId())
+                            .mentorId(lesson.getMentorId())
+                            .mentorNickname(mentor == null ? null : mentor.nickname())
+                            .mentorProfileImage(mentor == null ? null : mentor.profileImage())
+                            .categoryName(category == null ? null : category.name())
+                            .ratingSum(rating == null ? 0L : rating.scoreSum())
+                            .reviewCount(rating == null ? 0L : rating.reviewCount())
+                            .menteeCount(menteeCounts.getOrDefault(lesson.getId(), 0))
+                            .build();
+                })
+                .toList();
+    }
+
+    private int participated(ScheduleStatus status) {
+        return status != null && PARTICIPATED_STATUSES.contains(status) ? 1 : 0;
+    }
+
+    // 롤백된 변경이 반영되지 않도록 커밋 후에 모은다
+    private void record(String lessonId, CounterDelta delta) {
+        TransactionCallbacks.afterCommit(() -> pendingCounters.merge(lessonId, delta, CounterDelta::plus));
+    }
+
+    private record CounterDelta(long ratingSum, long reviewCount, int menteeCount) {
+        CounterDelta plus(CounterDelta other) {
+            return new CounterDelta(ratingSum + other.ratingSum, reviewCount + other.reviewCount, menteeCount + other.menteeCount);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.kosa.fillinv.lesson.service.cache;
+
+import com.kosa.fillinv.global.util.InvalidationStamps;
+import com.kosa.fillinv.lesson.entity.LessonTemp;
+import com.kosa.fillinv.lesson.service.dto.AvailableTimeDTO;
+import com.kosa.fillinv.lesson.service.dto.LessonDTO;
+import com.kosa.fillinv.lesson.service.dto.OptionDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 레슨 상세(LessonDTO: 레슨 + 이용 가능 시간 + 옵션) 캐시
+ * <p>
+ * - 레슨이 변경되면 항목을 제거하고 무효화 시점을 기록해, 변경 전에 조회를 시작한 결과가 다시 저장되지 않게 한다.
+ *   (무효화 시점은 최근 변경된 레슨만 기억하므로 레슨 수와 무관하게 크기가 제한된다)
+ * - 인기 점수는 자주 바뀌므로 항목을 버리지 않고 캐시된 값만 새 점수로 교체한다.
+ * - 항목의 대략적인 메모리 크기 합이 maxWeight 를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다. (LRU)
+ * - 무효화는 이 JVM 에서 일어난 변경만 반영하므로, 다른 인스턴스의 변경은 저장 후 ttl 이 지나 다시 조회할 때 반영된다.
+ */
+@Component
+public class LessonDetailCache {
+
+    private static final int OBJECT_OVERHEAD = 64;
+
+    private final long maxWeight;
+
+    private final long ttlNanos;
+
+    private final LongSupplier nanoTime;
+
+    private final InvalidationStamps stamps = new InvalidationStamps();
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long weight = 0;
+
+    @Autowired
+    public LessonDetailCache(
+            @Value("${fillinv.lesson.detail-cache.max-weight-bytes:16777216}") long maxWeight,
+            @Value("${fillinv.lesson.detail-cache.ttl-ms:300000}") long ttlMillis
+    ) {
+        this(maxWeight, ttlMillis, System::nanoTime);
+    }
+
+    LessonDetailCache(long maxWeight, long ttlMillis, LongSupplier nanoTime) {
+        this.maxWeight = maxWeight;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.nanoTime = nanoTime;
+    }
+
+    // 조회를 시작하기 전에 받아 두고 put 에 넘긴다
+    public long stamp() {
+        return stamps.now();
+    }
+
+    public boolean isFresh(String lessonId, long stamp) {
+        return stamps.isFresh(lessonId, stamp);
+    }
+
+    public Optional<LessonDTO> get(String lessonId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(lessonId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (nanoTime.getAsLong() - entry.expiresAt() >= 0) {
+                entries.remove(lessonId);
+                weight -= entry.weight();
+                return Optional.empty();
+            }
+            return Optional.of(entry.lesson());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 조회를 시작한 뒤 레슨이 변경되지 않았을 때만 저장한다.
+     * 조회 도중 레슨이 변경되었다면 이미 오래된 데이터이므로 버린다.
+     */
+    public void put(String lessonId, long stamp, LessonDTO lesson) {
+        long size = estimateWeight(lesson);
+        if (size > maxWeight) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (!stamps.isFresh(lessonId, stamp)) {
+                return;
+            }
+
+            Entry previous = entries.put(lessonId, new Entry(lesson, size, nanoTime.getAsLong() + ttlNanos));
+            if (previous != null) {
+                weight -= previous.weight();
+            }
+            weight += size;
+
+            evictIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(String lessonId) {
+        lock.lock();
+        try {
+            stamps.invalidate(lessonId);
+
+            Entry removed = entries.remove(lessonId);
+            if (removed != null) {
+                weight -= removed.weight();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시에 있는 레슨의 인기 점수만 새 값으로 교체한다.
+     * 점수 반영 직전에 조회를 시작한 결과가 뒤늦게 저장되면 이전 점수가 남을 수 있으나, 다음 점수 갱신 때 바로잡힌다.
+     */
+    public void refreshScores(Collection<LessonTemp> scores) {
+        lock.lock();
+        try {
+            for (LessonTemp score : scores) {
+                entries.computeIfPresent(score.getLessonId(),
+                        (lessonId, entry) -> new Entry(entry.lesson().withPopularityScore(score.getScore()), entry.weight(), entry.expiresAt()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long weight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= iterator.next().weight();
+            iterator.remove();
+        }
+    }
+
+    // 문자열은 글자당 2바이트, 그 외 필드/객체는 고정 오버헤드로 어림한다.
+    static long estimateWeight(LessonDTO lesson) {
+        long size = OBJECT_OVERHEAD * 4L
+                + length(lesson.id()) + length(lesson.title()) + length(lesson.thumbnailImage())
+                + length(lesson.description()) + length(lesson.location()) + length(lesson.mentorId());
+
+        if (lesson.availableTimeDTOList() != null) {
+            for (AvailableTimeDTO availableTime : lesson.availableTimeDTOList()) {
+                size += OBJECT_OVERHEAD * 2L + length(availableTime.id()) + length(availableTime.lessonId());
+            }
+        }
+        if (lesson.optionDTOList() != null) {
+            for (OptionDTO option : lesson.optionDTOList()) {
+                size += OBJECT_OVERHEAD * 2L + length(option.id()) + length(option.name()) + length(option.lessonId());
+            }
+        }
+        return size;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : 2L * value.length();
+    }
+
+    private record Entry(LessonDTO lesson, long weight, long expiresAt) {
+    }
+}
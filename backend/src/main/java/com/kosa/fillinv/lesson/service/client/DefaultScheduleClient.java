@@ -4,10 +4,12 @@ import com.kosa.fillinv.lesson.service.dto.BookedTimeVO;
 import com.kosa.fillinv.lesson.service.dto.LessonCountVO;
 import com.kosa.fillinv.schedule.entity.ScheduleStatus;
 import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.schedule.service.booking.MentorBookingIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +20,7 @@ import java.util.stream.Collectors;
 public class DefaultScheduleClient implements ScheduleClient {
 
     private final ScheduleRepository scheduleRepository;
+    private final MentorBookingIndex mentorBookingIndex;
 
     @Override
     public Map<String, Integer> countByLessonIdInAndStatusIn(
@@ -38,7 +41,12 @@ public class DefaultScheduleClient implements ScheduleClient {
     }
 
     @Override
-    public List<BookedTimeVO> getBookedTimes(String lessonId, Collection<ScheduleStatus> statuses, Instant since) {
-        return scheduleRepository.findBookedTimesByLessonIdAndStatusInAndStartTimeAfter(lessonId, statuses, since);
+    public List<BookedTimeVO> getBookedTimes(String mentorId, Instant since) {
+        return mentorBookingIndex.getBookedTimes(mentorId, since);
+    }
+
+    @Override
+    public Map<LocalDate, long[]> getBookedSlots(String mentorId, LocalDate from, LocalDate to) {
+        return mentorBookingIndex.getBookedSlots(mentorId, from, to);
     }
 }
@@ -1,8 +1,12 @@
 package com.kosa.fillinv.lesson.service.client;
 
+import com.kosa.fillinv.lesson.service.dto.LessonRatingVO;
+
 import java.util.Map;
 import java.util.Set;
 
 public interface ReviewClient {
     Map<String, Float> getAverageRating(Set<String> lessonIds);
+
+    Map<String, LessonRatingVO> getRatings(Set<String> lessonIds);
 }
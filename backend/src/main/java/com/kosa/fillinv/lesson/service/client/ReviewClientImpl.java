@@ -1,5 +1,7 @@
 package com.kosa.fillinv.lesson.service.client;
 
+import com.kosa.fillinv.lesson.service.dto.LessonRatingVO;
+import com.kosa.fillinv.review.dto.LessonRatingSum;
 import com.kosa.fillinv.review.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -20,4 +22,13 @@ public class ReviewClientImpl implements ReviewClient {
         return reviewService.getAverageScoreByLessonIds(lessonIds).entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().floatValue()));
     }
+
+    @Override
+    public Map<String, LessonRatingVO> getRatings(Set<String> lessonIds) {
+
+        return reviewService.getRatingSumByLessonIds(lessonIds).stream()
+                .collect(Collectors.toMap(
+                        LessonRatingSum::lessonId,
+                        sum -> new LessonRatingVO(sum.lessonId(), sum.scoreSum(), sum.count())));
+    }
 }
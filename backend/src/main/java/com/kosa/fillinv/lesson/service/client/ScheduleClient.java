@@ -4,6 +4,7 @@ import com.kosa.fillinv.lesson.service.dto.BookedTimeVO;
 import com.kosa.fillinv.schedule.entity.ScheduleStatus;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -14,5 +15,9 @@ public interface ScheduleClient {
 
     Integer countByLessonIdAndStatusIn(String lessonId, Collection<ScheduleStatus> statuses);
 
-    List<BookedTimeVO> getBookedTimes(String lessonId, Collection<ScheduleStatus> statuses, Instant since);
+    // 멘토의 모든 레슨에 걸친 예약 시간 (since 이후에 끝나는 시간만)
+    List<BookedTimeVO> getBookedTimes(String mentorId, Instant since);
+
+    // 멘토의 from ~ to 일자별 예약된 10분 슬롯 비트맵
+    Map<LocalDate, long[]> getBookedSlots(String mentorId, LocalDate from, LocalDate to);
 }
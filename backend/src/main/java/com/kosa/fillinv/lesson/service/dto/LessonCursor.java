@@ -0,0 +1,69 @@
+package com.kosa.fillinv.lesson.service.dto;
+
+import com.kosa.fillinv.global.exception.ResourceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+import static com.kosa.fillinv.lesson.error.LessonError.INVALID_CURSOR;
+
+/**
+ * 레슨 검색 커서 (마지막 레슨의 정렬 값 + lessonId)
+ * 클라이언트에는 Base64 로 인코딩된 불투명 토큰으로 전달한다.
+ */
+public record LessonCursor(
+        LessonSortType sortType,
+        Comparable<?> sortValue,
+        String lessonId
+) {
+
+    private static final String DELIMITER = "\n";
+
+    public static LessonCursor of(LessonSortType sortType, LessonDTO last) {
+        Comparable<?> sortValue = switch (sortType) {
+            case CREATED_AT_ASC, CREATED_AT_DESC -> last.createdAt();
+            case PRICE_ASC, PRICE_DESC -> last.price();
+            case POPULARITY -> last.popularityScore();
+        };
+        return new LessonCursor(sortType, sortValue, last.id());
+    }
+
+    public static LessonCursor decode(String token, LessonSortType expectedSortType) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, 3);
+            if (parts.length != 3) {
+                throw new ResourceException.InvalidArgument(INVALID_CURSOR);
+            }
+
+            LessonSortType sortType = LessonSortType.valueOf(parts[0]);
+            if (sortType != expectedSortType) {
+                // 정렬 기준이 바뀌면 이전 커서는 의미가 없다
+                throw new ResourceException.InvalidArgument(INVALID_CURSOR);
+            }
+
+            return new LessonCursor(sortType, parseSortValue(sortType, parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ResourceException.InvalidArgument(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + lessonId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Comparable<?> parseSortValue(LessonSortType sortType, String value) {
+        return switch (sortType) {
+            case CREATED_AT_ASC, CREATED_AT_DESC -> Instant.parse(value);
+            case PRICE_ASC, PRICE_DESC -> Integer.valueOf(value);
+            case POPULARITY -> Double.valueOf(value);
+        };
+    }
+}
@@ -70,4 +70,12 @@ public record LessonDTO(
                 options.stream().map(OptionDTO::of).toList()
         );
     }
+
+    public LessonDTO withPopularityScore(Double popularityScore) {
+        return new LessonDTO(
+                id, title, lessonType, thumbnailImage, description, location, mentorId, categoryId,
+                createdAt, closeAt, price, seats, updatedAt, deletedAt, popularityScore,
+                availableTimeDTOList, optionDTOList
+        );
+    }
 }
@@ -0,0 +1,8 @@
+package com.kosa.fillinv.lesson.service.dto;
+
+public record LessonKeywordVO(
+        String lessonId,
+        String title,
+        String description
+) {
+}
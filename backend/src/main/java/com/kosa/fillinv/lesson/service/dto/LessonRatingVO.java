@@ -0,0 +1,8 @@
+package com.kosa.fillinv.lesson.service.dto;
+
+public record LessonRatingVO(
+        String lessonId,
+        long scoreSum,
+        long reviewCount
+) {
+}
@@ -33,4 +33,17 @@ public enum LessonSortType {
     public Sort toSort() {
         return Sort.by(direction, property);
     }
+
+    // 커서 페이징은 정렬 값이 같은 레슨의 순서를 고정하기 위해 id 를 같은 방향으로 함께 정렬
+    public Sort toCursorSort() {
+        return Sort.by(direction, property, "id");
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
 }
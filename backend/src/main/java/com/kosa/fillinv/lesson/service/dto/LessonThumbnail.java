@@ -1,5 +1,6 @@
 package com.kosa.fillinv.lesson.service.dto;
 
+import com.kosa.fillinv.lesson.entity.LessonThumbnailModel;
 import com.kosa.fillinv.lesson.service.client.MentorSummaryDTO;
 
 import java.time.Instant;
@@ -40,4 +41,24 @@ public record LessonThumbnail(
                 lesson.price()
         );
     }
+
+    public static LessonThumbnail of(
+            LessonDTO lesson,
+            LessonThumbnailModel model
+    ) {
+        return new LessonThumbnail(
+                lesson.id(),
+                lesson.thumbnailImage(),
+                lesson.title(),
+                lesson.lessonType().name(),
+                model.getMentorNickname(),
+                model.getAverageRating(),
+                lesson.categoryId(),
+                model.getCategoryName(),
+                lesson.createdAt(),
+                model.getMenteeCount(),
+                lesson.popularityScore(),
+                lesson.price()
+        );
+    }
 }
@@ -0,0 +1,15 @@
+package com.kosa.fillinv.lesson.service.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record MentoringSlotsResult(
+        Integer slotMinutes, // 슬롯 단위 (분)
+        List<Slot> slots // 예약 가능한 연속 구간 (시작 시각 순)
+) {
+    public record Slot(
+            Instant startTime,
+            Instant endTime
+    ) {
+    }
+}
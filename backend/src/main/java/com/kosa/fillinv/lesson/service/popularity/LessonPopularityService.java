@@ -0,0 +1,278 @@
+package com.kosa.fillinv.lesson.service.popularity;
+
+import com.kosa.fillinv.global.util.TransactionCallbacks;
+import com.kosa.fillinv.lesson.entity.LessonTemp;
+import com.kosa.fillinv.lesson.repository.LessonBulkRepository;
+import com.kosa.fillinv.lesson.repository.LessonPopularityRepository;
+import com.kosa.fillinv.lesson.service.cache.LessonDetailCache;
+import com.kosa.fillinv.review.event.ReviewCreatedEvent;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.event.ScheduleStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 레슨 인기 점수 증분 갱신
+ * 리뷰 작성/스케쥴 상태 변경 이벤트는 발행한 트랜잭션 안에서 변화량을 outbox 에 기록하고,
+ * 주기 작업에서 레슨별로 합쳐 누적 집계에 한 번에 반영한 뒤 영향을 받은 레슨의 점수만 다시 계산한다.
+ * (예약 트랜잭션은 outbox 에 INSERT 만 하므로 인기 레슨의 집계 행을 잠그지 않고, 반영 전에 서버가 종료되어도 변화량이 남는다)
+ * 정규화 기준값(최댓값, 전체 평균)은 메모리에 두고 야간 작업에서 다시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LessonPopularityService {
+
+    private static final int RECENT_WINDOW_DAYS = 7;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int FLUSH_BATCH_SIZE = 1000;
+
+    // 취소율 계산에 사용하는 상태 (PAYMENT_PENDING 제외)
+    private static final List<ScheduleStatus> TRACKED_STATUSES = List.of(
+            ScheduleStatus.APPROVAL_PENDING, ScheduleStatus.APPROVED, ScheduleStatus.COMPLETED, ScheduleStatus.CANCELED);
+
+    private final LessonPopularityRepository lessonPopularityRepository;
+    private final LessonBulkRepository lessonBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LessonDetailCache lessonDetailCache;
+
+    private final AtomicReference<PopularityNorms> norms = new AtomicReference<>();
+
+    @EventListener
+    public void on(ReviewCreatedEvent event) {
+        double weight = PopularityScoreCalculator.decayWeight(Instant.now());
+        double decayedScore = event.score() * weight;
+        record(event.lessonId(), delta -> delta.addReview(decayedScore, weight));
+    }
+
+    @EventListener
+    public void on(ScheduleStatusChangedEvent event) {
+        LocalDate today = today();
+        record(event.lessonId(), delta -> {
+            if (event.from() == null) {
+                delta.addBooking(today);
+            } else {
+                delta.addStatusCount(event.from(), -1);
+            }
+            delta.addStatusCount(event.to(), 1);
+        });
+    }
+
+    /**
+     * outbox 에 쌓인 변화량을 누적 집계에 반영하고 변경된 레슨의 점수만 다시 계산
+     * 같은 레슨에 이벤트가 몰려도 주기마다 UPSERT 와 계산을 한 번씩만 하며, 반영한 outbox 행은 같은 트랜잭션에서 삭제한다.
+     * 실패하면 롤백되어 outbox 행이 그대로 남으므로 다음 주기에 다시 반영된다.
+     */
+    @Scheduled(
+            initialDelayString = "${fillinv.lesson.popularity.flush-interval-ms:5000}",
+            fixedDelayString = "${fillinv.lesson.popularity.flush-interval-ms:5000}"
+    )
+    public void flush() {
+        int claimed;
+        do {
+            PopularityOutboxBatch batch;
+            try {
+                batch = transactionTemplate.execute(status -> applyOutbox());
+            } catch (RuntimeException e) {
+                log.warn("Failed to recompute lesson popularity.", e);
+                return;
+            }
+            claimed = batch.ids().size();
+        } while (claimed == FLUSH_BATCH_SIZE);
+    }
+
+    private PopularityOutboxBatch applyOutbox() {
+        // 회차 포인터를 먼저 공유 잠금 (야간 반영과 같은 잠금 순서: 포인터 -> lessons)
+        long generation = lessonBulkRepository.findClaimedGenerationForShare();
+
+        PopularityOutboxBatch batch = lessonPopularityRepository.claimOutbox(FLUSH_BATCH_SIZE);
+        if (batch.isEmpty()) {
+            return batch;
+        }
+
+        List<PopularityDelta> deltas = List.copyOf(batch.deltas());
+        List<String> lessonIds = deltas.stream().map(PopularityDelta::getLessonId).toList();
+
+        lessonPopularityRepository.applyDeltas(deltas);
+
+        PopularityNorms current = currentNorms();
+
+        List<LessonTemp> scores = new ArrayList<>(lessonIds.size());
+        for (PopularityInput input : lessonPopularityRepository.findInputs(lessonIds, windowStart())) {
+            current = norms.updateAndGet(n -> n.raise(input));
+            scores.add(new LessonTemp(input.lessonId(), PopularityScoreCalculator.score(input, current)));
+        }
+
+        lessonBulkRepository.bulkUpdatePopularity(scores, generation);
+        lessonPopularityRepository.deleteOutbox(batch.ids());
+
+        // 커밋된 점수를 상세 캐시에도 반영
+        TransactionCallbacks.afterCommit(() -> lessonDetailCache.refreshScores(scores));
+        return batch;
+    }
+
+    /**
+     * 정규화 기준값을 다시 계산하고 전체 활성 레슨의 점수를 계산한다. (이력 재집계 없이 누적 집계만 사용)
+     * 호출 측 트랜잭션 안에서 실행된다.
+     */
+    public List<LessonTemp> renormalize() {
+        LocalDate windowStart = windowStart();
+        lessonPopularityRepository.deleteBookingsBefore(windowStart);
+
+        PopularityNorms renormalized = lessonPopularityRepository.findNorms(windowStart);
+        norms.set(renormalized);
+
+        List<LessonTemp> scores = new ArrayList<>();
+        lessonPopularityRepository.streamActiveInputs(windowStart, input ->
+                scores.add(new LessonTemp(input.lessonId(), PopularityScoreCalculator.score(input, renormalized))));
+        return scores;
+    }
+
+    public boolean hasStats() {
+        return lessonPopularityRepository.hasStats();
+    }
+
+    /**
+     * 리뷰/스케쥴 이력 전체로 누적 집계를 다시 구성 (최초 구성용)
+     * 이력은 커서로 한 행씩 읽어 레슨 순번(정렬된 lessonId 의 인덱스) 기반 원시 배열에 누적하므로,
+     * 메모리 사용량은 리뷰/스케쥴 수와 무관하게 레슨 수에만 비례한다.
+     * 재집계를 시작하기 전까지 기록된 outbox 변화량은 이력에 이미 포함되므로 함께 삭제한다.
+     * 호출 측 트랜잭션 안에서 실행된다.
+     */
+    public void rebuildFromHistory() {
+        long outboxHighWater = lessonPopularityRepository.findMaxOutboxId();
+
+        String[] lessonIds = lessonPopularityRepository.findAllLessonIds().toArray(String[]::new);
+        Arrays.sort(lessonIds);
+        int lessonCount = lessonIds.length;
+
+        long[] reviewCounts = new long[lessonCount];
+        double[] decayedScoreSums = new double[lessonCount];
+        double[] decayedWeightSums = new double[lessonCount];
+        long[] statusCounts = new long[lessonCount * TRACKED_STATUSES.size()];
+        long[] dailyBookings = new long[lessonCount * RECENT_WINDOW_DAYS];
+
+        lessonPopularityRepository.streamReviews((lessonId, score, createdAt) -> {
+            int ordinal = Arrays.binarySearch(lessonIds, lessonId);
+            if (ordinal < 0) {
+                return;
+            }
+
+            double weight = PopularityScoreCalculator.decayWeight(createdAt);
+            reviewCounts[ordinal]++;
+            decayedScoreSums[ordinal] += score * weight;
+            decayedWeightSums[ordinal] += weight;
+        });
+
+        lessonPopularityRepository.streamStatusCounts((lessonId, status, count) -> {
+            int ordinal = Arrays.binarySearch(lessonIds, lessonId);
+            int slot = TRACKED_STATUSES.indexOf(status);
+            if (ordinal < 0 || slot < 0) {
+                return;
+            }
+
+            statusCounts[ordinal * TRACKED_STATUSES.size() + slot] += count;
+        });
+
+        LocalDate windowStart = windowStart();
+        lessonPopularityRepository.streamBookingsSince(windowStart.atStartOfDay(ZoneOffset.UTC).toInstant(), (lessonId, createdAt) -> {
+            int ordinal = Arrays.binarySearch(lessonIds, lessonId);
+            int day = (int) ChronoUnit.DAYS.between(windowStart, LocalDate.ofInstant(createdAt, ZoneOffset.UTC));
+            if (ordinal < 0 || day < 0 || day >= RECENT_WINDOW_DAYS) {
+                return;
+            }
+
+            dailyBookings[ordinal * RECENT_WINDOW_DAYS + day]++;
+        });
+
+        lessonPopularityRepository.deleteAll();
+
+        List<PopularityInput> stats = new ArrayList<>(REBUILD_BATCH_SIZE);
+        List<Object[]> bookings = new ArrayList<>();
+        int statCount = 0;
+
+        for (int ordinal = 0; ordinal < lessonCount; ordinal++) {
+            int base = ordinal * TRACKED_STATUSES.size();
+            boolean hasStat = reviewCounts[ordinal] > 0;
+            for (int slot = 0; slot < TRACKED_STATUSES.size(); slot++) {
+                hasStat |= statusCounts[base + slot] > 0;
+            }
+
+            if (hasStat) {
+                stats.add(new PopularityInput(
+                        lessonIds[ordinal],
+                        0,
+                        reviewCounts[ordinal],
+                        decayedScoreSums[ordinal],
+                        decayedWeightSums[ordinal],
+                        statusCounts[base + TRACKED_STATUSES.indexOf(ScheduleStatus.APPROVAL_PENDING)],
+                        statusCounts[base + TRACKED_STATUSES.indexOf(ScheduleStatus.APPROVED)],
+                        statusCounts[base + TRACKED_STATUSES.indexOf(ScheduleStatus.COMPLETED)],
+                        statusCounts[base + TRACKED_STATUSES.indexOf(ScheduleStatus.CANCELED)]
+                ));
+                statCount++;
+            }
+
+            for (int day = 0; day < RECENT_WINDOW_DAYS; day++) {
+                long count = dailyBookings[ordinal * RECENT_WINDOW_DAYS + day];
+                if (count > 0) {
+                    bookings.add(new Object[]{lessonIds[ordinal], windowStart.plusDays(day), count});
+                }
+            }
+
+            if (stats.size() >= REBUILD_BATCH_SIZE || bookings.size() >= REBUILD_BATCH_SIZE) {
+                flushRebuildBatch(stats, bookings);
+            }
+        }
+        flushRebuildBatch(stats, bookings);
+        lessonPopularityRepository.deleteOutboxUpTo(outboxHighWater);
+
+        log.info("Lesson popularity stats rebuilt. lessons={}", statCount);
+    }
+
+    private void flushRebuildBatch(List<PopularityInput> stats, List<Object[]> bookings) {
+        lessonPopularityRepository.bulkInsertStats(stats);
+        lessonPopularityRepository.bulkInsertBookings(bookings);
+        stats.clear();
+        bookings.clear();
+    }
+
+    // 원본 변경과 함께 커밋/롤백되도록 발행한 트랜잭션 안에서 기록한다
+    private void record(String lessonId, Consumer<PopularityDelta> change) {
+        PopularityDelta delta = new PopularityDelta(lessonId);
+        change.accept(delta);
+        lessonPopularityRepository.appendOutbox(delta);
+    }
+
+    private PopularityNorms currentNorms() {
+        PopularityNorms current = norms.get();
+        if (current != null) {
+            return current;
+        }
+
+        // 야간 재정규화 전이면 저장된 집계로 기준값만 계산
+        norms.compareAndSet(null, lessonPopularityRepository.findNorms(windowStart()));
+        return norms.get();
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+
+    // 오늘을 포함한 최근 7일
+    private LocalDate windowStart() {
+        return today().minus(RECENT_WINDOW_DAYS - 1, ChronoUnit.DAYS);
+    }
+}
@@ -0,0 +1,62 @@
+package com.kosa.fillinv.lesson.service.popularity;
+
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 레슨 1건의 아직 누적 집계에 반영되지 않은 변화량 (이벤트 1건 또는 outbox 에서 레슨별로 합친 값)
+ * 스레드 안전하지 않으므로 만든 스레드 안에서만 변경한다.
+ */
+@Getter
+public class PopularityDelta {
+
+    private final String lessonId;
+
+    private long reviewCount;
+
+    private double decayedScoreSum;
+
+    private double decayedWeightSum;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<ScheduleStatus, Long> statusCounts = new EnumMap<>(ScheduleStatus.class);
+
+    private final Map<LocalDate, Long> dailyBookings = new HashMap<>();
+
+    public PopularityDelta(String lessonId) {
+        this.lessonId = lessonId;
+    }
+
+    public void addReview(double decayedScore, double decayedWeight) {
+        addReviews(1, decayedScore, decayedWeight);
+    }
+
+    public void addReviews(long count, double decayedScore, double decayedWeight) {
+        reviewCount += count;
+        decayedScoreSum += decayedScore;
+        decayedWeightSum += decayedWeight;
+    }
+
+    public void addStatusCount(ScheduleStatus status, long delta) {
+        statusCounts.merge(status, delta, Long::sum);
+    }
+
+    public void addBooking(LocalDate bookingDate) {
+        dailyBookings.merge(bookingDate, 1L, Long::sum);
+    }
+
+    public long statusCount(ScheduleStatus status) {
+        return statusCounts.getOrDefault(status, 0L);
+    }
+
+    public Map<LocalDate, Long> getDailyBookings() {
+        return Collections.unmodifiableMap(dailyBookings);
+    }
+}
@@ -0,0 +1,20 @@
+package com.kosa.fillinv.lesson.service.popularity;
+
+/**
+ * 레슨 1건의 인기 점수 계산 입력값 (lesson_popularity_stat + 최근 7일 신청 수)
+ */
+public record PopularityInput(
+        String lessonId,
+        long recentBookings,
+        long reviewCount,
+        double decayedScoreSum,
+        double decayedWeightSum,
+        long approvalPendingCount,
+        long approvedCount,
+        long completedCount,
+        long canceledCount
+) {
+    public double weightedAverage() {
+        return decayedWeightSum > 0 ? decayedScoreSum / decayedWeightSum : 0.0;
+    }
+}
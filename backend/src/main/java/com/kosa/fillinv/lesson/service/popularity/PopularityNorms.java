@@ -0,0 +1,27 @@
+package com.kosa.fillinv.lesson.service.popularity;
+
+/**
+ * 인기 점수 정규화 기준값 (전체 레슨 기준)
+ *
+ * @param maxRecentBookings 최근 7일 최대 신청 수
+ * @param maxReviewCount    최대 리뷰 수
+ * @param globalAverage     전체 리뷰의 시간 감쇠 가중 평균 (베이지안 평균의 사전값)
+ */
+public record PopularityNorms(
+        long maxRecentBookings,
+        long maxReviewCount,
+        double globalAverage
+) {
+    // 증분 갱신된 레슨이 기존 최댓값을 넘으면 최댓값만 끌어올린다 (나머지 레슨은 야간 재정규화 때 반영)
+    public PopularityNorms raise(PopularityInput input) {
+        if (input.recentBookings() <= maxRecentBookings && input.reviewCount() <= maxReviewCount) {
+            return this;
+        }
+
+        return new PopularityNorms(
+                Math.max(maxRecentBookings, input.recentBookings()),
+                Math.max(maxReviewCount, input.reviewCount()),
+                globalAverage
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.kosa.fillinv.lesson.service.popularity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * lesson_popularity_outbox 에서 잠근 행 id 와 레슨별로 합친 변화량
+ */
+public record PopularityOutboxBatch(
+        List<Long> ids,
+        Collection<PopularityDelta> deltas
+) {
+    public boolean isEmpty() {
+        return ids.isEmpty();
+    }
+}
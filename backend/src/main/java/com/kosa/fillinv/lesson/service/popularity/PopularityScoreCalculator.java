@@ -0,0 +1,67 @@
+package com.kosa.fillinv.lesson.service.popularity;
+
+import java.time.Instant;
+
+/**
+ * 레슨 인기 점수 계산식
+ * 점수 = (최근 7일 신청 수 0.6 + 리뷰 수 0.2 + 베이지안 평균 평점 0.2) * (1 - 취소율) * 100
+ */
+public final class PopularityScoreCalculator {
+
+    private static final int BAYESIAN_AVERAGE_WEIGHT = 5; // 베이지안 평균 가중치
+    private static final double RECENT_APP_COUNT_WEIGHT = 0.6;
+    private static final double REVIEW_COUNT_WEIGHT = 0.2;
+    private static final double BAYESIAN_AVG_WEIGHT = 0.2;
+    private static final double MAX_RATING = 5.0;
+
+    // Time Decay 반감기 1년 = 365일
+    private static final double HALF_LIFE_SECONDS = 365.0 * 24 * 60 * 60;
+
+    // 증가형 가중치의 기준 시각 (값이 커지지 않도록 서비스 시작 시점 근처로 고정)
+    private static final Instant DECAY_EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private PopularityScoreCalculator() {
+    }
+
+    /**
+     * 리뷰 1건의 증가형 시간 감쇠 가중치
+     * 현재 시각 기준 가중치 0.5^((now - t) / 반감기) 는 이 값에 공통 인수 2^(-(now - 기준일) / 반감기) 를 곱한 것이므로,
+     * 가중 평균(Σ score * w / Σ w)에서는 공통 인수가 약분되어 리뷰가 추가될 때 합계만 누적하면 된다.
+     */
+    public static double decayWeight(Instant createdAt) {
+        double elapsed = createdAt.getEpochSecond() - DECAY_EPOCH.getEpochSecond();
+        return Math.pow(2.0, elapsed / HALF_LIFE_SECONDS);
+    }
+
+    public static double score(PopularityInput input, PopularityNorms norms) {
+        long v = input.reviewCount();
+        double R = input.weightedAverage();
+        double C = norms.globalAverage();
+
+        // 베이지안 평균
+        double bayesianAvg = ((double) v / (v + BAYESIAN_AVERAGE_WEIGHT)) * R
+                + ((double) BAYESIAN_AVERAGE_WEIGHT / (v + BAYESIAN_AVERAGE_WEIGHT)) * C;
+
+        double normRecentApp = norms.maxRecentBookings() > 0
+                ? Math.min(1.0, (double) input.recentBookings() / norms.maxRecentBookings()) : 0.0;
+        double normReviewCount = norms.maxReviewCount() > 0
+                ? Math.min(1.0, (double) v / norms.maxReviewCount()) : 0.0;
+        double normRating = bayesianAvg / MAX_RATING;
+
+        // 기본 점수 (가중치 적용)
+        double baseScore = (normRecentApp * RECENT_APP_COUNT_WEIGHT)
+                + (normReviewCount * REVIEW_COUNT_WEIGHT)
+                + (normRating * BAYESIAN_AVG_WEIGHT);
+
+        // PAYMENT_PENDING 은 허수일 가능성이 높으므로 모수에서 제외
+        long totalValidRequests = input.canceledCount() + input.approvedCount()
+                + input.completedCount() + input.approvalPendingCount();
+        double cancellationRate = totalValidRequests > 0 ? (double) input.canceledCount() / totalValidRequests : 0.0;
+
+        // 패널티 적용: (1 - 취소율) 곱하기
+        double finalScore = baseScore * (1.0 - cancellationRate);
+
+        double scaledScore = finalScore * 100.0;
+        return Math.round(scaledScore * 100.0) / 100.0;
+    }
+}
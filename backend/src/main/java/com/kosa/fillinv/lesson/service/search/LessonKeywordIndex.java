@@ -0,0 +1,157 @@
+package com.kosa.fillinv.lesson.service.search;
+
+import com.kosa.fillinv.global.util.NGramTokenizer;
+import com.kosa.fillinv.lesson.repository.LessonRepository;
+import com.kosa.fillinv.lesson.service.dto.LessonKeywordVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레슨 제목/설명에 대한 메모리 역색인 (2-gram 토큰 -> lessonId)
+ * 키워드 검색 시 LIKE '%kw%' 풀스캔 대신 후보 lessonId 를 먼저 찾는다.
+ * 후보 수와 관계없이 모든 후보를 반환하며, 긴 후보 목록은 호출 측에서 나눠서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LessonKeywordIndex {
+
+    private final LessonRepository lessonRepository;
+
+    // token -> lessonId 목록
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+
+    // lessonId -> 정규화된 원문 (2-gram 교집합의 오탐을 제거하기 위해 사용)
+    private final Map<String, String> documents = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    // 재구성 중 index/remove 된 lessonId (재구성에서 읽은 원문이 더 오래된 것이므로 덮어쓰지 않는다)
+    private final Set<String> touchedDuringRebuild = new HashSet<>();
+    private boolean rebuilding = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+            touchedDuringRebuild.clear();
+        }
+
+        List<LessonKeywordVO> sources = lessonRepository.findAllKeywordSources();
+
+        synchronized (this) {
+            for (LessonKeywordVO source : sources) {
+                if (!touchedDuringRebuild.contains(source.lessonId())) {
+                    put(source.lessonId(), source.title(), source.description());
+                }
+            }
+
+            rebuilding = false;
+            touchedDuringRebuild.clear();
+            ready = true;
+        }
+        log.info("Lesson keyword index built. lessons={}, tokens={}", documents.size(), postings.size());
+    }
+
+    public synchronized void index(String lessonId, String title, String description) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(lessonId);
+        }
+        put(lessonId, title, description);
+    }
+
+    public synchronized void remove(String lessonId) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(lessonId);
+        }
+        delete(lessonId);
+    }
+
+    private void put(String lessonId, String title, String description) {
+        delete(lessonId);
+
+        String document = NGramTokenizer.normalize(title) + "\n" + NGramTokenizer.normalize(description);
+        documents.put(lessonId, document);
+
+        for (String token : NGramTokenizer.tokenize(document)) {
+            postings.computeIfAbsent(token, k -> ConcurrentHashMap.newKeySet()).add(lessonId);
+        }
+    }
+
+    private void delete(String lessonId) {
+        String document = documents.remove(lessonId);
+        if (document == null) {
+            return;
+        }
+
+        for (String token : NGramTokenizer.tokenize(document)) {
+            Set<String> lessonIds = postings.get(token);
+            if (lessonIds == null) {
+                continue;
+            }
+
+            lessonIds.remove(lessonId);
+            if (lessonIds.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * 키워드를 포함하는 lessonId 후보를 반환한다.
+     * 색인이 준비되지 않았거나 키워드가 너무 짧아 토큰을 만들 수 없으면 Optional.empty() 를 반환하며,
+     * 이 경우 호출 측은 기존 LIKE 검색으로 대체해야 한다.
+     */
+    public Optional<Set<String>> search(String keyword) {
+        if (!ready || !NGramTokenizer.isSearchable(keyword)) {
+            return Optional.empty();
+        }
+
+        List<Set<String>> candidates = new ArrayList<>();
+        for (String token : NGramTokenizer.tokenize(keyword)) {
+            Set<String> lessonIds = postings.get(token);
+            if (lessonIds == null || lessonIds.isEmpty()) {
+                return Optional.of(Set.of());
+            }
+            candidates.add(lessonIds);
+        }
+
+        // 가장 작은 posting 부터 교집합
+        candidates.sort(Comparator.comparingInt(Set::size));
+
+        String normalizedKeyword = NGramTokenizer.normalize(keyword);
+        Set<String> result = new HashSet<>();
+
+        for (String lessonId : candidates.get(0)) {
+            if (!containsAll(candidates, lessonId)) {
+                continue;
+            }
+
+            String document = documents.get(lessonId);
+            if (document != null && document.contains(normalizedKeyword)) {
+                result.add(lessonId);
+            }
+        }
+
+        return Optional.of(result);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private boolean containsAll(List<Set<String>> candidates, String lessonId) {
+        for (int i = 1; i < candidates.size(); i++) {
+            if (!candidates.get(i).contains(lessonId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
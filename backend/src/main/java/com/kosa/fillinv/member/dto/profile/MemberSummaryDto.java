@@ -0,0 +1,20 @@
+package com.kosa.fillinv.member.dto.profile;
+
+import com.kosa.fillinv.member.entity.Member;
+import com.kosa.fillinv.member.entity.Profile;
+
+/**
+ * 목록 화면용 회원 요약 (이메일, 전화번호 등 개인정보는 담지 않는다)
+ */
+public record MemberSummaryDto(
+        String memberId,
+        String nickname,
+        String imageUrl) {
+    public static MemberSummaryDto of(Member member, Profile profile) {
+        return new MemberSummaryDto(
+                member.getId(),
+                member.getNickname(),
+                profile != null ? profile.getImage() : null
+        );
+    }
+}
@@ -24,4 +24,16 @@ public record ProfileResponseDto(
                 category != null ? CategoryResponseDto.of(category) : null
         );
     }
+
+    public static ProfileResponseDto of(Member member, Profile profile, CategoryResponseDto category) {
+        return new ProfileResponseDto(
+                member.getId(),
+                profile != null ? profile.getImage() : null,
+                member.getNickname(),
+                member.getEmail(),
+                member.getPhoneNum(),
+                profile != null ? profile.getIntroduce() : null,
+                category
+        );
+    }
 }
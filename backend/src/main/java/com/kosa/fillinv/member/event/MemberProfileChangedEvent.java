@@ -0,0 +1,9 @@
+package com.kosa.fillinv.member.event;
+
+/**
+ * 닉네임, 프로필 이미지, 소개/카테고리 등 다른 도메인에 노출되는 프로필 정보가 변경되었을 때 발행
+ */
+public record MemberProfileChangedEvent(
+        String memberId
+) {
+}
@@ -1,7 +1,11 @@
 package com.kosa.fillinv.member.repository;
 
 import com.kosa.fillinv.member.entity.Member;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -20,4 +24,9 @@ public interface MemberRepository extends JpaRepository<Member, String> {
     boolean existsByPhoneNum(String phoneNum);
 
     List<Member> findByIdIn(Collection<String> memberIds);
+
+    // 같은 멘토의 1:1 멘토링 예약 트랜잭션을 순서대로 처리하기 위한 멘토 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Member m WHERE m.id = :memberId")
+    Optional<Member> findByIdForUpdate(@Param("memberId") String memberId);
 }
@@ -1,21 +1,25 @@
 package com.kosa.fillinv.member.service;
 
-import com.kosa.fillinv.category.entity.Category;
+import com.kosa.fillinv.category.dto.CategoryResponseDto;
 import com.kosa.fillinv.category.exception.CategoryException;
-import com.kosa.fillinv.category.repository.CategoryRepository;
+import com.kosa.fillinv.category.service.CategoryService;
 import com.kosa.fillinv.global.response.ErrorCode;
 import com.kosa.fillinv.global.util.FileStorage;
 import com.kosa.fillinv.global.util.UploadFileResult;
 import com.kosa.fillinv.member.dto.member.SignUpDto;
 import com.kosa.fillinv.member.dto.profile.IntroductionRequestDto;
+import com.kosa.fillinv.member.dto.profile.MemberSummaryDto;
 import com.kosa.fillinv.member.dto.profile.ProfileResponseDto;
 import com.kosa.fillinv.member.entity.Member;
 import com.kosa.fillinv.member.entity.Profile;
+import com.kosa.fillinv.member.event.MemberProfileChangedEvent;
 import com.kosa.fillinv.member.exception.MemberException;
 import com.kosa.fillinv.member.repository.MemberRepository;
 import com.kosa.fillinv.member.repository.ProfileRepository;
+import com.kosa.fillinv.member.service.cache.MemberProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,9 +35,11 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final ProfileRepository profileRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
     private final BCryptPasswordEncoder passwordEncoder;
     private final FileStorage fileStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberProfileCache memberProfileCache;
 
     @Transactional
     public void signUp(SignUpDto signUpDto) {
@@ -55,31 +61,51 @@ public class MemberService {
         Profile profile = profileRepository.findById(memberId)
                 .orElseThrow(MemberException.ProfileNotFound::new);
 
-        Category category = categoryRepository.findById(profile.getCategoryId())
+        CategoryResponseDto category = categoryService.findCategory(profile.getCategoryId())
                 .orElseThrow(CategoryException.NotFound::new);
 
         return ProfileResponseDto.of(member, profile, category);
     }
 
     public Map<String, ProfileResponseDto> getAllProfilesByMemberIds(Collection<String> memberIds) {
+        return loadProfiles(memberIds);
+    }
+
+    // 닉네임, 이미지만 필요한 목록 화면용 (캐시에 없는 회원만 한 번에 조회)
+    public Map<String, MemberSummaryDto> getAllSummariesByMemberIds(Collection<String> memberIds) {
+        return memberProfileCache.getAll(memberIds, this::loadSummaries);
+    }
+
+    public Optional<MemberSummaryDto> findSummary(String memberId) {
+        return Optional.ofNullable(getAllSummariesByMemberIds(List.of(memberId)).get(memberId));
+    }
+
+    private Map<String, MemberSummaryDto> loadSummaries(Collection<String> memberIds) {
+        Map<String, Profile> profileMap = profileRepository.findByMemberIdIn(memberIds).stream()
+                .collect(Collectors.toMap(Profile::getMemberId, profile -> profile));
+
+        return memberRepository.findByIdIn(memberIds).stream()
+                .collect(Collectors.toMap(
+                        Member::getId,
+                        member -> MemberSummaryDto.of(member, profileMap.get(member.getId()))));
+    }
+
+    private Map<String, ProfileResponseDto> loadProfiles(Collection<String> memberIds) {
         Map<String, Member> memberMap = memberRepository.findByIdIn(memberIds).stream()
                 .collect(Collectors.toMap(Member::getId, member -> member));
 
         Map<String, Profile> profileMap = profileRepository.findByMemberIdIn(memberIds).stream()
                 .collect(Collectors.toMap(Profile::getMemberId, profile -> profile));
 
-        Map<Long, Category> categoryMap = categoryRepository.findAll().stream()
-                .collect(Collectors.toMap(Category::getId, category -> category));
-
         return memberMap.values().stream()
                 .collect(Collectors.toMap(
                         Member::getId,
                         member -> {
                             Profile profile = profileMap.get(member.getId());
 
-                            Category category = null;
+                            CategoryResponseDto category = null;
                             if (profile != null && profile.getCategoryId() != null) {
-                                category = categoryMap.get(profile.getCategoryId());
+                                category = categoryService.findCategory(profile.getCategoryId()).orElse(null);
                             }
 
                             return ProfileResponseDto.of(member, profile, category);
@@ -100,6 +126,7 @@ public class MemberService {
 
         UploadFileResult result = fileStorage.upload(file);
         profile.updateImage(result.fileKey());
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId));
     }
 
     @Transactional
@@ -115,6 +142,7 @@ public class MemberService {
         }
 
         profile.updateImage(null);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId));
     }
 
     @Transactional
@@ -130,6 +158,7 @@ public class MemberService {
             throw new MemberException(ErrorCode.NICKNAME_DUPLICATION);
         }
         member.updateNickname(nickname);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId));
     }
 
     @Transactional
@@ -140,11 +169,12 @@ public class MemberService {
         Profile profile = profileRepository.findById(memberId)
                 .orElseThrow(MemberException.ProfileNotFound::new);
 
-        if (!categoryRepository.existsById(requestDto.categoryId())) {
+        if (categoryService.findCategory(requestDto.categoryId()).isEmpty()) {
             throw new CategoryException.NotFound();
         }
 
         profile.updateIntroduceAndCategory(requestDto.introduction(), requestDto.categoryId());
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId));
     }
 
     @Transactional
@@ -160,6 +190,7 @@ public class MemberService {
             throw new MemberException(ErrorCode.PHONE_NUM_DUPLICATION);
         }
         member.updatePhoneNum(phoneNum);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId));
     }
 
     private void validateDuplicateEmail(String email) {
@@ -200,6 +231,7 @@ public class MemberService {
 
         profileRepository.delete(profile);
         memberRepository.delete(member);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId));
     }
 
     private Profile createProfile(Member member) {
@@ -0,0 +1,150 @@
+package com.kosa.fillinv.member.service.cache;
+
+import com.kosa.fillinv.global.util.InvalidationStamps;
+import com.kosa.fillinv.global.util.TransactionCallbacks;
+import com.kosa.fillinv.member.dto.profile.MemberSummaryDto;
+import com.kosa.fillinv.member.event.MemberProfileChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원 요약(닉네임, 이미지) 캐시
+ * <p>
+ * - 이메일, 전화번호 같은 개인정보가 힙에 오래 남지 않도록 전체 프로필이 아닌 요약만 담는다.
+ * - 스케쥴 목록처럼 여러 회원의 닉네임이 필요한 화면에서 없는 회원만 한 번에 조회해 채운다.
+ * - 프로필 변경/회원 탈퇴 시 해당 회원 항목만 제거하고 무효화 시점을 기록해, 변경 전에 조회를 시작한 결과가 다시 저장되지 않게 한다.
+ * - 항목 수가 maxEntries 를 넘으면 LRU 로 제거한다.
+ * - 무효화는 이 JVM 에서 일어난 변경만 반영하므로, 다른 인스턴스의 변경은 저장 후 ttl 이 지나 다시 조회할 때 반영된다.
+ */
+@Component
+public class MemberProfileCache {
+
+    private final int maxEntries;
+
+    private final long ttlNanos;
+
+    private final LongSupplier nanoTime;
+
+    private final InvalidationStamps stamps = new InvalidationStamps();
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Autowired
+    public MemberProfileCache(
+            @Value("${fillinv.member.profile-cache.max-entries:10000}") int maxEntries,
+            @Value("${fillinv.member.profile-cache.ttl-ms:300000}") long ttlMillis
+    ) {
+        this(maxEntries, ttlMillis, System::nanoTime);
+    }
+
+    MemberProfileCache(int maxEntries, long ttlMillis, LongSupplier nanoTime) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 캐시에 있는 요약은 그대로 사용하고, 없는 회원만 loader 로 한 번에 조회한다.
+     * 존재하지 않는 회원은 결과에 포함되지 않으며 캐시하지 않는다.
+     */
+    public Map<String, MemberSummaryDto> getAll(
+            Collection<String> memberIds,
+            Function<Set<String>, Map<String, MemberSummaryDto>> loader
+    ) {
+        Map<String, MemberSummaryDto> result = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+
+        lock.lock();
+        try {
+            long now = nanoTime.getAsLong();
+            for (String memberId : memberIds) {
+                Entry entry = entries.get(memberId);
+                if (entry != null && now - entry.expiresAt() < 0) {
+                    result.put(memberId, entry.summary());
+                } else {
+                    if (entry != null) {
+                        entries.remove(memberId);
+                    }
+                    misses.add(memberId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        // 조회를 시작하기 전의 시점을 기억해 두고, 조회 도중 변경된 회원은 저장하지 않는다
+        long stamp = stamps.now();
+
+        Map<String, MemberSummaryDto> loaded = loader.apply(misses);
+        result.putAll(loaded);
+
+        lock.lock();
+        try {
+            long expiresAt = nanoTime.getAsLong() + ttlNanos;
+            loaded.forEach((memberId, profile) -> {
+                if (stamps.isFresh(memberId, stamp)) {
+                    entries.put(memberId, new Entry(profile, expiresAt));
+                }
+            });
+
+            var iterator = entries.values().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return result;
+    }
+
+    // 변경이 커밋되기 전후 모두 이전 프로필을 보지 않도록 커밋 후 한 번 더 제거한다.
+    @EventListener
+    public void on(MemberProfileChangedEvent event) {
+        evict(event.memberId());
+        TransactionCallbacks.afterCommit(() -> evict(event.memberId()));
+    }
+
+    public void evict(String memberId) {
+        stamps.invalidate(memberId);
+
+        lock.lock();
+        try {
+            entries.remove(memberId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(MemberSummaryDto summary, long expiresAt) {
+    }
+}
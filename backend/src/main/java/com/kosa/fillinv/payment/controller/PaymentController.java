@@ -1,5 +1,6 @@
 package com.kosa.fillinv.payment.controller;
 
+import com.kosa.fillinv.payment.controller.dto.CartCheckoutCommand;
 import com.kosa.fillinv.payment.controller.dto.CheckoutCommand;
 import com.kosa.fillinv.payment.controller.dto.CheckoutResult;
 import com.kosa.fillinv.global.response.SuccessResponse;
@@ -31,6 +32,16 @@ public class PaymentController {
         return SuccessResponse.success(HttpStatus.OK, checkout);
     }
 
+    // 장바구니 결제 - 장바구니의 스케쥴을 하나의 결제로 묶는다 (orderId = cartId)
+    @PostMapping("/checkout/cart")
+    public SuccessResponse<CheckoutResult> checkoutCart(
+            @RequestBody CartCheckoutCommand request
+    ) {
+        CheckoutResult checkout = paymentService.checkoutCart(request);
+
+        return SuccessResponse.success(HttpStatus.OK, checkout);
+    }
+
     //  client가 TOSS에서 받은 paymentKey로 서버에서 TOSS에 확인
     @PostMapping("/confirm")
     public SuccessResponse<PaymentConfirmResult> confirm(
@@ -0,0 +1,6 @@
+package com.kosa.fillinv.payment.controller.dto;
+
+public record CartCheckoutCommand(
+        String cartId
+) {
+}
@@ -1,12 +1,25 @@
 package com.kosa.fillinv.payment.repository;
 
 import com.kosa.fillinv.payment.entity.Payment;
+import com.kosa.fillinv.payment.entity.PaymentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, String> {
     Optional<Payment> findByOrderId(String s);
+
+    // 좌석 점유 만료 처리 시 승인이 시작된 결제 조회 (스케쥴 잠금 뒤 최신 상태를 읽도록 잠금 조회)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT p FROM Payment p WHERE p.orderId IN :orderIds AND p.paymentStatus IN :statuses")
+    List<Payment> findAllByOrderIdInAndPaymentStatusIn(@Param("orderIds") Collection<String> orderIds,
+                                                      @Param("statuses") Collection<PaymentStatus> statuses);
 }
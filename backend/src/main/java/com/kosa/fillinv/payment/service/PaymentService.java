@@ -1,7 +1,10 @@
 package com.kosa.fillinv.payment.service;
 
+import com.kosa.fillinv.global.exception.BusinessException;
 import com.kosa.fillinv.global.exception.ResourceException;
+import com.kosa.fillinv.global.response.ErrorCode;
 import com.kosa.fillinv.payment.client.TossPaymentClient;
+import com.kosa.fillinv.payment.controller.dto.CartCheckoutCommand;
 import com.kosa.fillinv.payment.controller.dto.CheckoutCommand;
 import com.kosa.fillinv.payment.controller.dto.CheckoutResult;
 import com.kosa.fillinv.payment.domain.PSPConfirmationException;
@@ -14,6 +17,7 @@ import com.kosa.fillinv.payment.service.dto.PaymentConfirmCommand;
 import com.kosa.fillinv.payment.service.dto.PaymentConfirmResult;
 import com.kosa.fillinv.payment.service.dto.PaymentStatusUpdateCommand;
 import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
 import com.kosa.fillinv.schedule.repository.ScheduleRepository;
 import com.kosa.fillinv.schedule.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.ResourceAccessException;
 
 import java.sql.SQLException;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -65,6 +70,45 @@ public class PaymentService {
         return new CheckoutResult(command.scheduleId(), orderName, amount);
     }
 
+    /*
+     * 장바구니의 스케쥴을 하나의 Payment 로 묶어 저장
+     * orderId 로 cartId 를 사용하며, 결제 승인 시 장바구니의 스케쥴이 모두 결제 완료 처리된다
+     * */
+    @Transactional
+    public CheckoutResult checkoutCart(CartCheckoutCommand command) {
+
+        String cartId = command.cartId();
+
+        List<Schedule> schedules = scheduleRepository.findAllByCartId(cartId);
+        if (schedules.isEmpty()) {
+            throw new ResourceException.NotFound("장바구니를 찾을 수 없습니다. cartId: " + cartId);
+        }
+
+        // 좌석 점유가 만료되었거나 이미 결제된 스케쥴이 섞여 있으면 결제를 만들지 않는다
+        for (Schedule schedule : schedules) {
+            if (schedule.getStatus() != ScheduleStatus.PAYMENT_PENDING) {
+                throw new BusinessException(ErrorCode.INVALID_SCHEDULE_STATUS);
+            }
+        }
+
+        Schedule first = schedules.get(0);
+        int amount = schedules.stream().mapToInt(Schedule::getPrice).sum();
+        String orderName = first.getLessonTitle() + (schedules.size() > 1 ? " 외 " + (schedules.size() - 1) + "건" : "");
+
+        Payment initPayment = Payment.builder()
+                .id(UUID.randomUUID().toString())
+                .orderId(cartId)
+                .orderName(orderName)
+                .buyerId(first.getMenteeId())
+                .sellerId(first.getMentorId()) // 장바구니는 한 멘토의 레슨만 담을 수 있다
+                .amount(amount)
+                .build();
+
+        paymentRepository.save(initPayment);
+
+        return new CheckoutResult(cartId, orderName, amount);
+    }
+
     /*
      * TOSS에 결제 확인을 요청을 하는 메소드
      * 상태를 추적하기 위해 상태변경 시 PaymentHistory를 함께 저장
@@ -7,6 +7,7 @@ import com.kosa.fillinv.payment.entity.PaymentStatus;
 import com.kosa.fillinv.payment.repository.PaymentHistoryRepository;
 import com.kosa.fillinv.payment.repository.PaymentRepository;
 import com.kosa.fillinv.payment.service.dto.PaymentStatusUpdateCommand;
+import com.kosa.fillinv.schedule.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,7 @@ public class PaymentUpdateService {
 
     private final PaymentRepository paymentRepository;
     private final PaymentHistoryRepository paymentHistoryRepository;
+    private final ScheduleService scheduleService;
 
     private static PaymentHistory createPaymentHistory(Payment payment, PaymentStatus newStatus, String reason) {
         return PaymentHistory.builder()
@@ -32,6 +34,10 @@ public class PaymentUpdateService {
 
     @Transactional
     public void execute(PaymentStatusUpdateCommand command) {
+        // 스케쥴을 잠그고 결제 대기인지 확인한 뒤 승인 중으로 바꾼다
+        // (좌석 점유 만료 처리는 같은 잠금을 잡은 뒤 승인 중인 결제의 스케쥴을 취소하지 않는다)
+        scheduleService.lockPayableSchedules(command.orderId());
+
         Payment payment = paymentRepository.findByOrderId(command.orderId())
                 .orElseThrow(() -> new ResourceException.NotFound("결제 정보 없음"));
 
@@ -0,0 +1,8 @@
+package com.kosa.fillinv.review.dto;
+
+public record LessonRatingSum(
+        String lessonId,
+        Long scoreSum,
+        Long count
+) {
+}
@@ -0,0 +1,8 @@
+package com.kosa.fillinv.review.event;
+
+public record ReviewCreatedEvent(
+        String reviewId,
+        String lessonId,
+        Integer score
+) {
+}
@@ -1,6 +1,7 @@
 package com.kosa.fillinv.review.repository;
 
 import com.kosa.fillinv.review.dto.LessonAvgScore;
+import com.kosa.fillinv.review.dto.LessonRatingSum;
 import com.kosa.fillinv.review.dto.MyReviewVO;
 import com.kosa.fillinv.review.dto.ReviewStatsDTO;
 import com.kosa.fillinv.review.dto.ReviewWithNicknameVO;
@@ -25,6 +26,9 @@ public interface ReviewRepository extends JpaRepository<Review, String> {
         @Query("SELECT new com.kosa.fillinv.review.dto.LessonAvgScore(r.lessonId, AVG(r.score)) FROM Review r WHERE r.lessonId IN :lessonIds GROUP BY r.lessonId")
         List<LessonAvgScore> findAverageScoreByLessonIds(@Param("lessonIds") Collection<String> lessonIds);
 
+        @Query("SELECT new com.kosa.fillinv.review.dto.LessonRatingSum(r.lessonId, SUM(r.score), COUNT(r)) FROM Review r WHERE r.lessonId IN :lessonIds GROUP BY r.lessonId")
+        List<LessonRatingSum> findRatingSumByLessonIds(@Param("lessonIds") Collection<String> lessonIds);
+
     @EntityGraph(attributePaths = {"writer"})
         @Query("SELECT new com.kosa.fillinv.review.dto.ReviewWithNicknameVO(r, r.writer.nickname) " +
                         "FROM Review r " +
@@ -44,7 +48,4 @@ public interface ReviewRepository extends JpaRepository<Review, String> {
 
         @Query("SELECT r.lessonId, COUNT(r), AVG(r.score) FROM Review r JOIN Lesson l ON r.lessonId = l.id WHERE r.deletedAt IS NULL AND l.deletedAt IS NULL GROUP BY r.lessonId")
         List<ReviewStatsDTO> findReviewStatsByLessonId();
-
-        @Query("SELECT r.lessonId, r.score, r.createdAt FROM Review r WHERE r.deletedAt IS NULL")
-        List<Object[]> findAllReviewsForRanking();
 }
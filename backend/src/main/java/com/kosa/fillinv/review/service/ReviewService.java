@@ -3,6 +3,7 @@ package com.kosa.fillinv.review.service;
 import com.kosa.fillinv.global.response.ErrorCode;
 import com.kosa.fillinv.review.dto.*;
 import com.kosa.fillinv.review.entity.Review;
+import com.kosa.fillinv.review.event.ReviewCreatedEvent;
 import com.kosa.fillinv.review.exception.ReviewException;
 import com.kosa.fillinv.review.repository.ReviewRepository;
 import com.kosa.fillinv.schedule.entity.Schedule;
@@ -10,6 +11,7 @@ import com.kosa.fillinv.schedule.entity.ScheduleStatus;
 import com.kosa.fillinv.schedule.exception.ScheduleException;
 import com.kosa.fillinv.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,6 +29,7 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public LessonReviewListResponseDTO getReviewListByLesson(String lessonId, Pageable pageable) {
@@ -60,6 +63,11 @@ public class ReviewService {
                         LessonAvgScore::averageScore));
     }
 
+    @Transactional(readOnly = true)
+    public List<LessonRatingSum> getRatingSumByLessonIds(Set<String> lessonIds) {
+        return reviewRepository.findRatingSumByLessonIds(lessonIds);
+    }
+
     @Transactional
     public ReviewCreateResponseDTO createReview(String memberId, ReviewRequestDTO requestDTO) {
         Schedule schedule = scheduleRepository.findById(requestDTO.scheduleId())
@@ -87,6 +95,7 @@ public class ReviewService {
                 .build();
 
         reviewRepository.save(review);
+        eventPublisher.publishEvent(new ReviewCreatedEvent(review.getId(), review.getLessonId(), review.getScore()));
 
         return ReviewCreateResponseDTO.from(review.getId());
     }
@@ -1,26 +1,37 @@
 package com.kosa.fillinv.schedule.controller;
 
 import com.kosa.fillinv.global.exception.BusinessException;
+import com.kosa.fillinv.global.response.CursorResponse;
 import com.kosa.fillinv.global.response.ErrorCode;
 import com.kosa.fillinv.global.response.SuccessResponse;
 import com.kosa.fillinv.global.security.details.CustomMemberDetails;
+import com.kosa.fillinv.schedule.dto.request.ScheduleCartRequest;
 import com.kosa.fillinv.schedule.dto.request.ScheduleCreateRequest;
+import com.kosa.fillinv.schedule.dto.response.CalendarFeedResponse;
+import com.kosa.fillinv.schedule.dto.response.CreateCartResponse;
 import com.kosa.fillinv.schedule.dto.response.CreateScheduleResponse;
 import com.kosa.fillinv.schedule.dto.response.ScheduleDetailResponse;
 import com.kosa.fillinv.schedule.dto.response.ScheduleListResponse;
 import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.service.CalendarFeedTokenService;
+import com.kosa.fillinv.schedule.service.ScheduleCalendarExportService;
 import com.kosa.fillinv.schedule.service.ScheduleCreateService;
 import com.kosa.fillinv.schedule.service.ScheduleInquiryService;
 import com.kosa.fillinv.schedule.service.ScheduleService;
+import com.kosa.fillinv.schedule.service.dto.CartBookingResult;
 import com.kosa.fillinv.schedule.service.dto.ScheduleSearchCondition;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -30,6 +41,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
@@ -40,6 +52,8 @@ public class ScheduleController {
     private final ScheduleCreateService scheduleCreateService;
     private final ScheduleInquiryService scheduleInquiryService;
     private final ScheduleService scheduleService;
+    private final ScheduleCalendarExportService scheduleCalendarExportService;
+    private final CalendarFeedTokenService calendarFeedTokenService;
 
     // 스케쥴 생성
     @PostMapping
@@ -64,6 +78,21 @@ public class ScheduleController {
                 .body(SuccessResponse.success(HttpStatus.CREATED, new CreateScheduleResponse(scheduleId)));
     }
 
+    // 장바구니 예약 - 같은 멘토의 여러 레슨/시간을 한 번에 예약하고 cartId 로 한 번에 결제
+    @PostMapping("/cart")
+    public ResponseEntity<SuccessResponse<CreateCartResponse>> createCartSchedules(
+            @AuthenticationPrincipal CustomMemberDetails customMemberDetails,
+            @RequestBody ScheduleCartRequest request
+    ) {
+        String memberId = customMemberDetails.memberId();
+
+        CartBookingResult result = scheduleCreateService.createCartSchedules(memberId, request.items());
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(SuccessResponse.success(HttpStatus.CREATED, new CreateCartResponse(result.cartId(), result.scheduleIds())));
+    }
+
     // 스케쥴 상세 조회
     // Ex: GET /api/v1/schedules/1/times/95e3a0e6-e685-4a60-ab63-880031fd4c69
     @GetMapping("/{scheduleId}/times/{scheduleTimeId}")
@@ -132,6 +161,58 @@ public class ScheduleController {
                 .ok(SuccessResponse.success(HttpStatus.OK, responses));
     }
 
+    // 예정 스케줄 커서 조회: GET /api/v1/schedules/upcoming/cursor (전체 수 없이 다음 페이지 여부만 반환)
+    @GetMapping("/upcoming/cursor")
+    public ResponseEntity<SuccessResponse<CursorResponse<ScheduleListResponse>>> getUpcomingSchedulesByCursor(
+            @AuthenticationPrincipal CustomMemberDetails customMemberDetails,
+            @RequestParam Instant from,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) ScheduleStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size
+    ) {
+        String memberId = customMemberDetails.memberId();
+
+        CursorResponse<ScheduleListResponse> responses = scheduleService.searchUpcomingSchedules(
+                memberId,
+                ScheduleSearchCondition.builder()
+                        .from(from)
+                        .keyword(keyword)
+                        .status(status)
+                        .size(size)
+                        .build(),
+                cursor);
+
+        return ResponseEntity
+                .ok(SuccessResponse.success(HttpStatus.OK, responses));
+    }
+
+    // 과거 스케줄 커서 조회: GET /api/v1/schedules/past/cursor (전체 수 없이 다음 페이지 여부만 반환)
+    @GetMapping("/past/cursor")
+    public ResponseEntity<SuccessResponse<CursorResponse<ScheduleListResponse>>> getPastSchedulesByCursor(
+            @AuthenticationPrincipal CustomMemberDetails customMemberDetails,
+            @RequestParam Instant to,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) ScheduleStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size
+    ) {
+        String memberId = customMemberDetails.memberId();
+
+        CursorResponse<ScheduleListResponse> responses = scheduleService.searchPastSchedules(
+                memberId,
+                ScheduleSearchCondition.builder()
+                        .to(to)
+                        .keyword(keyword)
+                        .status(status)
+                        .size(size)
+                        .build(),
+                cursor);
+
+        return ResponseEntity
+                .ok(SuccessResponse.success(HttpStatus.OK, responses));
+    }
+
     // 캘린더 / 스케쥴 전체 조회 (GET) - 시간순 정렬 (특정 날짜 위주)
     @GetMapping("/calendar")
     public ResponseEntity<SuccessResponse<Page<ScheduleListResponse>>> calendarSchedules(
@@ -155,6 +236,75 @@ public class ScheduleController {
                 .ok(SuccessResponse.success(HttpStatus.OK, responses));
     }
 
+    // 캘린더 커서 조회: GET /api/v1/schedules/calendar/cursor (전체 수 없이 다음 페이지 여부만 반환)
+    @GetMapping("/calendar/cursor")
+    public ResponseEntity<SuccessResponse<CursorResponse<ScheduleListResponse>>> calendarSchedulesByCursor(
+            @AuthenticationPrincipal CustomMemberDetails customMemberDetails,
+            @RequestParam Instant start,
+            @RequestParam Instant end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "1000") Integer size
+    ) {
+        String memberId = customMemberDetails.memberId();
+
+        CursorResponse<ScheduleListResponse> responses = scheduleService.calendar(memberId, start, end, size, cursor);
+
+        return ResponseEntity
+                .ok(SuccessResponse.success(HttpStatus.OK, responses));
+    }
+
+    // 캘린더 구독 주소 발급: POST /api/v1/schedules/calendar/feed
+    // 다시 발급하면 이전 주소는 더 이상 쓸 수 없다
+    @PostMapping("/calendar/feed")
+    public ResponseEntity<SuccessResponse<CalendarFeedResponse>> issueCalendarFeed(
+            @AuthenticationPrincipal CustomMemberDetails customMemberDetails
+    ) {
+        String memberId = customMemberDetails.memberId();
+
+        String token = calendarFeedTokenService.issue(memberId);
+
+        String feedUrl = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{token}.ics")
+                .buildAndExpand(token)
+                .toUriString();
+
+        return ResponseEntity
+                .ok(SuccessResponse.success(HttpStatus.OK, new CalendarFeedResponse(token, feedUrl)));
+    }
+
+    // 캘린더 구독 주소 폐기: DELETE /api/v1/schedules/calendar/feed
+    @DeleteMapping("/calendar/feed")
+    public ResponseEntity<SuccessResponse<Void>> revokeCalendarFeed(
+            @AuthenticationPrincipal CustomMemberDetails customMemberDetails
+    ) {
+        calendarFeedTokenService.revoke(customMemberDetails.memberId());
+
+        return ResponseEntity
+                .ok(SuccessResponse.success(HttpStatus.OK));
+    }
+
+    // 캘린더 앱 구독용 iCalendar 내보내기: GET /api/v1/schedules/calendar/feed/{token}.ics
+    // 캘린더 앱은 JWT 를 보낼 수 없으므로 발급한 구독 토큰으로 회원을 찾는다
+    // If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 응답
+    @GetMapping("/calendar/feed/{token}.ics")
+    public void exportCalendar(
+            @PathVariable String token,
+            WebRequest webRequest,
+            HttpServletResponse response
+    ) throws IOException {
+        String memberId = calendarFeedTokenService.findMemberId(token);
+
+        if (webRequest.checkNotModified(scheduleCalendarExportService.etag(memberId))) {
+            return;
+        }
+
+        response.setContentType("text/calendar;charset=UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"fillinv.ics\"");
+        scheduleCalendarExportService.export(memberId, response.getOutputStream());
+    }
+
     // 검색
     @GetMapping("/search")
     public ResponseEntity<SuccessResponse<Page<ScheduleListResponse>>> searchSchedules(
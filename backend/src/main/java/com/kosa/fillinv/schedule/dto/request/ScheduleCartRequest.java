@@ -0,0 +1,9 @@
+package com.kosa.fillinv.schedule.dto.request;
+
+import java.util.List;
+
+public record ScheduleCartRequest(
+        // 장바구니 예약 (요청) - 같은 멘토의 레슨만 함께 예약 가능
+        List<ScheduleCreateRequest> items
+) {
+}
@@ -0,0 +1,7 @@
+package com.kosa.fillinv.schedule.dto.response;
+
+public record CalendarFeedResponse(
+        String token, // 발급 시에만 전달되며 다시 조회할 수 없다
+        String feedUrl // 캘린더 앱에 등록할 구독 주소
+) {
+}
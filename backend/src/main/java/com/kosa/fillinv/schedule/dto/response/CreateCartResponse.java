@@ -0,0 +1,9 @@
+package com.kosa.fillinv.schedule.dto.response;
+
+import java.util.List;
+
+public record CreateCartResponse(
+        String cartId, // 결제(checkout) 시 orderId 로 사용
+        List<String> scheduleIds
+) {
+}
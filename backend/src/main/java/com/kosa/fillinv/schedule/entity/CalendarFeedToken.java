@@ -0,0 +1,40 @@
+package com.kosa.fillinv.schedule.entity;
+
+import com.kosa.fillinv.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 캘린더 구독(.ics) 주소 토큰
+ * 캘린더 앱은 Authorization 헤더를 보낼 수 없으므로 주소에 담긴 토큰으로 회원을 찾는다.
+ * 토큰 원문은 발급 응답으로만 전달하고 SHA-256 해시만 저장하며, 다시 발급하거나 행을 지우면 이전 주소는 바로 쓸 수 없다.
+ */
+@Entity
+@Getter
+@Table(name = "calendar_feed_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_calendar_feed_tokens_token_hash", columnNames = "token_hash"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CalendarFeedToken extends BaseEntity {
+
+    @Id
+    @Column(name = "member_id", nullable = false)
+    private String memberId;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    public CalendarFeedToken(String memberId, String tokenHash) {
+        this.memberId = memberId;
+        this.tokenHash = tokenHash;
+    }
+
+    public void rotate(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+}
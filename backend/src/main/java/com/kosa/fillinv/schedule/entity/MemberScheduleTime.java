@@ -0,0 +1,81 @@
+package com.kosa.fillinv.schedule.entity;
+
+import com.kosa.fillinv.schedule.repository.ScheduleParticipantRole;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 회원별 스케쥴 시간 조회용 비정규화 읽기 모델
+ * 스케쥴 시간 하나당 멘토, 멘티 행을 하나씩 두어 (member_id, start_time) 인덱스만으로 예정/지난/캘린더 조회를 처리한다.
+ */
+@Entity
+@Table(name = "member_schedule_times", indexes = {
+        // 검색 조건과 조회 컬럼을 모두 포함해 키워드 검색이 아니면 인덱스만으로 처리 (ScheduleSearchRepository)
+        // 키워드 검색도 제목 색인(schedule_id) 조건으로 먼저 거른 뒤에만 행을 읽는다
+        @Index(name = "idx_member_schedule_times_member_start", columnList = "member_id, start_time, role, status, schedule_time_id, schedule_id"),
+        @Index(name = "idx_member_schedule_times_schedule", columnList = "schedule_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberScheduleTime {
+
+    @Id
+    @Column(name = "member_schedule_time_id", nullable = false)
+    private String id;
+
+    @Column(name = "member_id", nullable = false)
+    private String memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false)
+    private ScheduleParticipantRole role;
+
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ScheduleStatus status;
+
+    @Column(name = "schedule_time_id", nullable = false)
+    private String scheduleTimeId;
+
+    @Column(name = "schedule_id", nullable = false)
+    private String scheduleId;
+
+    // 키워드 검색용
+    @Column(name = "lesson_title", nullable = false)
+    private String lessonTitle;
+
+    @Builder
+    public MemberScheduleTime(String memberId, ScheduleParticipantRole role, Instant startTime, ScheduleStatus status,
+                              String scheduleTimeId, String scheduleId, String lessonTitle) {
+        this.id = UUID.randomUUID().toString();
+        this.memberId = memberId;
+        this.role = role;
+        this.startTime = startTime;
+        this.status = status;
+        this.scheduleTimeId = scheduleTimeId;
+        this.scheduleId = scheduleId;
+        this.lessonTitle = lessonTitle;
+    }
+
+    public static MemberScheduleTime of(ScheduleTime scheduleTime, String memberId, ScheduleParticipantRole role) {
+        Schedule schedule = scheduleTime.getSchedule();
+        return MemberScheduleTime.builder()
+                .memberId(memberId)
+                .role(role)
+                .startTime(scheduleTime.getStartTime())
+                .status(schedule.getStatus())
+                .scheduleTimeId(scheduleTime.getId())
+                .scheduleId(schedule.getId())
+                .lessonTitle(schedule.getLessonTitle())
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
@@ -20,7 +21,7 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = @Index(name = "idx_schedules_cart_id", columnList = "cart_id"))
 @Getter
 @Builder
 @AllArgsConstructor
@@ -86,6 +87,10 @@ public class Schedule extends BaseEntity {
     @Column(name = "available_time_id")
     private String availableTimeId;
 
+    // 장바구니로 함께 예약/결제한 스케쥴 묶음 (단건 예약은 null)
+    @Column(name = "cart_id")
+    private String cartId;
+
     // STUDY 레슨은 여러 scheduleTime을 가질 수 있기 때문에 List 사용
     @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL)
     private List<ScheduleTime> scheduleTimeList = new ArrayList<>();
@@ -104,6 +109,10 @@ public class Schedule extends BaseEntity {
         this.status = scheduleStatus;
     }
 
+    public void assignCart(String cartId) {
+        this.cartId = cartId;
+    }
+
     public void markPaymentCompleted() {
         if (status != ScheduleStatus.PAYMENT_PENDING) return;
         this.status = ScheduleStatus.APPROVAL_PENDING;
@@ -0,0 +1,36 @@
+package com.kosa.fillinv.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 스케쥴 레슨 제목 2-gram 색인 (member_id, token -> schedule_id)
+ * 스케쥴의 레슨 제목은 생성 시점 스냅샷이라 바뀌지 않으므로 생성 시 한 번만 기록한다.
+ * 멘토, 멘티 각각의 행을 두어 키워드 검색이 회원 조건과 함께 인덱스 범위 조회로 끝나도록 한다.
+ */
+@Entity
+@Getter
+@Table(name = "schedule_title_tokens",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_schedule_title_tokens_member_token_schedule",
+                columnNames = {"member_id", "token", "schedule_id"}),
+        indexes = @Index(name = "idx_schedule_title_tokens_schedule", columnList = "schedule_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleTitleToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "schedule_title_token_id", nullable = false)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private String memberId;
+
+    @Column(name = "token", nullable = false, length = 16)
+    private String token;
+
+    @Column(name = "schedule_id", nullable = false)
+    private String scheduleId;
+}
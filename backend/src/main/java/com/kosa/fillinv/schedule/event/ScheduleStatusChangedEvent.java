@@ -0,0 +1,32 @@
+package com.kosa.fillinv.schedule.event;
+
+import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+
+/**
+ * 스케쥴 상태 변경 이벤트
+ * 스케쥴 생성 시에는 from 이 null 이다.
+ */
+public record ScheduleStatusChangedEvent(
+        String scheduleId,
+        String lessonId,
+        String mentorId,
+        String lessonType,
+        ScheduleStatus from,
+        ScheduleStatus to
+) {
+    public static ScheduleStatusChangedEvent of(Schedule schedule, ScheduleStatus from) {
+        return new ScheduleStatusChangedEvent(
+                schedule.getId(),
+                schedule.getLessonId(),
+                schedule.getMentorId(),
+                schedule.getLessonType(),
+                from,
+                schedule.getStatus()
+        );
+    }
+
+    public static ScheduleStatusChangedEvent created(Schedule schedule) {
+        return of(schedule, null);
+    }
+}
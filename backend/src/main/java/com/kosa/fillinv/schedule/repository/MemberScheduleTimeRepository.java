@@ -0,0 +1,68 @@
+package com.kosa.fillinv.schedule.repository;
+
+import com.kosa.fillinv.schedule.entity.MemberScheduleTime;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MemberScheduleTimeRepository extends JpaRepository<MemberScheduleTime, String> {
+
+    @Modifying
+    @Query("UPDATE MemberScheduleTime m SET m.status = :status WHERE m.scheduleId = :scheduleId")
+    int updateStatus(@Param("scheduleId") String scheduleId, @Param("status") ScheduleStatus status);
+
+    @Modifying
+    @Query("DELETE FROM MemberScheduleTime m WHERE m.scheduleId IN :scheduleIds")
+    int deleteByScheduleIdIn(@Param("scheduleIds") Collection<String> scheduleIds);
+
+    // schedules, schedule_times 로부터 스케쥴의 행을 다시 채운다 (멘토 행 + 멘티 행)
+    @Modifying
+    @Query(value = "INSERT INTO member_schedule_times " +
+            "(member_schedule_time_id, member_id, role, start_time, status, schedule_time_id, schedule_id, lesson_title) " +
+            "SELECT UUID(), s.lesson_mentor_id, 'MENTOR', st.start_time, s.status, st.schedule_time_id, s.schedule_id, s.lesson_title " +
+            "FROM schedule_times st JOIN schedules s ON s.schedule_id = st.schedule_id " +
+            "WHERE s.schedule_id IN (:scheduleIds) " +
+            "UNION ALL " +
+            "SELECT UUID(), s.mentee_id, 'MENTEE', st.start_time, s.status, st.schedule_time_id, s.schedule_id, s.lesson_title " +
+            "FROM schedule_times st JOIN schedules s ON s.schedule_id = st.schedule_id " +
+            "WHERE s.schedule_id IN (:scheduleIds)",
+            nativeQuery = true)
+    int projectSchedules(@Param("scheduleIds") Collection<String> scheduleIds);
+
+    /**
+     * 읽기 모델(행 수, 회원/역할/상태/시작 시각)이나 제목 색인이 원본과 다른 스케쥴 id 를 after 다음부터 schedule_id 순으로 조회
+     * 잠그지 않는 조회이므로 재구성 중에도 스케쥴 생성, 상태 변경을 막지 않는다.
+     */
+    @Query(value = "SELECT s.schedule_id FROM schedules s WHERE s.schedule_id > :after AND (" +
+            "(SELECT COUNT(*) FROM member_schedule_times m WHERE m.schedule_id = s.schedule_id) " +
+            "<> 2 * (SELECT COUNT(*) FROM schedule_times st WHERE st.schedule_id = s.schedule_id) " +
+            "OR EXISTS (SELECT 1 FROM schedule_times st WHERE st.schedule_id = s.schedule_id AND (" +
+            "NOT EXISTS (SELECT 1 FROM member_schedule_times m WHERE m.schedule_id = s.schedule_id " +
+            "AND m.schedule_time_id = st.schedule_time_id AND m.role = 'MENTOR' AND m.member_id = s.lesson_mentor_id " +
+            "AND m.status = s.status AND m.start_time = st.start_time) " +
+            "OR NOT EXISTS (SELECT 1 FROM member_schedule_times m WHERE m.schedule_id = s.schedule_id " +
+            "AND m.schedule_time_id = st.schedule_time_id AND m.role = 'MENTEE' AND m.member_id = s.mentee_id " +
+            "AND m.status = s.status AND m.start_time = st.start_time))) " +
+            "OR (CHAR_LENGTH(TRIM(s.lesson_title)) >= 2 AND NOT EXISTS " +
+            "(SELECT 1 FROM schedule_title_tokens t WHERE t.schedule_id = s.schedule_id))) " +
+            "ORDER BY s.schedule_id LIMIT :limit",
+            nativeQuery = true)
+    List<String> findDriftedScheduleIds(@Param("after") String after, @Param("limit") int limit);
+
+    // 원본 스케쥴이 없는 읽기 모델, 제목 색인의 스케쥴 id (잠그지 않는 조회)
+    @Query(value = "SELECT m.schedule_id FROM member_schedule_times m " +
+            "WHERE NOT EXISTS (SELECT 1 FROM schedules s WHERE s.schedule_id = m.schedule_id) " +
+            "UNION " +
+            "SELECT t.schedule_id FROM schedule_title_tokens t " +
+            "WHERE NOT EXISTS (SELECT 1 FROM schedules s WHERE s.schedule_id = t.schedule_id) " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<String> findOrphanScheduleIds(@Param("limit") int limit);
+}
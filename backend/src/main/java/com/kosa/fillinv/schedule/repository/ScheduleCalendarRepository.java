@@ -0,0 +1,80 @@
+package com.kosa.fillinv.schedule.repository;
+
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 캘린더 내보내기용 조회 (member_schedule_times 기반)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleCalendarRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 회원 일정 목록의 지문 (행 수 + 행별 CRC32 의 XOR/합)
+     * 모두 (member_id, start_time, role, status, schedule_time_id) 인덱스에 있는 컬럼이므로 테이블을 읽지 않는다.
+     * 일정이 추가/삭제되거나 상태가 바뀌면 값이 달라진다. (레슨 제목, 시간은 생성 시점 스냅샷이라 바뀌지 않는다)
+     */
+    public String fingerprint(String memberId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) AS cnt, " +
+                        "COALESCE(BIT_XOR(CRC32(CONCAT_WS('|', schedule_time_id, role, status, start_time))), 0) AS crc_xor, " +
+                        "COALESCE(SUM(CRC32(CONCAT_WS('|', schedule_time_id, role, status, start_time))), 0) AS crc_sum " +
+                        "FROM member_schedule_times WHERE member_id = ?",
+                (rs, rowNum) -> Long.toHexString(rs.getLong("cnt"))
+                        + "-" + Long.toHexString(rs.getLong("crc_xor"))
+                        + "-" + Long.toHexString(rs.getLong("crc_sum")),
+                memberId);
+    }
+
+    /**
+     * 회원 일정을 (start_time, role, schedule_time_id) 순으로 after 다음부터 limit 개 조회 (after 가 null 이면 처음부터)
+     * 자기 레슨을 예약한 경우 같은 스케쥴 시간이 멘토/멘티 두 행이므로 role 까지 키에 포함한다.
+     */
+    public List<CalendarEntry> findEntriesAfter(String memberId, CalendarEntry after, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT m.schedule_time_id, m.role, m.status, m.start_time, st.end_time, m.lesson_title " +
+                        "FROM member_schedule_times m " +
+                        "JOIN schedule_times st ON st.schedule_time_id = m.schedule_time_id " +
+                        "WHERE m.member_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(memberId);
+
+        if (after != null) {
+            Timestamp startTime = Timestamp.from(after.startTime());
+            sql.append(" AND (m.start_time > ? OR (m.start_time = ? AND (m.role > ? OR (m.role = ? AND m.schedule_time_id > ?))))");
+            args.addAll(List.of(startTime, startTime, after.role().name(), after.role().name(), after.scheduleTimeId()));
+        }
+        sql.append(" ORDER BY m.start_time, m.role, m.schedule_time_id LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new CalendarEntry(
+                        rs.getString("schedule_time_id"),
+                        ScheduleParticipantRole.valueOf(rs.getString("role")),
+                        ScheduleStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("start_time").toInstant(),
+                        rs.getTimestamp("end_time").toInstant(),
+                        rs.getString("lesson_title")),
+                args.toArray());
+    }
+
+    public record CalendarEntry(
+            String scheduleTimeId,
+            ScheduleParticipantRole role,
+            ScheduleStatus status,
+            Instant startTime,
+            Instant endTime,
+            String lessonTitle
+    ) {
+    }
+}
@@ -1,14 +1,17 @@
 package com.kosa.fillinv.schedule.repository;
 
-import com.kosa.fillinv.lesson.service.dto.BookedTimeVO;
 import com.kosa.fillinv.lesson.service.dto.LessonCountVO;
 import com.kosa.fillinv.review.dto.UnwrittenReviewVO;
 import com.kosa.fillinv.schedule.entity.Schedule;
 import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.service.dto.MentorBookedTimeVO;
+import com.kosa.fillinv.schedule.service.dto.SeatHoldVO;
+import jakarta.persistence.LockModeType;
 import java.time.Instant;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Repository;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, String> {
@@ -70,19 +74,45 @@ public interface ScheduleRepository extends JpaRepository<Schedule, String> {
 
         Long countByLessonIdAndStatusIn(String lessonId, Collection<ScheduleStatus> statuses);
 
-        @Query("SELECT s.lessonId, COUNT(s) FROM Schedule s JOIN Lesson l ON s.lessonId = l.id WHERE s.createdAt >= :startDate AND s.deletedAt IS NULL AND l.deletedAt IS NULL GROUP BY s.lessonId")
-        List<Object[]> countByLessonIdAndCreatedAtAfter(@Param("startDate") Instant startDate);
-
-        @Query("SELECT new com.kosa.fillinv.lesson.service.dto.BookedTimeVO(st.startTime, st.endTime) " +
+        // 멘토의 모든 레슨에 걸친 예약 시간 (멘토별 예약 시간 색인 구성용)
+        @Query("SELECT new com.kosa.fillinv.schedule.service.dto.MentorBookedTimeVO(s.id, st.startTime, st.endTime) " +
                         "FROM Schedule s " +
                         "JOIN s.scheduleTimeList st " +
-                        "WHERE s.lessonId = :lessonId AND s.status IN :statuses AND st.startTime >= :since")
-        List<BookedTimeVO> findBookedTimesByLessonIdAndStatusInAndStartTimeAfter(@Param("lessonId") String lessonId,
+                        "WHERE s.mentorId = :mentorId AND s.status IN :statuses AND st.endTime > :since")
+        List<MentorBookedTimeVO> findMentorBookedTimes(@Param("mentorId") String mentorId,
                         @Param("statuses") Collection<ScheduleStatus> statuses, @Param("since") Instant since);
 
-        @Query("SELECT s.lessonId, s.status, COUNT(s) " +
-                        "FROM Schedule s " +
-                        "WHERE s.deletedAt IS NULL " +
-                        "GROUP BY s.lessonId, s.status")
-        List<Object[]> countByLessonIdGroupedByStatus();
+        // 멘토의 예약 시간 중 start ~ end 와 겹치는 시간이 있는지 (1:1 멘토링 예약 시 DB 기준 겹침 확인)
+        @Query("SELECT COUNT(st) > 0 FROM Schedule s " +
+                        "JOIN s.scheduleTimeList st " +
+                        "WHERE s.mentorId = :mentorId AND s.status IN :statuses " +
+                        "AND st.startTime < :endTime AND st.endTime > :startTime")
+        boolean existsMentorBookedTimeOverlapping(@Param("mentorId") String mentorId,
+                        @Param("statuses") Collection<ScheduleStatus> statuses,
+                        @Param("startTime") Instant startTime, @Param("endTime") Instant endTime);
+
+        // 주어진 스케쥴 중 해당 상태인 스케쥴 id (색인에 남은 예약이 아직 유효한지 확인)
+        @Query("SELECT s.id FROM Schedule s WHERE s.id IN :scheduleIds AND s.status IN :statuses")
+        List<String> findIdsByIdInAndStatusIn(@Param("scheduleIds") Collection<String> scheduleIds,
+                        @Param("statuses") Collection<ScheduleStatus> statuses);
+
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT s FROM Schedule s WHERE s.id = :scheduleId")
+        Optional<Schedule> findByIdForUpdate(@Param("scheduleId") String scheduleId);
+
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT s FROM Schedule s WHERE s.cartId = :cartId")
+        List<Schedule> findAllByCartIdForUpdate(@Param("cartId") String cartId);
+
+        List<Schedule> findAllByCartId(String cartId);
+
+        // 좌석 점유 만료 처리 대상 (결제 완료와 동시에 처리되지 않도록 잠금)
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT s FROM Schedule s WHERE s.id IN :scheduleIds AND s.status = :status")
+        List<Schedule> findAllByIdInAndStatusForUpdate(@Param("scheduleIds") Collection<String> scheduleIds,
+                        @Param("status") ScheduleStatus status);
+
+        @Query("SELECT new com.kosa.fillinv.schedule.service.dto.SeatHoldVO(s.id, s.createdAt) " +
+                        "FROM Schedule s WHERE s.status = :status")
+        List<SeatHoldVO> findSeatHoldsByStatus(@Param("status") ScheduleStatus status);
 }
@@ -0,0 +1,204 @@
+package com.kosa.fillinv.schedule.repository;
+
+import com.kosa.fillinv.global.util.NGramTokenizer;
+import com.kosa.fillinv.schedule.service.dto.ScheduleCursor;
+import com.kosa.fillinv.schedule.service.dto.ScheduleSearchCondition;
+import com.kosa.fillinv.schedule.service.dto.ScheduleSortType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * member_schedule_times 기반 스케쥴 검색 쿼리
+ * <p>
+ * - 사용된 조건만 WHERE 에 넣어 (member_id, start_time, ...) 인덱스 범위 조회가 되도록 하고, 조인 없이 schedule_time_id 만 읽는다.
+ * - 조건 조합(쿼리 모양)마다 SQL 문자열을 한 번만 만들어 두고 재사용하므로, 같은 모양의 검색은 같은 PreparedStatement 를 쓴다.
+ * - 키워드는 회원별 제목 2-gram 색인(schedule_title_tokens)에서 모든 토큰을 가진 스케쥴만 후보로 남긴 뒤 LIKE 로 오탐을 거른다.
+ * - 커서 조회는 (start_time, schedule_time_id) 다음 행부터 size + 1 개를 읽어 다음 페이지 여부만 판단하고 COUNT 를 하지 않는다.
+ * - 자기 레슨을 예약하면 같은 회원의 멘토 행과 멘티 행이 함께 있으므로, 역할을 지정하지 않은 조회는 DISTINCT 로 한 번만 센다.
+ * 스케쥴 본문은 호출 측에서 찾은 id 로 한 번에 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleSearchRepository {
+
+    private static final int FROM = 1;
+    private static final int TO = 1 << 1;
+    private static final int STATUS = 1 << 2;
+    private static final int KEYWORD = 1 << 3;
+    private static final int SINGLE_ROLE = 1 << 4;
+    private static final int DESC = 1 << 5;
+    private static final int CURSOR = 1 << 6;
+
+    // 키워드 토큰 수는 이 비트부터 기록 (토큰 수마다 IN 목록 길이가 다르다)
+    private static final int TOKEN_COUNT_SHIFT = 8;
+    // 색인 조회에 쓰는 최대 토큰 수 (나머지는 LIKE 로 확인되므로 쿼리 모양 수를 제한한다)
+    private static final int MAX_KEYWORD_TOKENS = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Integer, QueryShape> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * 조건에 맞는 회원의 schedule_time_id 를 시작 시각 순으로 페이지 조회 (전체 수 포함)
+     * participantRole 이 없으면 멘토, 멘티 스케쥴을 모두 조회한다.
+     */
+    public Page<String> searchScheduleTimeIds(ScheduleSearchCondition condition) {
+        Filter filter = Filter.of(condition, null);
+        QueryShape shape = shapes.computeIfAbsent(filter.key(), ScheduleSearchRepository::shape);
+
+        PageRequest pageRequest = PageRequest.of(condition.page(), condition.size(), condition.sortType().toSort());
+
+        List<Object> pageArgs = new ArrayList<>(filter.args());
+        pageArgs.add(pageRequest.getPageSize());
+        pageArgs.add(pageRequest.getOffset());
+        List<String> ids = jdbcTemplate.query(shape.select(),
+                (rs, rowNum) -> rs.getString("schedule_time_id"), pageArgs.toArray());
+
+        // 첫 페이지가 다 차지 않으면 전체 수를 따로 세지 않는다
+        long total = pageRequest.getOffset() == 0 && ids.size() < pageRequest.getPageSize()
+                ? ids.size()
+                : jdbcTemplate.queryForObject(shape.count(), Long.class, filter.args().toArray());
+
+        return new PageImpl<>(ids, pageRequest, total);
+    }
+
+    /**
+     * cursor 다음 항목부터 size 개를 조회 (cursor 가 null 이면 처음부터)
+     * 결과의 각 항목은 그 항목 다음부터 이어서 조회할 수 있는 커서다.
+     */
+    public Slice<ScheduleCursor> searchScheduleTimesAfter(ScheduleSearchCondition condition, ScheduleCursor cursor) {
+        Filter filter = Filter.of(condition, cursor);
+        QueryShape shape = shapes.computeIfAbsent(filter.key(), ScheduleSearchRepository::shape);
+
+        List<Object> args = new ArrayList<>(filter.args());
+        args.add(condition.size() + 1);
+        List<ScheduleCursor> rows = jdbcTemplate.query(shape.select(),
+                (rs, rowNum) -> new ScheduleCursor(
+                        condition.sortType(),
+                        rs.getTimestamp("start_time").toInstant(),
+                        rs.getString("schedule_time_id")),
+                args.toArray());
+
+        boolean hasNext = rows.size() > condition.size();
+        List<ScheduleCursor> content = hasNext ? rows.subList(0, condition.size()) : rows;
+        return new SliceImpl<>(content, PageRequest.ofSize(condition.size()), hasNext);
+    }
+
+    private static QueryShape shape(int key) {
+        boolean desc = (key & DESC) != 0;
+        // 역할을 지정하지 않으면 멘토 = 멘티인 스케쥴 시간이 두 행으로 잡힌다
+        String columns = (key & SINGLE_ROLE) != 0
+                ? "schedule_time_id, start_time"
+                : "DISTINCT schedule_time_id, start_time";
+        StringBuilder where = new StringBuilder(" FROM member_schedule_times WHERE member_id = ?");
+        if ((key & SINGLE_ROLE) != 0) {
+            where.append(" AND role = ?");
+        }
+        if ((key & FROM) != 0) {
+            where.append(" AND start_time >= ?");
+        }
+        if ((key & TO) != 0) {
+            where.append(" AND start_time <= ?");
+        }
+        if ((key & STATUS) != 0) {
+            where.append(" AND status = ?");
+        }
+        int tokenCount = key >>> TOKEN_COUNT_SHIFT;
+        if (tokenCount > 0) {
+            where.append(" AND schedule_id IN (SELECT schedule_id FROM schedule_title_tokens")
+                    .append(" WHERE member_id = ? AND token IN (")
+                    .append(String.join(", ", Collections.nCopies(tokenCount, "?")))
+                    .append(") GROUP BY schedule_id HAVING COUNT(*) = ?)");
+        }
+        if ((key & KEYWORD) != 0) {
+            where.append(" AND LOWER(lesson_title) LIKE ?");
+        }
+
+        String direction = desc ? "DESC" : "ASC";
+        String orderBy = " ORDER BY start_time " + direction + ", schedule_time_id " + direction;
+
+        if ((key & CURSOR) != 0) {
+            String after = desc ? "<" : ">";
+            where.append(" AND (start_time ").append(after).append(" ? OR (start_time = ? AND schedule_time_id ")
+                    .append(after).append(" ?))");
+            return new QueryShape("SELECT " + columns + where + orderBy + " LIMIT ?", null);
+        }
+
+        String select = "SELECT " + columns + where + orderBy + " LIMIT ? OFFSET ?";
+        String count = (key & SINGLE_ROLE) != 0
+                ? "SELECT COUNT(*)" + where
+                : "SELECT COUNT(DISTINCT schedule_time_id)" + where;
+
+        return new QueryShape(select, count);
+    }
+
+    // 쿼리 모양(key)과 모양에 맞는 순서의 파라미터
+    private record Filter(int key, List<Object> args) {
+
+        static Filter of(ScheduleSearchCondition condition, ScheduleCursor cursor) {
+            String keyword = condition.keyword() == null || condition.keyword().isBlank()
+                    ? null : "%" + condition.keyword().toLowerCase() + "%";
+            ScheduleParticipantRole role = condition.participantRole() == ScheduleParticipantRole.BOTH
+                    ? null : condition.participantRole();
+
+            int key = (condition.from() != null ? FROM : 0)
+                    | (condition.to() != null ? TO : 0)
+                    | (condition.status() != null ? STATUS : 0)
+                    | (keyword != null ? KEYWORD : 0)
+                    | (role != null ? SINGLE_ROLE : 0)
+                    | (condition.sortType() == ScheduleSortType.START_TIME_DESC ? DESC : 0);
+
+            // 파라미터 순서는 shape() 의 조건 순서와 같다
+            List<Object> args = new ArrayList<>();
+            args.add(condition.memberId());
+            if (role != null) {
+                args.add(role.name());
+            }
+            if (condition.from() != null) {
+                args.add(Timestamp.from(condition.from()));
+            }
+            if (condition.to() != null) {
+                args.add(Timestamp.from(condition.to()));
+            }
+            if (condition.status() != null) {
+                args.add(condition.status().name());
+            }
+            if (keyword != null && NGramTokenizer.isSearchable(condition.keyword())) {
+                List<String> tokens = NGramTokenizer.tokenize(condition.keyword()).stream()
+                        .limit(MAX_KEYWORD_TOKENS)
+                        .toList();
+                key |= tokens.size() << TOKEN_COUNT_SHIFT;
+                args.add(condition.memberId());
+                args.addAll(tokens);
+                args.add(tokens.size());
+            }
+            if (keyword != null) {
+                args.add(keyword);
+            }
+            if (cursor != null) {
+                key |= CURSOR;
+                args.add(Timestamp.from(cursor.startTime()));
+                args.add(Timestamp.from(cursor.startTime()));
+                args.add(cursor.scheduleTimeId());
+            }
+
+            return new Filter(key, args);
+        }
+    }
+
+    private record QueryShape(String select, String count) {
+    }
+}
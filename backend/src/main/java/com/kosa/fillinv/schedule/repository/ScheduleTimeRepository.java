@@ -3,8 +3,16 @@ package com.kosa.fillinv.schedule.repository;
 import com.kosa.fillinv.schedule.entity.ScheduleTime;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ScheduleTimeRepository  extends JpaRepository<ScheduleTime, String>, JpaSpecificationExecutor<ScheduleTime> {
+
+    @Query("SELECT st FROM ScheduleTime st JOIN FETCH st.schedule WHERE st.id IN :ids")
+    List<ScheduleTime> findAllWithScheduleByIdIn(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,68 @@
+package com.kosa.fillinv.schedule.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ScheduleTitleTokenRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스케쥴 참여자마다 제목 토큰 행을 추가
+     */
+    public void insert(String scheduleId, Set<String> memberIds, Set<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        List<String[]> rows = new ArrayList<>(memberIds.size() * tokens.size());
+        for (String memberId : memberIds) {
+            for (String token : tokens) {
+                rows.add(new String[]{memberId, token});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO schedule_title_tokens (member_id, token, schedule_id) VALUES (?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, row[0]);
+                    ps.setString(2, row[1]);
+                    ps.setString(3, scheduleId);
+                });
+    }
+
+    public void deleteByScheduleIds(Collection<String> scheduleIds) {
+        jdbcTemplate.update(
+                "DELETE FROM schedule_title_tokens WHERE schedule_id IN (" + placeholders(scheduleIds) + ")",
+                scheduleIds.toArray());
+    }
+
+    // 색인 재구성용 스케쥴 제목과 참여자 목록
+    public List<TitleSource> findTitleSources(Collection<String> scheduleIds) {
+        return jdbcTemplate.query(
+                "SELECT schedule_id, lesson_mentor_id, mentee_id, lesson_title FROM schedules " +
+                        "WHERE schedule_id IN (" + placeholders(scheduleIds) + ")",
+                (rs, rowNum) -> new TitleSource(
+                        rs.getString("schedule_id"),
+                        rs.getString("lesson_mentor_id"),
+                        rs.getString("mentee_id"),
+                        rs.getString("lesson_title")),
+                scheduleIds.toArray());
+    }
+
+    private static String placeholders(Collection<String> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+
+    public record TitleSource(String scheduleId, String mentorId, String menteeId, String lessonTitle) {
+    }
+}
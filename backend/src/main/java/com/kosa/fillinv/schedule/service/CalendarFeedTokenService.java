@@ -0,0 +1,68 @@
+package com.kosa.fillinv.schedule.service;
+
+import com.kosa.fillinv.global.exception.BusinessException;
+import com.kosa.fillinv.global.response.ErrorCode;
+import com.kosa.fillinv.schedule.entity.CalendarFeedToken;
+import com.kosa.fillinv.schedule.repository.CalendarFeedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * 캘린더 구독 주소 토큰 발급/폐기/확인
+ * 회원당 토큰은 하나이며, 다시 발급하면 이전 토큰은 폐기된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final CalendarFeedTokenRepository calendarFeedTokenRepository;
+
+    // 새 토큰 원문을 반환한다 (저장하지 않으므로 다시 조회할 수 없다)
+    @Transactional
+    public String issue(String memberId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        calendarFeedTokenRepository.findById(memberId)
+                .ifPresentOrElse(
+                        feedToken -> feedToken.rotate(hash(token)),
+                        () -> calendarFeedTokenRepository.save(new CalendarFeedToken(memberId, hash(token))));
+
+        return token;
+    }
+
+    @Transactional
+    public void revoke(String memberId) {
+        calendarFeedTokenRepository.deleteById(memberId);
+    }
+
+    // 토큰의 회원 id (폐기되었거나 없는 토큰이면 CALENDAR_FEED_NOT_FOUND)
+    @Transactional(readOnly = true)
+    public String findMemberId(String token) {
+        return calendarFeedTokenRepository.findByTokenHash(hash(token))
+                .map(CalendarFeedToken::getMemberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CALENDAR_FEED_NOT_FOUND));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
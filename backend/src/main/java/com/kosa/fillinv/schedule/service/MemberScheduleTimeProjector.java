@@ -0,0 +1,108 @@
+package com.kosa.fillinv.schedule.service;
+
+import com.kosa.fillinv.global.util.NGramTokenizer;
+import com.kosa.fillinv.schedule.entity.MemberScheduleTime;
+import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.entity.ScheduleTime;
+import com.kosa.fillinv.schedule.event.ScheduleStatusChangedEvent;
+import com.kosa.fillinv.schedule.repository.MemberScheduleTimeRepository;
+import com.kosa.fillinv.schedule.repository.ScheduleParticipantRole;
+import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.schedule.repository.ScheduleTitleTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * member_schedule_times 읽기 모델과 schedule_title_tokens 제목 색인 갱신
+ * 이벤트 리스너는 발행한 트랜잭션 안에서 동기로 실행되므로 스케쥴과 함께 커밋/롤백된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberScheduleTimeProjector {
+
+    private static final int REBUILD_CHUNK = 500;
+
+    private final MemberScheduleTimeRepository memberScheduleTimeRepository;
+    private final ScheduleTitleTokenRepository scheduleTitleTokenRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener
+    public void on(ScheduleStatusChangedEvent event) {
+        if (event.from() != null) {
+            memberScheduleTimeRepository.updateStatus(event.scheduleId(), event.to());
+            return;
+        }
+
+        // 생성 트랜잭션에서 저장한 스케쥴이므로 영속성 컨텍스트에서 바로 조회된다
+        scheduleRepository.findById(event.scheduleId()).ifPresent(this::project);
+    }
+
+    /**
+     * 서버 시작 시 읽기 모델이 원본과 다른 스케쥴만 다시 기록 (이벤트 누락이나 직접 수정된 데이터 보정)
+     * 어긋난 스케쥴을 잠그지 않고 찾아 REBUILD_CHUNK 개씩 짧은 트랜잭션으로 고치므로,
+     * 읽기 모델이 최신이면 쓰기 없이 끝나고 재구성 중에도 새 스케쥴 기록을 오래 막지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int orphans = 0;
+        List<String> scheduleIds;
+        while (!(scheduleIds = memberScheduleTimeRepository.findOrphanScheduleIds(REBUILD_CHUNK)).isEmpty()) {
+            reproject(scheduleIds);
+            orphans += scheduleIds.size();
+        }
+
+        int drifted = 0;
+        String after = "";
+        while (!(scheduleIds = memberScheduleTimeRepository.findDriftedScheduleIds(after, REBUILD_CHUNK)).isEmpty()) {
+            reproject(scheduleIds);
+            drifted += scheduleIds.size();
+            after = scheduleIds.getLast();
+        }
+
+        if (orphans == 0 && drifted == 0) {
+            log.info("Member schedule time read model is up to date.");
+            return;
+        }
+        log.info("Member schedule time read model repaired. drifted={}, orphans={}", drifted, orphans);
+    }
+
+    // 스케쥴의 읽기 모델 행과 제목 색인을 지우고 원본에서 다시 기록 (원본이 없으면 지우기만 한다)
+    private void reproject(List<String> scheduleIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            memberScheduleTimeRepository.deleteByScheduleIdIn(scheduleIds);
+            memberScheduleTimeRepository.projectSchedules(scheduleIds);
+
+            scheduleTitleTokenRepository.deleteByScheduleIds(scheduleIds);
+            scheduleTitleTokenRepository.findTitleSources(scheduleIds).forEach(source ->
+                    indexTitle(source.scheduleId(), source.mentorId(), source.menteeId(), source.lessonTitle()));
+        });
+    }
+
+    private void project(Schedule schedule) {
+        List<MemberScheduleTime> rows = new ArrayList<>(schedule.getScheduleTimeList().size() * 2);
+        for (ScheduleTime scheduleTime : schedule.getScheduleTimeList()) {
+            rows.add(MemberScheduleTime.of(scheduleTime, schedule.getMentorId(), ScheduleParticipantRole.MENTOR));
+            rows.add(MemberScheduleTime.of(scheduleTime, schedule.getMenteeId(), ScheduleParticipantRole.MENTEE));
+        }
+        memberScheduleTimeRepository.saveAll(rows);
+
+        indexTitle(schedule.getId(), schedule.getMentorId(), schedule.getMenteeId(), schedule.getLessonTitle());
+    }
+
+    // 자기 레슨을 예약한 경우 멘토와 멘티가 같으므로 회원 기준으로 한 번만 기록
+    private void indexTitle(String scheduleId, String mentorId, String menteeId, String lessonTitle) {
+        Set<String> memberIds = new LinkedHashSet<>(List.of(mentorId, menteeId));
+        scheduleTitleTokenRepository.insert(scheduleId, memberIds, NGramTokenizer.tokenize(lessonTitle));
+    }
+}
@@ -0,0 +1,86 @@
+package com.kosa.fillinv.schedule.service;
+
+import com.kosa.fillinv.global.util.ICalendarWriter;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.repository.ScheduleCalendarRepository;
+import com.kosa.fillinv.schedule.repository.ScheduleParticipantRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 회원 일정 iCalendar(.ics) 내보내기
+ * <p>
+ * - ETag 는 인덱스만 읽는 지문 조회로 만들므로, 캘린더 앱이 자주 폴링해도 변경이 없으면 본문을 만들지 않는다.
+ * - 본문은 CHUNK_SIZE 개씩 keyset 조회로 나눠 읽고 바로 응답으로 내보낸다.
+ *   조회 사이에는 DB 연결을 반납하므로 느린 클라이언트가 내려받는 동안 연결을 잡고 있지 않고, 메모리 사용량도 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleCalendarExportService {
+
+    // 본문 형식이 바뀌면 올려서 이전 ETag 를 무효화한다
+    private static final String FORMAT_VERSION = "1";
+    private static final String PRODUCT_ID = "-//FILLINV//Schedule Calendar//KO";
+    private static final String CALENDAR_NAME = "FILLINV 일정";
+    private static final String UID_DOMAIN = "@fillinv";
+    private static final int CHUNK_SIZE = 500;
+
+    private final ScheduleCalendarRepository scheduleCalendarRepository;
+
+    public String etag(String memberId) {
+        return "\"" + FORMAT_VERSION + "-" + scheduleCalendarRepository.fingerprint(memberId) + "\"";
+    }
+
+    public void export(String memberId, OutputStream outputStream) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ICalendarWriter calendar = new ICalendarWriter(writer);
+
+        calendar.begin(PRODUCT_ID, CALENDAR_NAME);
+
+        // 클라이언트 연결이 끊기면 쓰기에서 IOException 이 나므로 다음 조회도 하지 않는다
+        ScheduleCalendarRepository.CalendarEntry last = null;
+        List<ScheduleCalendarRepository.CalendarEntry> chunk;
+        do {
+            chunk = scheduleCalendarRepository.findEntriesAfter(memberId, last, CHUNK_SIZE);
+            for (ScheduleCalendarRepository.CalendarEntry entry : chunk) {
+                calendar.event(toEvent(entry));
+            }
+            last = chunk.isEmpty() ? last : chunk.getLast();
+        } while (chunk.size() == CHUNK_SIZE);
+
+        calendar.end();
+    }
+
+    private ICalendarWriter.Event toEvent(ScheduleCalendarRepository.CalendarEntry entry) {
+        return new ICalendarWriter.Event(
+                // 자기 레슨을 예약한 경우 같은 시간이 멘토/멘티로 두 번 나오므로 역할까지 포함
+                entry.scheduleTimeId() + "-" + entry.role().name().toLowerCase() + UID_DOMAIN,
+                // 같은 데이터면 항상 같은 본문이 나오도록 시작 시각을 사용 (ETag 와 본문 일치)
+                entry.startTime(),
+                entry.startTime(),
+                entry.endTime(),
+                entry.lessonTitle(),
+                roleDescription(entry.role()) + " / " + entry.status().getDescription(),
+                status(entry.status())
+        );
+    }
+
+    private static String roleDescription(ScheduleParticipantRole role) {
+        return role == ScheduleParticipantRole.MENTOR ? "멘토" : "멘티";
+    }
+
+    private static ICalendarWriter.Status status(ScheduleStatus status) {
+        return switch (status) {
+            case APPROVED, COMPLETED -> ICalendarWriter.Status.CONFIRMED;
+            case CANCELED -> ICalendarWriter.Status.CANCELLED;
+            case PAYMENT_PENDING, APPROVAL_PENDING -> ICalendarWriter.Status.TENTATIVE;
+        };
+    }
+}
@@ -2,22 +2,29 @@ package com.kosa.fillinv.schedule.service;
 
 import com.kosa.fillinv.global.exception.BusinessException;
 import com.kosa.fillinv.global.response.ErrorCode;
-import com.kosa.fillinv.lesson.entity.AvailableTime;
-import com.kosa.fillinv.lesson.entity.Lesson;
 import com.kosa.fillinv.lesson.entity.LessonType;
-import com.kosa.fillinv.lesson.entity.Option;
-import com.kosa.fillinv.lesson.repository.AvailableTimeRepository;
 import com.kosa.fillinv.schedule.dto.request.ScheduleCreateRequest;
 import com.kosa.fillinv.schedule.entity.Schedule;
 import com.kosa.fillinv.schedule.entity.ScheduleTime;
+import com.kosa.fillinv.schedule.event.ScheduleStatusChangedEvent;
 import com.kosa.fillinv.schedule.exception.ScheduleException;
 import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.schedule.service.booking.BookableLessonSnapshot;
+import com.kosa.fillinv.schedule.service.booking.MentorBookingIndex;
+import com.kosa.fillinv.schedule.service.dto.CartBookingResult;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
-import com.kosa.fillinv.stock.repository.StockRepository;
+import com.kosa.fillinv.stock.service.SeatInventory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,50 +36,120 @@ public class ScheduleCreateService { // 스케줄 생성 서비스
     private final ScheduleValidator validator;
     private final ScheduleMapper mapper;
     private final ScheduleRepository scheduleRepository;
-    private final StockRepository stockRepository;
-    private final AvailableTimeRepository availableTimeRepository;
+    private final SeatInventory seatInventory;
+    private final SeatHoldService seatHoldService;
+    private final MentorBookingIndex mentorBookingIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ------- Public API - 외부 호출 핵심 메서드
     public String createSchedule(String memberId, ScheduleCreateRequest request) { // 스케쥴 생성
-        Lesson lesson = validator.getLesson(request.lessonId());
+        // 레슨/옵션/시간/카테고리명/멘토 닉네임은 캐시된 스냅샷에서 가져오므로, 이후에는 재고 차감과 INSERT 만 남는다
+        BookableLessonSnapshot lesson = validator.getBookableLesson(request.lessonId());
 
-        Schedule schedule = switch (lesson.getLessonType()) { // 레슨 유형에 따라 스케쥴 생성 방식 분기 (1:1 멘토링, 1:N 원데이, 1:N 스터디)
-            case MENTORING -> createMentoringSchedule(lesson, memberId, request);
-            case ONEDAY -> createOnedaySchedule(lesson, memberId, request);
-            case STUDY -> createStudySchedule(lesson, memberId);
-            default -> throw new BusinessException(ErrorCode.INVALID_LESSON_TYPE);
-        };
+        Schedule schedule = buildSchedule(lesson, memberId, request);
+        occupyMentorTime(lesson, schedule);
+        stockKey(lesson, schedule).ifPresent(this::decreaseStock);
+
+        scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(ScheduleStatusChangedEvent.created(schedule));
+        seatHoldService.hold(schedule); // 결제 대기 좌석 점유 만료 예약
+        return schedule.getId();
+    }
 
-        Schedule saved = scheduleRepository.save(schedule);
+    /**
+     * 장바구니 예약: 같은 멘토의 여러 레슨/시간을 한 트랜잭션에서 예약하고 하나의 cartId 로 묶는다.
+     * 재고는 모든 key 를 한 번에 차감하며, 하나라도 부족하면 전체 예약이 실패한다.
+     * 같은 재고 key(원데이 시간대, 스터디)를 두 번 담으면 한 사람이 좌석을 여러 개 잡게 되므로 거절한다.
+     */
+    public CartBookingResult createCartSchedules(String memberId, List<ScheduleCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessException(ErrorCode.EMPTY_CART);
+        }
 
-        if (lesson.getLessonType() == LessonType.ONEDAY) {
-            decreaseStock(saved.getAvailableTimeId());
-        } else if (lesson.getLessonType() == LessonType.STUDY) {
-            decreaseStock(saved.getLessonId());
+        String cartId = UUID.randomUUID().toString();
+        List<Schedule> schedules = new ArrayList<>(requests.size());
+        Map<String, Integer> stockCounts = new HashMap<>();
+
+        for (ScheduleCreateRequest request : requests) {
+            BookableLessonSnapshot lesson = validator.getBookableLesson(request.lessonId());
+            if (!schedules.isEmpty() && !schedules.get(0).getMentorId().equals(lesson.mentorId())) {
+                throw new BusinessException(ErrorCode.CART_MENTOR_MISMATCH);
+            }
+
+            Schedule schedule = buildSchedule(lesson, memberId, request);
+            schedule.assignCart(cartId);
+            occupyMentorTime(lesson, schedule); // 장바구니 안의 멘토링끼리도 겹침을 확인한다
+            stockKey(lesson, schedule).ifPresent(key -> {
+                if (stockCounts.putIfAbsent(key, 1) != null) {
+                    throw new BusinessException(ErrorCode.DUPLICATE_CART_ITEM);
+                }
+            });
+            schedules.add(schedule);
         }
 
-        scheduleRepository.save(schedule);
-        return schedule.getId();
+        if (!stockCounts.isEmpty() && !seatInventory.reserveAll(stockCounts)) {
+            throw new ScheduleException(ErrorCode.NO_SEAT);
+        }
+
+        scheduleRepository.saveAll(schedules);
+        for (Schedule schedule : schedules) {
+            eventPublisher.publishEvent(ScheduleStatusChangedEvent.created(schedule));
+            seatHoldService.hold(schedule);
+        }
+
+        return new CartBookingResult(cartId, schedules.stream().map(Schedule::getId).toList());
     }
 
     private void decreaseStock(String key) {
-        if (stockRepository.decreaseQuantity(key) == 0) {
+        if (!seatInventory.reserve(key)) {
             throw new ScheduleException(ErrorCode.NO_SEAT);
         }
     }
 
+    private Schedule buildSchedule(BookableLessonSnapshot lesson, String memberId, ScheduleCreateRequest request) {
+        return switch (lesson.lessonType()) { // 레슨 유형에 따라 스케쥴 생성 방식 분기 (1:1 멘토링, 1:N 원데이, 1:N 스터디)
+            case MENTORING -> createMentoringSchedule(lesson, memberId, request);
+            case ONEDAY -> createOnedaySchedule(lesson, memberId, request);
+            case STUDY -> createStudySchedule(lesson, memberId);
+            default -> throw new BusinessException(ErrorCode.INVALID_LESSON_TYPE);
+        };
+    }
+
+    // 1:1 멘토링은 멘토의 다른 예약과 시간이 겹치면 거절
+    // 메모리 색인으로 먼저 거르고(같은 트랜잭션의 장바구니 항목 포함), 멘토 행 잠금 + DB 조회로 다른 인스턴스의 예약까지 확인한다
+    private void occupyMentorTime(BookableLessonSnapshot lesson, Schedule schedule) {
+        if (lesson.lessonType() == LessonType.MENTORING) {
+            mentorBookingIndex.reserve(schedule);
+            validator.validateMentorTimeAvailable(schedule);
+        } else {
+            mentorBookingIndex.register(schedule);
+        }
+    }
+
+    // 재고 key (원데이: availableTimeId, 스터디: lessonId, 멘토링은 재고 없음)
+    private Optional<String> stockKey(BookableLessonSnapshot lesson, Schedule schedule) {
+        return switch (lesson.lessonType()) {
+            case ONEDAY -> Optional.of(schedule.getAvailableTimeId());
+            case STUDY -> Optional.of(schedule.getLessonId());
+            default -> Optional.empty();
+        };
+    }
+
     // ------- Private Method - 내부 보조 메서드 (비즈니스 로직)
     private Schedule createMentoringSchedule( // 1:1 멘토링 스케쥴 생성
-            Lesson lesson,
+            BookableLessonSnapshot lesson,
             String memberId,
             ScheduleCreateRequest request
     ) {
-        Option option = validator.getOption(request.optionId());
+        BookableLessonSnapshot.OptionSlot option = lesson.options().get(request.optionId());
+        if (option == null) {
+            throw new BusinessException(ErrorCode.OPTION_NOT_FOUND);
+        }
 
-        Schedule schedule = mapper.buildBaseSchedule(lesson, memberId, option, null, option.getPrice());
+        Schedule schedule = mapper.buildBaseSchedule(lesson, memberId, option, null, option.price());
 
         Instant startTime = request.startTime();
-        Instant endTime = startTime.plus(option.getMinute(), ChronoUnit.MINUTES); // 옵션의 분 단위를 더해서 종료 시간 계산
+        Instant endTime = startTime.plus(option.minute(), ChronoUnit.MINUTES); // 옵션의 분 단위를 더해서 종료 시간 계산
 
         schedule.addScheduleTime(
                 ScheduleTime.of(startTime, endTime, schedule)
@@ -82,18 +159,21 @@ public class ScheduleCreateService { // 스케줄 생성 서비스
     }
 
     private Schedule createOnedaySchedule( // 1:N 원데이 스케쥴 생성
-            Lesson lesson,
+            BookableLessonSnapshot lesson,
             String memberId,
             ScheduleCreateRequest request
     ) {
-        AvailableTime availableTime = validator.getAvailableTime(request.availableTimeId());
+        BookableLessonSnapshot.TimeSlot availableTime = lesson.availableTimes().get(request.availableTimeId());
+        if (availableTime == null) {
+            throw new BusinessException(ErrorCode.AVAILABLE_TIME_NOT_FOUND);
+        }
 
-        Schedule schedule = mapper.buildBaseSchedule(lesson, memberId, null, availableTime, availableTime.getPrice());
+        Schedule schedule = mapper.buildBaseSchedule(lesson, memberId, null, availableTime, availableTime.price());
 
         schedule.addScheduleTime(
                 ScheduleTime.of(
-                        availableTime.getStartTime(),
-                        availableTime.getEndTime(),
+                        availableTime.startTime(),
+                        availableTime.endTime(),
                         schedule
                 )
         );
@@ -102,15 +182,16 @@ public class ScheduleCreateService { // 스케줄 생성 서비스
     }
 
     private Schedule createStudySchedule( // 1:N 스터디 스케쥴 생성
-            Lesson lesson,
+            BookableLessonSnapshot lesson,
             String memberId
     ) {
-        Schedule schedule = mapper.buildBaseSchedule(lesson, memberId, null, null, lesson.getPrice());
+        Schedule schedule = mapper.buildBaseSchedule(lesson, memberId, null, null, lesson.price());
 
-        List<ScheduleTime> times = availableTimeRepository
-                .findAllByLessonId(lesson.getId())
+        List<ScheduleTime> times = lesson.availableTimes()
+                .values()
                 .stream()
-                .map(at -> ScheduleTime.of(at.getStartTime(), at.getEndTime(), schedule))
+                .sorted(Comparator.comparing(BookableLessonSnapshot.TimeSlot::startTime))
+                .map(at -> ScheduleTime.of(at.startTime(), at.endTime(), schedule))
                 .toList();
 
         schedule.addScheduleTime(times);
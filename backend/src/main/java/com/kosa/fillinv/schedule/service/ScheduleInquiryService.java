@@ -2,8 +2,8 @@ package com.kosa.fillinv.schedule.service;
 
 import com.kosa.fillinv.global.exception.BusinessException;
 import com.kosa.fillinv.global.response.ErrorCode;
-import com.kosa.fillinv.member.entity.Member;
-import com.kosa.fillinv.member.repository.MemberRepository;
+import com.kosa.fillinv.member.dto.profile.MemberSummaryDto;
+import com.kosa.fillinv.member.service.MemberService;
 import com.kosa.fillinv.schedule.dto.request.ScheduleSearchRequest;
 import com.kosa.fillinv.schedule.dto.response.ScheduleDetailResponse;
 import com.kosa.fillinv.schedule.dto.response.ScheduleListResponse;
@@ -32,7 +32,7 @@ public class ScheduleInquiryService { // 스케줄 조회 서비스
 
     private final ScheduleValidator validator;
     private final ScheduleRepository scheduleRepository;
-    private final MemberRepository memberRepository;
+    private final MemberService memberService;
 
     // ------- Public API - 외부 호출 핵심 메서드
     // 캘린더 및 전체 스케쥴 조회 (날짜가 없으면 전체, 있으면 해당 일자 조회)
@@ -100,8 +100,9 @@ public class ScheduleInquiryService { // 스케줄 조회 서비스
             throw new BusinessException(ErrorCode.INVALID_SCHEDULE_STATUS);
         }
 
-        String mentorNickname = validator.getNickname(schedule.getMentorId());
-        String menteeNickname = validator.getNickname(schedule.getMenteeId());
+        Map<String, String> nicknames = validator.getNicknames(List.of(schedule.getMentorId(), schedule.getMenteeId()));
+        String mentorNickname = nicknames.get(schedule.getMentorId());
+        String menteeNickname = nicknames.get(schedule.getMenteeId());
 
         // 여러 개의 수업 시간 중 가장 먼저 시작하는 첫 회차 시간을 대표로 사용
         Instant startTime = schedule.getScheduleTimeList().stream()
@@ -145,11 +146,11 @@ public class ScheduleInquiryService { // 스케줄 조회 서비스
                 .distinct()
                 .toList();
 
-        // 뽑아낸 리스트에서 멘티 닉네임 한 번에 조회 (단 한번의 쿼리로 모든 멘티 닉네임 가져오기 => 속도 향상)
-        Map<String, String> menteeNicknameMap = memberRepository.findAllById(menteeIds).stream()
+        // 뽑아낸 리스트에서 멘티 닉네임 한 번에 조회 (프로필 캐시에 없는 멘티만 DB 조회 => 속도 향상)
+        Map<String, String> menteeNicknameMap = memberService.getAllSummariesByMemberIds(menteeIds).values().stream()
                 .collect(Collectors.toMap(
-                        Member::getId, // Key: 멤버의 ID
-                        Member::getNickname // Value: 멤버의 닉네임
+                        MemberSummaryDto::memberId, // Key: 멤버의 ID
+                        MemberSummaryDto::nickname // Value: 멤버의 닉네임
                 ));
 
         return schedules.map(s -> {
@@ -1,51 +1,40 @@
 package com.kosa.fillinv.schedule.service;
 
-import com.kosa.fillinv.category.entity.Category;
-import com.kosa.fillinv.lesson.entity.AvailableTime;
-import com.kosa.fillinv.lesson.entity.Lesson;
-import com.kosa.fillinv.lesson.entity.Option;
-import com.kosa.fillinv.member.entity.Member;
 import com.kosa.fillinv.schedule.entity.Schedule;
 import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.service.booking.BookableLessonSnapshot;
 import java.util.ArrayList;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class ScheduleMapper {
 
-    private final ScheduleValidator validator;
-
-    public Schedule buildBaseSchedule( // 스케쥴 기본 정보 설정
-            Lesson lesson,
+    public Schedule buildBaseSchedule( // 스케쥴 기본 정보 설정 (레슨 스냅샷에 카테고리명, 멘토 닉네임이 포함되어 추가 조회 없음)
+            BookableLessonSnapshot lesson,
             String memberId,
-            Option option,
-            AvailableTime availableTime,
+            BookableLessonSnapshot.OptionSlot option,
+            BookableLessonSnapshot.TimeSlot availableTime,
             Integer price
     ) {
-        Category category = validator.getCategory(lesson.getCategoryId());
-        Member mentor = validator.getMentor(lesson.getMentorId());
-
         return Schedule.builder()
                 .id(UUID.randomUUID().toString())
-                .mentorId(lesson.getMentorId())
+                .mentorId(lesson.mentorId())
                 .menteeId(memberId)
-                .mentorNickname(mentor.getNickname())
-                .lessonId(lesson.getId())
-                .lessonTitle(lesson.getTitle())
-                .lessonType(lesson.getLessonType().name())
-                .lessonDescription(lesson.getDescription())
+                .mentorNickname(lesson.mentorNickname())
+                .lessonId(lesson.lessonId())
+                .lessonTitle(lesson.title())
+                .lessonType(lesson.lessonType().name())
+                .lessonDescription(lesson.description())
                 .lessonLocation(
-                        lesson.getLocation() != null ? lesson.getLocation() : "장소 미정"
+                        lesson.location() != null ? lesson.location() : "장소 미정"
                 )
-                .lessonCategoryName(category.getName())
+                .lessonCategoryName(lesson.categoryName())
                 .price(price)
-                .optionId(option != null ? option.getId() : null)
-                .optionName(option != null ? option.getName() : null)
-                .optionMinute(option != null ? option.getMinute() : null)
-                .availableTimeId(availableTime != null ? availableTime.getId() : null)
+                .optionId(option != null ? option.id() : null)
+                .optionName(option != null ? option.name() : null)
+                .optionMinute(option != null ? option.minute() : null)
+                .availableTimeId(availableTime != null ? availableTime.id() : null)
                 .status(ScheduleStatus.PAYMENT_PENDING)
                 .scheduleTimeList(new ArrayList<>())
                 .build();
@@ -1,33 +1,38 @@
 package com.kosa.fillinv.schedule.service;
 
 import com.kosa.fillinv.global.exception.BusinessException;
+import com.kosa.fillinv.global.response.CursorResponse;
 import com.kosa.fillinv.global.response.ErrorCode;
 import com.kosa.fillinv.lesson.entity.LessonType;
-import com.kosa.fillinv.member.dto.profile.ProfileResponseDto;
+import com.kosa.fillinv.member.dto.profile.MemberSummaryDto;
 import com.kosa.fillinv.member.service.MemberService;
 import com.kosa.fillinv.schedule.dto.response.ScheduleListResponse;
 import com.kosa.fillinv.schedule.entity.Schedule;
 import com.kosa.fillinv.schedule.entity.ScheduleStatus;
 import com.kosa.fillinv.schedule.entity.ScheduleTime;
-import com.kosa.fillinv.schedule.repository.ScheduleParticipantRole;
+import com.kosa.fillinv.schedule.event.ScheduleStatusChangedEvent;
 import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.schedule.repository.ScheduleSearchRepository;
 import com.kosa.fillinv.schedule.repository.ScheduleTimeRepository;
-import com.kosa.fillinv.schedule.repository.ScheduleTimeSpecifications;
+import com.kosa.fillinv.schedule.service.dto.ScheduleCursor;
 import com.kosa.fillinv.schedule.service.dto.ScheduleSearchCondition;
 import com.kosa.fillinv.schedule.service.dto.ScheduleSortType;
-import com.kosa.fillinv.stock.repository.StockRepository;
+import com.kosa.fillinv.stock.service.SeatInventory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,9 +42,12 @@ public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
     private final ScheduleTimeRepository scheduleTimeRepository;
+    private final ScheduleSearchRepository scheduleSearchRepository;
     private final MemberService memberService;
     private final ScheduleValidator validator;
-    private final StockRepository stockRepository;
+    private final SeatInventory seatInventory;
+    private final SeatHoldService seatHoldService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 멤버가 멘티 또는 멘토인 예정 스케줄 모두 조회
     public Page<ScheduleListResponse> findAllUpcomingSchedules(String memberId, Instant from) {
@@ -101,32 +109,81 @@ public class ScheduleService {
         return search(condition);
     }
 
+    // 멤버가 멘티 또는 멘토인 예정 스케줄 검색 (전체 수 없이 커서로 다음 페이지 조회)
+    public CursorResponse<ScheduleListResponse> searchUpcomingSchedules(String memberId, ScheduleSearchCondition condition, String cursor) {
+        ScheduleSearchCondition intended = condition
+                .participate(memberId)
+                .toIntended(condition.from());
+
+        return searchByCursor(intended, cursor);
+    }
+
+    // 멤버가 멘티 또는 멘토인 과거 스케줄 검색 (전체 수 없이 커서로 다음 페이지 조회)
+    public CursorResponse<ScheduleListResponse> searchPastSchedules(String memberId, ScheduleSearchCondition condition, String cursor) {
+        ScheduleSearchCondition past = condition
+                .participate(memberId)
+                .toPast(condition.to());
+
+        return searchByCursor(past, cursor);
+    }
+
+    // 해당 기간에 포함되는 일정 조회 (전체 수 없이 커서로 다음 페이지 조회)
+    public CursorResponse<ScheduleListResponse> calendar(String memberId, Instant start, Instant end, Integer size, String cursor) {
+        ScheduleSearchCondition condition = ScheduleSearchCondition.defaultCondition()
+                .participate(memberId)
+                .between(start, end)
+                .withSortType(ScheduleSortType.START_TIME_ASC)
+                .withSize(size);
+
+        return searchByCursor(condition, cursor);
+    }
+
+    // member_schedule_times 에서 스케쥴 시간 id 만 찾은 뒤 스케쥴과 함께 한 번에 조회
     public Page<ScheduleListResponse> search(ScheduleSearchCondition condition) {
 
-        Sort sort = condition.sortType().toSort();
-        PageRequest pageRequest =
-                PageRequest.of(condition.page(), condition.size(), sort);
+        Page<String> ids = scheduleSearchRepository.searchScheduleTimeIds(condition);
+
+        List<ScheduleTime> content = findScheduleTimes(ids.getContent());
+
+        return convert(condition.memberId(), new PageImpl<>(content, ids.getPageable(), ids.getTotalElements()));
+    }
+
+    // 커서 다음 항목부터 size + 1 개만 읽어 다음 페이지 여부를 판단 (COUNT 없음)
+    public CursorResponse<ScheduleListResponse> searchByCursor(ScheduleSearchCondition condition, String cursor) {
 
-        Specification<ScheduleTime> spec =
-                ScheduleTimeSpecifications.search(
-                        condition.keyword(),
-                        condition.from(),
-                        condition.to(),
-                        condition.status(),
-                        condition.participantRole() == ScheduleParticipantRole.MENTOR || condition.participantRole() == ScheduleParticipantRole.BOTH
-                                ? condition.memberId() : null,
-                        condition.participantRole() == ScheduleParticipantRole.MENTEE  || condition.participantRole() == ScheduleParticipantRole.BOTH
-                                ? condition.memberId() : null,
-                        condition.participantRole()
-                );
+        Slice<ScheduleCursor> keys = scheduleSearchRepository.searchScheduleTimesAfter(
+                condition, ScheduleCursor.decode(cursor, condition.sortType()));
 
-        Page<ScheduleTime> page = scheduleTimeRepository.findAll(spec, pageRequest);
+        List<ScheduleTime> content = findScheduleTimes(keys.getContent().stream()
+                .map(ScheduleCursor::scheduleTimeId)
+                .toList());
 
-        return convert(condition.memberId(), page);
+        String nextCursor = keys.hasNext()
+                ? keys.getContent().getLast().encode()
+                : null;
+
+        Slice<ScheduleListResponse> slice = new SliceImpl<>(
+                toResponses(condition.memberId(), content), keys.getPageable(), keys.hasNext());
+        return CursorResponse.of(slice, nextCursor);
     }
 
     public Page<ScheduleListResponse> convert(String memberId, Page<ScheduleTime> page) {
-        Set<Schedule> schedule = page.getContent().stream()
+        return new PageImpl<>(toResponses(memberId, page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    // id 순서를 유지하며 스케쥴과 함께 한 번에 조회
+    private List<ScheduleTime> findScheduleTimes(List<String> ids) {
+        Map<String, ScheduleTime> scheduleTimes = scheduleTimeRepository.findAllWithScheduleByIdIn(ids).stream()
+                .collect(Collectors.toMap(ScheduleTime::getId, Function.identity()));
+
+        return ids.stream()
+                .map(scheduleTimes::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<ScheduleListResponse> toResponses(String memberId, List<ScheduleTime> scheduleTimes) {
+        Set<Schedule> schedule = scheduleTimes.stream()
                 .map(ScheduleTime::getSchedule)
                 .collect(Collectors.toSet());
 
@@ -136,13 +193,13 @@ public class ScheduleService {
                         .filter(Objects::nonNull)
                         .collect(Collectors.toSet());
 
-        Map<String, ProfileResponseDto> members = memberService.getAllProfilesByMemberIds(memberIds);
+        Map<String, MemberSummaryDto> members = memberService.getAllSummariesByMemberIds(memberIds);
 
-        return page.map(
+        return scheduleTimes.stream().map(
                 scheduleTime -> {
                     Schedule s = scheduleTime.getSchedule();
-                    ProfileResponseDto mentor = members.get(s.getMentorId());
-                    ProfileResponseDto mentee = members.get(s.getMenteeId());
+                    MemberSummaryDto mentor = members.get(s.getMentorId());
+                    MemberSummaryDto mentee = members.get(s.getMenteeId());
 
                     return ScheduleListResponse.from(
                             s,
@@ -152,19 +209,46 @@ public class ScheduleService {
                             s.getRole(memberId)
                             );
                 }
-        );
+        ).toList();
     }
 
+    /**
+     * 결제 완료 처리 (결제 대기 -> 승인 대기)
+     * orderId 는 단건 예약이면 scheduleId, 장바구니 예약이면 cartId 이다.
+     */
     @Transactional
-    public void completePayment(String scheduleId) {
-        Schedule schedule = validator.getSchedule(scheduleId);
+    public void completePayment(String orderId) {
+        List<Schedule> schedules = lockPayableSchedules(orderId);
 
-        // 결제 대기 상태인 스케쥴만 승인 대기로 상태 변경 가능
-        if (schedule.getStatus() != ScheduleStatus.PAYMENT_PENDING) {
-            throw new BusinessException(ErrorCode.INVALID_SCHEDULE_STATUS);
+        for (Schedule schedule : schedules) {
+            schedule.updateStatus(ScheduleStatus.APPROVAL_PENDING);
+            eventPublisher.publishEvent(ScheduleStatusChangedEvent.of(schedule, ScheduleStatus.PAYMENT_PENDING));
+            seatHoldService.releaseHold(schedule.getId());
         }
+    }
 
-        schedule.updateStatus(ScheduleStatus.APPROVAL_PENDING);
+    /**
+     * 결제할 스케쥴을 잠그고 결제 대기 상태인지 확인한다.
+     * 결제 승인 요청 전에 호출 측 트랜잭션에서 잠가 두면, 좌석 점유 만료 처리는 그 결제의 진행 상태를 보고 취소 여부를 정한다.
+     */
+    @Transactional
+    public List<Schedule> lockPayableSchedules(String orderId) {
+        // 좌석 점유 만료 처리와 동시에 상태를 바꾸지 않도록 잠금 조회
+        List<Schedule> schedules = scheduleRepository.findByIdForUpdate(orderId)
+                .map(List::of)
+                .orElseGet(() -> scheduleRepository.findAllByCartIdForUpdate(orderId));
+
+        if (schedules.isEmpty()) {
+            throw new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
+
+        // 결제 대기 상태인 스케쥴만 결제 가능 (점유가 만료되어 취소된 스케쥴은 결제사에 승인을 요청하지 않는다)
+        for (Schedule schedule : schedules) {
+            if (schedule.getStatus() != ScheduleStatus.PAYMENT_PENDING) {
+                throw new BusinessException(ErrorCode.INVALID_SCHEDULE_STATUS);
+            }
+        }
+        return schedules;
     }
 
     // 멘토가 멘티의 레슨 수강신청을 승인했을 경우 (승인 대기 -> 승인)
@@ -181,6 +265,7 @@ public class ScheduleService {
         }
 
         schedule.updateStatus(ScheduleStatus.APPROVED);
+        eventPublisher.publishEvent(ScheduleStatusChangedEvent.of(schedule, ScheduleStatus.APPROVAL_PENDING));
     }
 
 
@@ -198,12 +283,15 @@ public class ScheduleService {
         }
 
         schedule.updateStatus(ScheduleStatus.CANCELED);
+        eventPublisher.publishEvent(ScheduleStatusChangedEvent.of(schedule, ScheduleStatus.APPROVAL_PENDING));
 
         LessonType type = LessonType.from(schedule.getLessonType());
         switch (type) {
-            case MENTORING -> stockRepository.increaseQuantity(schedule.getOptionId());
-            case ONEDAY -> stockRepository.increaseQuantity(schedule.getAvailableTimeId());
-            case STUDY -> stockRepository.increaseQuantity(schedule.getId());
+            case ONEDAY -> seatInventory.release(schedule.getAvailableTimeId());
+            case STUDY -> seatInventory.release(schedule.getLessonId()); // 스터디 재고 key 는 lessonId
+            default -> {
+                // MENTORING 은 재고를 차감하지 않는다
+            }
         }
     }
 
@@ -221,5 +309,6 @@ public class ScheduleService {
         }
 
         schedule.updateStatus(ScheduleStatus.COMPLETED);
+        eventPublisher.publishEvent(ScheduleStatusChangedEvent.of(schedule, ScheduleStatus.APPROVED));
     }
 }
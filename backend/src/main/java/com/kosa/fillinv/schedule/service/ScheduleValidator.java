@@ -11,14 +11,25 @@ import com.kosa.fillinv.lesson.repository.AvailableTimeRepository;
 import com.kosa.fillinv.lesson.repository.LessonRepository;
 import com.kosa.fillinv.lesson.repository.OptionRepository;
 import com.kosa.fillinv.member.entity.Member;
+import com.kosa.fillinv.member.dto.profile.MemberSummaryDto;
 import com.kosa.fillinv.member.repository.MemberRepository;
+import com.kosa.fillinv.member.service.MemberService;
 import com.kosa.fillinv.schedule.entity.Schedule;
 import com.kosa.fillinv.schedule.entity.ScheduleTime;
+import com.kosa.fillinv.schedule.exception.ScheduleException;
 import com.kosa.fillinv.schedule.repository.ScheduleRepository;
 import com.kosa.fillinv.schedule.repository.ScheduleTimeRepository;
+import com.kosa.fillinv.schedule.service.booking.BookableLessonCache;
+import com.kosa.fillinv.schedule.service.booking.BookableLessonSnapshot;
+import com.kosa.fillinv.schedule.service.booking.MentorBookingIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 public class ScheduleValidator {
@@ -29,7 +40,70 @@ public class ScheduleValidator {
     private final AvailableTimeRepository availableTimeRepository;
     private final CategoryRepository categoryRepository;
     private final MemberRepository memberRepository;
+    private final MemberService memberService;
     private final ScheduleTimeRepository scheduleTimeRepository;
+    private final BookableLessonCache bookableLessonCache;
+
+    /**
+     * 스케쥴 생성에 필요한 레슨 정보를 스냅샷으로 조회한다. (캐시에 없거나 오래되었으면 DB 에서 다시 구성)
+     */
+    public BookableLessonSnapshot getBookableLesson(String lessonId) {
+        Optional<BookableLessonSnapshot> cached = bookableLessonCache.get(lessonId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long lessonStamp = bookableLessonCache.lessonStamp();
+        long mentorStamp = bookableLessonCache.mentorStamp();
+        Lesson lesson = getLesson(lessonId);
+
+        Map<String, BookableLessonSnapshot.OptionSlot> options = new HashMap<>();
+        for (Option option : optionRepository.findAllByLessonIdAndDeletedAtIsNull(lessonId)) {
+            options.put(option.getId(), new BookableLessonSnapshot.OptionSlot(
+                    option.getId(), option.getName(), option.getMinute(), option.getPrice()));
+        }
+
+        Map<String, BookableLessonSnapshot.TimeSlot> availableTimes = new HashMap<>();
+        for (AvailableTime availableTime : availableTimeRepository.findAllByLessonIdAndDeletedAtIsNull(lessonId)) {
+            availableTimes.put(availableTime.getId(), new BookableLessonSnapshot.TimeSlot(
+                    availableTime.getId(), availableTime.getStartTime(), availableTime.getEndTime(), availableTime.getPrice()));
+        }
+
+        BookableLessonSnapshot snapshot = new BookableLessonSnapshot(
+                lesson.getId(),
+                lesson.getLessonType(),
+                lesson.getTitle(),
+                lesson.getDescription(),
+                lesson.getLocation(),
+                lesson.getPrice(),
+                lesson.getMentorId(),
+                getMentor(lesson.getMentorId()).getNickname(),
+                getCategory(lesson.getCategoryId()).getName(),
+                options,
+                availableTimes,
+                lessonStamp,
+                mentorStamp
+        );
+
+        bookableLessonCache.put(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 1:1 멘토링 예약 시간이 멘토의 다른 예약과 겹치는지 DB 기준으로 확인한다.
+     * 멘토 행을 잠가 같은 멘토의 예약 트랜잭션을 순서대로 처리하므로, 여러 인스턴스에 동시에 들어온 예약 중 하나만 성공한다.
+     */
+    public void validateMentorTimeAvailable(Schedule schedule) {
+        memberRepository.findByIdForUpdate(schedule.getMentorId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.MENTOR_NOT_FOUND));
+
+        for (ScheduleTime time : schedule.getScheduleTimeList()) {
+            if (scheduleRepository.existsMentorBookedTimeOverlapping(schedule.getMentorId(),
+                    MentorBookingIndex.BOOKED_STATUSES, time.getStartTime(), time.getEndTime())) {
+                throw new ScheduleException(ErrorCode.SCHEDULE_TIME_CONFLICT);
+            }
+        }
+    }
 
     public Member getMentor(String mentorId) {
         return memberRepository.findById(mentorId)
@@ -67,8 +141,23 @@ public class ScheduleValidator {
     }
 
     public String getNickname(String memberId) {
-        return memberRepository.findById(memberId)
-                .map(Member::getNickname)
+        return memberService.findSummary(memberId)
+                .map(MemberSummaryDto::nickname)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
     }
+
+    // 회원 id -> 닉네임 (회원 요약 캐시에서 한 번에 조회, 없는 회원은 MEMBER_NOT_FOUND)
+    public Map<String, String> getNicknames(Collection<String> memberIds) {
+        Map<String, MemberSummaryDto> profiles = memberService.getAllSummariesByMemberIds(memberIds);
+
+        Map<String, String> nicknames = new HashMap<>();
+        for (String memberId : memberIds) {
+            MemberSummaryDto profile = profiles.get(memberId);
+            if (profile == null) {
+                throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+            }
+            nicknames.put(memberId, profile.nickname());
+        }
+        return nicknames;
+    }
 }
@@ -0,0 +1,188 @@
+package com.kosa.fillinv.schedule.service;
+
+import com.kosa.fillinv.global.concurrent.HashedWheelTimer;
+import com.kosa.fillinv.global.util.TransactionCallbacks;
+import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.payment.entity.Payment;
+import com.kosa.fillinv.payment.entity.PaymentStatus;
+import com.kosa.fillinv.payment.repository.PaymentRepository;
+import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.event.ScheduleStatusChangedEvent;
+import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.schedule.service.dto.SeatHoldVO;
+import com.kosa.fillinv.stock.service.SeatInventory;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 대기(PAYMENT_PENDING) 스케쥴의 좌석 점유 만료 관리
+ * 스케쥴 생성 시 점유 만료를 타이밍 휠에 예약하고, 만료된 스케쥴은 모아서 한 트랜잭션에 취소한 뒤 좌석을 반환한다.
+ * 점유 정보는 메모리에만 있으므로 기동 시 남아있는 결제 대기 스케쥴로 다시 예약한다.
+ * 결제 승인이 이미 시작된 스케쥴은 결제사에서 돈이 빠져나갔을 수 있으므로 취소하지 않고 잠시 뒤 다시 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldService {
+
+    private static final int EXPIRE_BATCH_SIZE = 100;
+    private static final Duration PAYMENT_RECHECK_DELAY = Duration.ofMinutes(1);
+
+    // 결제사 승인이 시작되었거나 끝난 결제 (스케쥴 상태 반영 전이라도 점유를 유지한다)
+    private static final List<PaymentStatus> PAYMENT_STARTED =
+            List.of(PaymentStatus.EXECUTING, PaymentStatus.SUCCESS, PaymentStatus.UNKNOWN);
+
+    private final ScheduleRepository scheduleRepository;
+    private final PaymentRepository paymentRepository;
+    private final SeatInventory seatInventory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${fillinv.schedule.payment-hold-ttl:PT15M}")
+    private Duration holdTtl;
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("seat-hold-timer", Duration.ofSeconds(1), 512);
+
+    // scheduleId -> 만료 예약
+    private final Map<String, HashedWheelTimer.Timeout> holds = new ConcurrentHashMap<>();
+
+    // 만료되어 취소를 기다리는 scheduleId
+    private final Queue<String> expired = new ConcurrentLinkedQueue<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<SeatHoldVO> pending = scheduleRepository.findSeatHoldsByStatus(ScheduleStatus.PAYMENT_PENDING);
+        pending.forEach(hold -> register(hold.scheduleId(), hold.createdAt().plus(holdTtl)));
+        log.info("Seat holds restored. holds={}", pending.size());
+    }
+
+    // 스케쥴 생성 트랜잭션이 커밋된 뒤에 점유 만료를 예약한다
+    public void hold(Schedule schedule) {
+        String scheduleId = schedule.getId();
+        Instant expiresAt = Instant.now().plus(holdTtl);
+        TransactionCallbacks.afterCommit(() -> register(scheduleId, expiresAt));
+    }
+
+    // 결제가 완료되면 만료 예약을 해제한다 (커밋 전에 만료되더라도 상태 검사에서 걸러진다)
+    public void releaseHold(String scheduleId) {
+        TransactionCallbacks.afterCommit(() -> {
+            HashedWheelTimer.Timeout timeout = holds.remove(scheduleId);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${fillinv.schedule.hold-expiry-interval-ms:1000}",
+            fixedDelayString = "${fillinv.schedule.hold-expiry-interval-ms:1000}"
+    )
+    public void expireHolds() {
+        while (!expired.isEmpty()) {
+            List<String> scheduleIds = new ArrayList<>(EXPIRE_BATCH_SIZE);
+            String scheduleId;
+            while (scheduleIds.size() < EXPIRE_BATCH_SIZE && (scheduleId = expired.poll()) != null) {
+                scheduleIds.add(scheduleId);
+            }
+
+            try {
+                Integer canceled = transactionTemplate.execute(status -> cancelUnpaid(scheduleIds));
+                log.info("Unpaid schedules canceled. expired={}, canceled={}", scheduleIds.size(), canceled);
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도
+                expired.addAll(scheduleIds);
+                log.warn("Failed to cancel unpaid schedules. expired={}", scheduleIds.size(), e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.close();
+    }
+
+    int cancelUnpaid(List<String> scheduleIds) {
+        // 그 사이 결제가 완료된 스케쥴은 조회되지 않는다
+        List<Schedule> schedules = scheduleRepository.findAllByIdInAndStatusForUpdate(scheduleIds, ScheduleStatus.PAYMENT_PENDING);
+        Set<String> paying = findPayingOrderIds(schedules);
+
+        int canceled = 0;
+        for (Schedule schedule : schedules) {
+            if (paying.contains(schedule.getId()) || paying.contains(schedule.getCartId())) {
+                // 결제 승인 중 - 결과가 스케쥴에 반영될 때까지 점유 유지
+                String scheduleId = schedule.getId();
+                TransactionCallbacks.afterCommit(() -> register(scheduleId, Instant.now().plus(PAYMENT_RECHECK_DELAY)));
+                continue;
+            }
+
+            canceled++;
+            schedule.updateStatus(ScheduleStatus.CANCELED);
+            eventPublisher.publishEvent(ScheduleStatusChangedEvent.of(schedule, ScheduleStatus.PAYMENT_PENDING));
+
+            LessonType type = LessonType.from(schedule.getLessonType());
+            switch (type) {
+                case ONEDAY -> seatInventory.release(schedule.getAvailableTimeId());
+                case STUDY -> seatInventory.release(schedule.getLessonId()); // 스터디 재고 key 는 lessonId
+                default -> {
+                    // MENTORING 은 재고를 차감하지 않는다
+                }
+            }
+        }
+
+        return canceled;
+    }
+
+    // 스케쥴(단건 결제) 또는 장바구니(묶음 결제) 단위로 승인이 시작된 결제의 orderId
+    private Set<String> findPayingOrderIds(List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> orderIds = new HashSet<>();
+        for (Schedule schedule : schedules) {
+            orderIds.add(schedule.getId());
+            if (schedule.getCartId() != null) {
+                orderIds.add(schedule.getCartId());
+            }
+        }
+
+        return paymentRepository.findAllByOrderIdInAndPaymentStatusIn(orderIds, PAYMENT_STARTED).stream()
+                .map(Payment::getOrderId)
+                .collect(Collectors.toSet());
+    }
+
+    private void register(String scheduleId, Instant expiresAt) {
+        Duration delay = Duration.between(Instant.now(), expiresAt);
+        HashedWheelTimer.Timeout timeout = timer.schedule(() -> {
+            holds.remove(scheduleId);
+            expired.add(scheduleId);
+        }, delay);
+
+        HashedWheelTimer.Timeout previous = holds.put(scheduleId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.kosa.fillinv.schedule.service.booking;
+
+import com.kosa.fillinv.global.util.InvalidationStamps;
+import com.kosa.fillinv.global.util.TransactionCallbacks;
+import com.kosa.fillinv.lesson.service.cache.LessonDetailCache;
+import com.kosa.fillinv.member.event.MemberProfileChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 스케쥴 생성용 레슨 스냅샷 캐시
+ * <p>
+ * - 레슨 무효화 시점은 레슨 상세 캐시의 기록을 그대로 사용한다. (레슨/옵션/이용 가능 시간 변경 시 LessonService 가 기록한다)
+ * - 멘토 무효화 시점은 프로필 변경 이벤트로 기록한다.
+ * - 스냅샷을 만들기 시작한 뒤 레슨이나 멘토가 무효화되었으면 조회되지 않으며, 항목 수가 maxEntries 를 넘으면 LRU 로 제거한다.
+ * - 무효화는 이 JVM 에서 일어난 변경만 반영하므로, 다른 인스턴스에서 삭제된 시간이나 바뀐 가격으로 예약하지 않도록
+ *   저장 후 ttl 이 지난 스냅샷은 다시 만든다. (가격이 걸린 정보라 레슨 상세 캐시보다 짧게 둔다)
+ */
+@Component
+public class BookableLessonCache {
+
+    private final LessonDetailCache lessonDetailCache;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    private final InvalidationStamps mentorStamps = new InvalidationStamps();
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Autowired
+    public BookableLessonCache(
+            LessonDetailCache lessonDetailCache,
+            @Value("${fillinv.schedule.bookable-lesson-cache.max-entries:10000}") int maxEntries,
+            @Value("${fillinv.schedule.bookable-lesson-cache.ttl-ms:30000}") long ttlMillis
+    ) {
+        this(lessonDetailCache, maxEntries, ttlMillis, System::nanoTime);
+    }
+
+    BookableLessonCache(LessonDetailCache lessonDetailCache, int maxEntries, long ttlMillis, LongSupplier nanoTime) {
+        this.lessonDetailCache = lessonDetailCache;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.nanoTime = nanoTime;
+    }
+
+    // 스냅샷을 만들기 전에 받아 두고 스냅샷에 함께 담는다
+    public long lessonStamp() {
+        return lessonDetailCache.stamp();
+    }
+
+    public long mentorStamp() {
+        return mentorStamps.now();
+    }
+
+    public Optional<BookableLessonSnapshot> get(String lessonId) {
+        BookableLessonSnapshot snapshot;
+        lock.lock();
+        try {
+            Entry entry = entries.get(lessonId);
+            if (entry != null && nanoTime.getAsLong() - entry.expiresAt() >= 0) {
+                entries.remove(lessonId);
+                entry = null;
+            }
+            snapshot = entry == null ? null : entry.snapshot();
+        } finally {
+            lock.unlock();
+        }
+
+        if (snapshot == null
+                || !lessonDetailCache.isFresh(lessonId, snapshot.lessonStamp())
+                || !mentorStamps.isFresh(snapshot.mentorId(), snapshot.mentorStamp())) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * 조회를 시작하기 전에 받아 둔 시점으로 만든 스냅샷을 저장한다.
+     * 조회 도중 레슨/멘토가 변경되었다면 다음 조회에서 걸러진다.
+     */
+    public void put(BookableLessonSnapshot snapshot) {
+        lock.lock();
+        try {
+            entries.put(snapshot.lessonId(), new Entry(snapshot, nanoTime.getAsLong() + ttlNanos));
+
+            var iterator = entries.values().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 닉네임 변경이 커밋되기 전후 모두 이전 스냅샷을 보지 않도록 커밋 후 한 번 더 무효화한다.
+    @EventListener
+    public void on(MemberProfileChangedEvent event) {
+        mentorStamps.invalidate(event.memberId());
+        TransactionCallbacks.afterCommit(() -> mentorStamps.invalidate(event.memberId()));
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(BookableLessonSnapshot snapshot, long expiresAt) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.kosa.fillinv.schedule.service.booking;
+
+import com.kosa.fillinv.lesson.entity.LessonType;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 스케쥴 생성에 필요한 레슨 정보 묶음 (레슨 + 옵션 + 이용 가능 시간 + 카테고리명 + 멘토 닉네임)
+ * 불변 객체이며, 만들기 시작한 시점(레슨/멘토 무효화 시계 기준)을 함께 담아 캐시에서 최신 여부를 판단한다.
+ */
+public record BookableLessonSnapshot(
+        String lessonId,
+        LessonType lessonType,
+        String title,
+        String description,
+        String location,
+        Integer price,
+        String mentorId,
+        String mentorNickname,
+        String categoryName,
+        Map<String, OptionSlot> options,
+        Map<String, TimeSlot> availableTimes,
+        long lessonStamp,
+        long mentorStamp
+) {
+    public BookableLessonSnapshot {
+        options = Map.copyOf(options);
+        availableTimes = Map.copyOf(availableTimes);
+    }
+
+    public record OptionSlot(
+            String id,
+            String name,
+            Integer minute,
+            Integer price
+    ) {
+    }
+
+    public record TimeSlot(
+            String id,
+            Instant startTime,
+            Instant endTime,
+            Integer price
+    ) {
+    }
+}
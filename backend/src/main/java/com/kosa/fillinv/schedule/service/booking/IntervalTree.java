@@ -0,0 +1,257 @@
+package com.kosa.fillinv.schedule.service.booking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 반열린 구간 [start, end) 을 저장하는 AVL 기반 구간 트리
+ * 노드는 (start, end) 순으로 정렬되며, 서브트리의 최대 end(maxEnd)를 함께 유지해
+ * 겹치는 구간 존재 여부를 O(log n) 에 확인한다.
+ * 같은 구간에 여러 값이 들어올 수 있으므로(같은 시간대의 원데이 수강생 등) 노드는 값 목록을 가진다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다.
+ */
+public final class IntervalTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    public void insert(long start, long end, T value) {
+        if (start >= end) {
+            throw new IllegalArgumentException("start must be before end");
+        }
+
+        root = insert(root, start, end, value);
+        size++;
+    }
+
+    public boolean remove(long start, long end, T value) {
+        Node<T> node = find(start, end);
+        if (node == null || !node.values.remove(value)) {
+            return false;
+        }
+
+        size--;
+        if (node.values.isEmpty()) {
+            root = delete(root, start, end);
+        }
+        return true;
+    }
+
+    // [start, end) 와 겹치는 구간이 하나라도 있는지
+    public boolean overlaps(long start, long end) {
+        Node<T> node = root;
+        while (node != null) {
+            if (node.start < end && start < node.end) {
+                return true;
+            }
+
+            // 왼쪽 서브트리에 start 이후에 끝나는 구간이 있으면 겹치는 구간은 왼쪽에만 있을 수 있다
+            node = node.left != null && node.left.maxEnd > start ? node.left : node.right;
+        }
+        return false;
+    }
+
+    // since 이후에 끝나는 구간을 시작 시각 순으로 반환
+    public List<Entry<T>> endingAfter(long since) {
+        List<Entry<T>> result = new ArrayList<>();
+        collect(root, since, result);
+        return result;
+    }
+
+    // [start, end) 와 겹치는 구간을 시작 시각 순으로 반환
+    public List<Entry<T>> overlapping(long start, long end) {
+        List<Entry<T>> result = new ArrayList<>();
+        collectOverlapping(root, start, end, result);
+        return result;
+    }
+
+    // 조건에 맞는 값을 모두 제거하고 제거한 수를 반환
+    public int removeIf(Predicate<Entry<T>> filter) {
+        List<Entry<T>> targets = new ArrayList<>();
+        collect(root, Long.MIN_VALUE, targets);
+
+        int removed = 0;
+        for (Entry<T> entry : targets) {
+            if (filter.test(entry) && remove(entry.start(), entry.end(), entry.value())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public record Entry<T>(long start, long end, T value) {
+    }
+
+    private void collect(Node<T> node, long since, List<Entry<T>> result) {
+        if (node == null || node.maxEnd <= since) {
+            return;
+        }
+
+        collect(node.left, since, result);
+        if (node.end > since) {
+            node.values.forEach(value -> result.add(new Entry<>(node.start, node.end, value)));
+        }
+        collect(node.right, since, result);
+    }
+
+    private void collectOverlapping(Node<T> node, long start, long end, List<Entry<T>> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+
+        collectOverlapping(node.left, start, end, result);
+        if (node.start >= end) {
+            return; // 오른쪽 서브트리는 모두 end 이후에 시작한다
+        }
+        if (node.end > start) {
+            node.values.forEach(value -> result.add(new Entry<>(node.start, node.end, value)));
+        }
+        collectOverlapping(node.right, start, end, result);
+    }
+
+    private Node<T> find(long start, long end) {
+        Node<T> node = root;
+        while (node != null) {
+            int cmp = compare(start, end, node);
+            if (cmp == 0) {
+                return node;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private Node<T> insert(Node<T> node, long start, long end, T value) {
+        if (node == null) {
+            return new Node<>(start, end, value);
+        }
+
+        int cmp = compare(start, end, node);
+        if (cmp == 0) {
+            node.values.add(value);
+            return node;
+        }
+
+        if (cmp < 0) {
+            node.left = insert(node.left, start, end, value);
+        } else {
+            node.right = insert(node.right, start, end, value);
+        }
+        return balance(node);
+    }
+
+    private Node<T> delete(Node<T> node, long start, long end) {
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = compare(start, end, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, end);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, end);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+
+            // 오른쪽 서브트리의 최소 노드로 대체
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private Node<T> deleteMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private int compare(long start, long end, Node<T> node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(end, node.end);
+    }
+
+    private Node<T> balance(Node<T> node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private int height(Node<T> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private long maxEnd(Node<T> node) {
+        return node == null ? Long.MIN_VALUE : node.maxEnd;
+    }
+
+    private static final class Node<T> {
+        private final long start;
+        private final long end;
+        private final List<T> values = new ArrayList<>(1);
+        private long maxEnd;
+        private int height = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, T value) {
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.values.add(value);
+        }
+    }
+}
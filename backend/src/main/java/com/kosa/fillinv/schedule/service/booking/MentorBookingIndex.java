@@ -0,0 +1,298 @@
+package com.kosa.fillinv.schedule.service.booking;
+
+import com.kosa.fillinv.global.response.ErrorCode;
+import com.kosa.fillinv.global.util.SlotBitmap;
+import com.kosa.fillinv.global.util.TransactionCallbacks;
+import com.kosa.fillinv.lesson.service.dto.BookedTimeVO;
+import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.entity.ScheduleTime;
+import com.kosa.fillinv.schedule.event.ScheduleStatusChangedEvent;
+import com.kosa.fillinv.schedule.exception.ScheduleException;
+import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.schedule.service.dto.MentorBookedTimeVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 멘토별 예약 시간 구간 색인
+ * 멘토의 모든 레슨에 걸친 예약 시간(schedule_time)을 멘토 단위 구간 트리로 관리해
+ * 1:1 멘토링 예약 시 시간 겹침을 O(log n) 에 확인하고, 레슨 상세의 예약된 시간을 조회 없이 제공한다.
+ * 같은 예약 시간을 일자별 10분 슬롯 비트맵으로도 유지해, 예약 가능 슬롯 계산을 비트 연산으로 처리한다.
+ * <p>
+ * - 멘토의 색인은 처음 사용될 때 DB 에서 읽어 구성하고, ttl 이 지나면 다시 읽는다. (다른 인스턴스의 예약/취소 반영)
+ * - 예약은 생성 트랜잭션 안에서 바로 색인에 반영하고(롤백 시 제거), 취소/완료는 커밋 이후 제거한다.
+ * <p>
+ * 색인의 겹침 확인은 예약 전 사전 확인이다. 다른 인스턴스의 예약은 보지 못할 수 있으므로 최종 확인은 예약 트랜잭션에서
+ * 멘토 행을 잠그고 DB 로 한다. (ScheduleValidator#validateMentorTimeAvailable)
+ * 다른 인스턴스에서 취소되어 색인에만 남은 예약과 겹치면, 그 예약이 아직 유효한지 DB 로 확인하고 지난 항목은 색인에서 지운다.
+ */
+@Slf4j
+@Component
+public class MentorBookingIndex {
+
+    // 시간을 점유하고 있는 스케쥴 상태
+    public static final Set<ScheduleStatus> BOOKED_STATUSES = Set.of(
+            ScheduleStatus.PAYMENT_PENDING, ScheduleStatus.APPROVAL_PENDING, ScheduleStatus.APPROVED);
+
+    // 지난 예약은 이 기간만큼만 보관한다 (레슨 상세의 예약된 시간 조회 범위)
+    private static final int RETENTION_DAYS = 7;
+
+    private final ScheduleRepository scheduleRepository;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    private final Map<String, Timeline> timelines = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MentorBookingIndex(
+            ScheduleRepository scheduleRepository,
+            @Value("${fillinv.schedule.booking-index.ttl-ms:60000}") long ttlMillis
+    ) {
+        this(scheduleRepository, ttlMillis, System::nanoTime);
+    }
+
+    MentorBookingIndex(ScheduleRepository scheduleRepository, long ttlMillis, LongSupplier nanoTime) {
+        this.scheduleRepository = scheduleRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 멘토의 다른 예약과 겹치지 않으면 스케쥴 시간을 색인에 등록한다.
+     * 겹침 확인과 등록은 멘토 단위로 원자적으로 수행되어 이 인스턴스에 동시에 들어온 예약 중 하나만 통과한다.
+     */
+    public void reserve(Schedule schedule) {
+        Timeline timeline = timeline(schedule.getMentorId());
+
+        synchronized (timeline) {
+            Set<String> conflicts = conflictingScheduleIds(timeline, schedule);
+            if (!conflicts.isEmpty()) {
+                discardStale(timeline, conflicts);
+                if (!conflictingScheduleIds(timeline, schedule).isEmpty()) {
+                    throw new ScheduleException(ErrorCode.SCHEDULE_TIME_CONFLICT);
+                }
+            }
+            add(timeline, schedule);
+        }
+
+        completeOnTransactionEnd(schedule);
+    }
+
+    /**
+     * 겹침 확인 없이 스케쥴 시간을 색인에 등록한다. (여러 멘티가 같은 시간을 공유하는 원데이/스터디)
+     */
+    public void register(Schedule schedule) {
+        Timeline timeline = timeline(schedule.getMentorId());
+
+        synchronized (timeline) {
+            add(timeline, schedule);
+        }
+
+        completeOnTransactionEnd(schedule);
+    }
+
+    // from ~ to 일자의 예약된 슬롯 비트맵 (SlotBitmap)
+    public Map<LocalDate, long[]> getBookedSlots(String mentorId, LocalDate from, LocalDate to) {
+        Timeline timeline = timeline(mentorId);
+
+        synchronized (timeline) {
+            Map<LocalDate, long[]> result = new LinkedHashMap<>();
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                result.put(date, timeline.slots.day(date));
+            }
+            return result;
+        }
+    }
+
+    // since 이후에 끝나는 멘토의 예약 시간 (원데이/스터디처럼 여러 스케쥴이 같은 시간을 쓰면 한 번만 반환)
+    public List<BookedTimeVO> getBookedTimes(String mentorId, Instant since) {
+        Timeline timeline = timeline(mentorId);
+
+        synchronized (timeline) {
+            return timeline.tree.endingAfter(since.toEpochMilli()).stream()
+                    .map(entry -> new BookedTimeVO(Instant.ofEpochMilli(entry.start()), Instant.ofEpochMilli(entry.end())))
+                    .distinct()
+                    .toList();
+        }
+    }
+
+    @EventListener
+    public void on(ScheduleStatusChangedEvent event) {
+        if (event.from() == null || BOOKED_STATUSES.contains(event.to())) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            Timeline timeline = timelines.get(event.mentorId());
+            if (timeline == null) {
+                return;
+            }
+
+            synchronized (timeline) {
+                removeSchedules(timeline, Set.of(event.scheduleId()));
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${fillinv.schedule.booking-index.prune-interval-ms:3600000}",
+            fixedDelayString = "${fillinv.schedule.booking-index.prune-interval-ms:3600000}"
+    )
+    public void prune() {
+        long retainedAfter = retainedAfter().toEpochMilli();
+        int removed = 0;
+
+        for (Timeline timeline : timelines.values()) {
+            synchronized (timeline) {
+                removed += timeline.tree.removeIf(entry -> entry.end() <= retainedAfter);
+                timeline.slots.removeBefore(Instant.ofEpochMilli(retainedAfter).atZone(SlotBitmap.ZONE).toLocalDate());
+            }
+        }
+
+        if (removed > 0) {
+            log.info("Past bookings pruned from mentor booking index. removed={}", removed);
+        }
+    }
+
+    private void add(Timeline timeline, Schedule schedule) {
+        timeline.pending.put(schedule.getId(), schedule);
+        for (ScheduleTime time : schedule.getScheduleTimeList()) {
+            timeline.tree.insert(time.getStartTime().toEpochMilli(), time.getEndTime().toEpochMilli(), schedule.getId());
+            timeline.slots.markCovering(time.getStartTime(), time.getEndTime());
+        }
+    }
+
+    private void remove(Schedule schedule) {
+        Timeline timeline = timelines.get(schedule.getMentorId());
+        if (timeline == null) {
+            return;
+        }
+
+        synchronized (timeline) {
+            timeline.pending.remove(schedule.getId());
+            Set<LocalDate> dates = new HashSet<>();
+            for (ScheduleTime time : schedule.getScheduleTimeList()) {
+                timeline.tree.remove(time.getStartTime().toEpochMilli(), time.getEndTime().toEpochMilli(), schedule.getId());
+                dates.addAll(SlotBitmap.datesOf(time.getStartTime(), time.getEndTime()));
+            }
+            rebuildSlots(timeline, dates);
+        }
+    }
+
+    // 커밋되면 진행 중 표시만 지우고, 롤백되면 색인에서 제거한다
+    private void completeOnTransactionEnd(Schedule schedule) {
+        TransactionCallbacks.afterCommit(() -> {
+            Timeline timeline = timelines.get(schedule.getMentorId());
+            if (timeline != null) {
+                synchronized (timeline) {
+                    timeline.pending.remove(schedule.getId());
+                }
+            }
+        });
+        TransactionCallbacks.afterRollback(() -> remove(schedule));
+    }
+
+    private Set<String> conflictingScheduleIds(Timeline timeline, Schedule schedule) {
+        Set<String> scheduleIds = new HashSet<>();
+        for (ScheduleTime time : schedule.getScheduleTimeList()) {
+            timeline.tree.overlapping(time.getStartTime().toEpochMilli(), time.getEndTime().toEpochMilli())
+                    .forEach(entry -> scheduleIds.add(entry.value()));
+        }
+        return scheduleIds;
+    }
+
+    // 이 인스턴스에서 진행 중인 예약이 아닌데 DB 에서 더 이상 시간을 점유하지 않는 스케쥴은 색인에서 지운다
+    private void discardStale(Timeline timeline, Set<String> scheduleIds) {
+        Set<String> candidates = new HashSet<>(scheduleIds);
+        candidates.removeAll(timeline.pending.keySet());
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        candidates.removeAll(scheduleRepository.findIdsByIdInAndStatusIn(candidates, BOOKED_STATUSES));
+        if (!candidates.isEmpty()) {
+            removeSchedules(timeline, candidates);
+            log.info("Stale bookings discarded from mentor booking index. removed={}", candidates.size());
+        }
+    }
+
+    private void removeSchedules(Timeline timeline, Set<String> scheduleIds) {
+        Set<LocalDate> dates = new HashSet<>();
+        timeline.tree.removeIf(entry -> {
+            if (!scheduleIds.contains(entry.value())) {
+                return false;
+            }
+            dates.addAll(SlotBitmap.datesOf(Instant.ofEpochMilli(entry.start()), Instant.ofEpochMilli(entry.end())));
+            return true;
+        });
+        rebuildSlots(timeline, dates);
+    }
+
+    // 같은 슬롯을 다른 예약이 함께 쓰고 있을 수 있으므로 제거된 일자의 비트맵은 남은 예약으로 다시 계산한다
+    private void rebuildSlots(Timeline timeline, Set<LocalDate> dates) {
+        dates.forEach(timeline.slots::clear);
+        for (LocalDate date : dates) {
+            long dayStart = SlotBitmap.startOf(date).toEpochMilli();
+            long dayEnd = SlotBitmap.startOf(date.plusDays(1)).toEpochMilli();
+            timeline.tree.overlapping(dayStart, dayEnd).forEach(entry -> timeline.slots.markCovering(
+                    Instant.ofEpochMilli(entry.start()), Instant.ofEpochMilli(entry.end())));
+        }
+    }
+
+    // 처음 사용하거나 ttl 이 지난 멘토는 커밋된 예약으로 색인을 다시 구성한다 (이 인스턴스에서 진행 중인 예약은 유지)
+    private Timeline timeline(String mentorId) {
+        Timeline timeline = timelines.computeIfAbsent(mentorId, id -> new Timeline());
+
+        synchronized (timeline) {
+            long now = nanoTime.getAsLong();
+            if (!timeline.loaded || now - timeline.loadedAt >= ttlNanos) {
+                timeline.tree.removeIf(entry -> true);
+                timeline.slots.removeBefore(LocalDate.MAX);
+
+                List<MentorBookedTimeVO> bookedTimes = scheduleRepository.findMentorBookedTimes(mentorId, BOOKED_STATUSES, retainedAfter());
+                bookedTimes.forEach(time -> {
+                    if (!timeline.pending.containsKey(time.scheduleId())) {
+                        timeline.tree.insert(time.startTime().toEpochMilli(), time.endTime().toEpochMilli(), time.scheduleId());
+                        timeline.slots.markCovering(time.startTime(), time.endTime());
+                    }
+                });
+                List.copyOf(timeline.pending.values()).forEach(schedule -> add(timeline, schedule));
+
+                timeline.loaded = true;
+                timeline.loadedAt = now;
+            }
+        }
+        return timeline;
+    }
+
+    private Instant retainedAfter() {
+        return Instant.now().minus(RETENTION_DAYS, ChronoUnit.DAYS);
+    }
+
+    private static final class Timeline {
+        private final IntervalTree<String> tree = new IntervalTree<>();
+        private final SlotBitmap slots = new SlotBitmap();
+        // 이 인스턴스에서 트랜잭션이 끝나지 않은 예약 (다시 구성해도 남기고, DB 확인 대상에서 뺀다)
+        private final Map<String, Schedule> pending = new HashMap<>();
+        private boolean loaded = false;
+        private long loadedAt;
+    }
+}
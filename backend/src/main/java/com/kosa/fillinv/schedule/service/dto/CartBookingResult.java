@@ -0,0 +1,9 @@
+package com.kosa.fillinv.schedule.service.dto;
+
+import java.util.List;
+
+public record CartBookingResult(
+        String cartId,
+        List<String> scheduleIds
+) {
+}
@@ -0,0 +1,10 @@
+package com.kosa.fillinv.schedule.service.dto;
+
+import java.time.Instant;
+
+public record MentorBookedTimeVO(
+        String scheduleId,
+        Instant startTime,
+        Instant endTime
+) {
+}
@@ -0,0 +1,51 @@
+package com.kosa.fillinv.schedule.service.dto;
+
+import com.kosa.fillinv.global.exception.BusinessException;
+import com.kosa.fillinv.global.response.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 스케쥴 목록 커서 (마지막 항목의 startTime + scheduleTimeId)
+ * 클라이언트에는 Base64 로 인코딩된 불투명 토큰으로 전달한다.
+ */
+public record ScheduleCursor(
+        ScheduleSortType sortType,
+        Instant startTime,
+        String scheduleTimeId
+) {
+
+    private static final String DELIMITER = "\n";
+
+    public static ScheduleCursor decode(String token, ScheduleSortType expectedSortType) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, 3);
+            if (parts.length != 3) {
+                throw new BusinessException(ErrorCode.INVALID_SCHEDULE_CURSOR);
+            }
+
+            ScheduleSortType sortType = ScheduleSortType.valueOf(parts[0]);
+            if (sortType != expectedSortType) {
+                // 정렬 방향이 바뀌면 이전 커서는 의미가 없다
+                throw new BusinessException(ErrorCode.INVALID_SCHEDULE_CURSOR);
+            }
+
+            return new ScheduleCursor(sortType, Instant.parse(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_SCHEDULE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + startTime + DELIMITER + scheduleTimeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package com.kosa.fillinv.schedule.service.dto;
+
+import java.time.Instant;
+
+public record SeatHoldVO(
+        String scheduleId,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,46 @@
+package com.kosa.fillinv.stock.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 좌석 재고 변경 이력 (추가만 가능)
+ * 남은 좌석 수 = stocks.quantity(스냅샷) + 아직 반영되지 않은(folded_at IS NULL) 항목의 delta 합
+ * 반영된 항목도 지우지 않고 folded_at 만 기록해 좌석 분쟁 시 이력을 확인할 수 있게 한다.
+ * 기본(database) 재고는 stocks 를 직접 갱신하므로 기록할 때 바로 반영된 항목(folded_at = created_at)으로 남긴다.
+ */
+@Entity
+@Getter
+@Table(name = "stock_ledger", indexes = {
+        @Index(name = "idx_stock_ledger_service_key", columnList = "service_key, folded_at"),
+        @Index(name = "idx_stock_ledger_folded_at", columnList = "folded_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stock_ledger_id", nullable = false)
+    private Long id;
+
+    @Column(name = "service_key", nullable = false)
+    private String serviceKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    private StockLedgerType type;
+
+    @Column(name = "delta", nullable = false)
+    private Integer delta;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // 스냅샷(stocks.quantity)에 반영된 시각
+    @Column(name = "folded_at")
+    private Instant foldedAt;
+}
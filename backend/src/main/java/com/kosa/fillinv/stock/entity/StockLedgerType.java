@@ -0,0 +1,6 @@
+package com.kosa.fillinv.stock.entity;
+
+public enum StockLedgerType {
+    RESERVE, // 좌석 예약 (delta < 0)
+    RELEASE  // 좌석 반환 (delta > 0)
+}
@@ -0,0 +1,120 @@
+package com.kosa.fillinv.stock.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class StockBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * serviceKey 별 수량 변화량을 stocks 에 대량 반영
+     */
+    public void bulkAddQuantity(Map<String, Integer> deltas) {
+        String sql = "UPDATE stocks SET quantity = quantity + ? WHERE service_key = ?";
+
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(deltas.entrySet());
+        for (int i = 0; i < entries.size(); i += BATCH_SIZE) {
+            List<Map.Entry<String, Integer>> batchList = entries.subList(i, Math.min(entries.size(), i + BATCH_SIZE));
+            jdbcTemplate.batchUpdate(sql, batchList, batchList.size(), (ps, entry) -> {
+                ps.setInt(1, entry.getValue());
+                ps.setString(2, entry.getKey());
+            });
+        }
+    }
+
+    /**
+     * (좌석 수 - 취소되지 않은 스케쥴 수) 와 다른 재고만 조회 (잠금 없는 조회, 원데이 + 스터디)
+     */
+    public List<QuantityDrift> findDrifts() {
+        String sql = "SELECT st.service_key, st.quantity, GREATEST(0, a.seats - COALESCE(c.cnt, 0)) AS expected " +
+                "FROM stocks st " +
+                "JOIN available_times a ON a.available_time_id = st.service_key " +
+                "LEFT JOIN (SELECT available_time_id, COUNT(*) AS cnt FROM schedules " +
+                "WHERE status <> 'CANCELED' AND deleted_at IS NULL AND available_time_id IS NOT NULL " +
+                "GROUP BY available_time_id) c ON c.available_time_id = st.service_key " +
+                "WHERE a.seats IS NOT NULL AND st.quantity <> GREATEST(0, a.seats - COALESCE(c.cnt, 0)) " +
+                "UNION ALL " +
+                "SELECT st.service_key, st.quantity, GREATEST(0, l.seats - COALESCE(c.cnt, 0)) AS expected " +
+                "FROM stocks st " +
+                "JOIN lessons l ON l.lesson_id = st.service_key " +
+                "LEFT JOIN (SELECT lesson_id, COUNT(*) AS cnt FROM schedules " +
+                "WHERE status <> 'CANCELED' AND deleted_at IS NULL GROUP BY lesson_id) c ON c.lesson_id = st.service_key " +
+                "WHERE l.lesson_type = 'STUDY' AND l.seats IS NOT NULL AND st.quantity <> GREATEST(0, l.seats - COALESCE(c.cnt, 0))";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) ->
+                new QuantityDrift(rs.getString("service_key"), rs.getInt("quantity"), rs.getInt("expected")));
+    }
+
+    /**
+     * 조회한 뒤 수량이 바뀌지 않은 재고만 기대 수량으로 맞춘다. (PK 단위 갱신)
+     */
+    public int fixDrifts(List<QuantityDrift> drifts) {
+        String sql = "UPDATE stocks SET quantity = ? WHERE service_key = ? AND quantity = ?";
+
+        int fixed = 0;
+        for (int i = 0; i < drifts.size(); i += BATCH_SIZE) {
+            List<QuantityDrift> batchList = drifts.subList(i, Math.min(drifts.size(), i + BATCH_SIZE));
+            int[][] results = jdbcTemplate.batchUpdate(sql, batchList, batchList.size(), (ps, drift) -> {
+                ps.setInt(1, drift.expected());
+                ps.setString(2, drift.serviceKey());
+                ps.setInt(3, drift.quantity());
+            });
+            for (int[] batch : results) {
+                for (int count : batch) {
+                    fixed += Math.max(count, 0);
+                }
+            }
+        }
+        return fixed;
+    }
+
+    /**
+     * 여러 serviceKey 의 수량을 모두 차감하거나, 하나라도 부족하면 아무것도 차감하지 않는다.
+     * 교착 상태를 피하기 위해 serviceKey 순서로 행을 잠근 뒤 한 번의 UPDATE 로 차감한다.
+     */
+    public boolean takeAll(Map<String, Integer> counts) {
+        List<String> keys = counts.keySet().stream().sorted().toList();
+        String placeholders = String.join(", ", Collections.nCopies(keys.size(), "?"));
+
+        Map<String, Integer> quantities = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT service_key, quantity FROM stocks WHERE service_key IN (" + placeholders + ") ORDER BY service_key FOR UPDATE",
+                rs -> {
+                    quantities.put(rs.getString("service_key"), rs.getInt("quantity"));
+                },
+                keys.toArray());
+
+        for (String key : keys) {
+            if (quantities.getOrDefault(key, 0) < counts.get(key)) {
+                return false;
+            }
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE stocks SET quantity = quantity - CASE service_key");
+        List<Object> args = new ArrayList<>();
+        for (String key : keys) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(key);
+            args.add(counts.get(key));
+        }
+        sql.append(" END WHERE service_key IN (").append(placeholders).append(")");
+        args.addAll(keys);
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+        return true;
+    }
+
+    public record QuantityDrift(String serviceKey, int quantity, int expected) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.kosa.fillinv.stock.repository;
+
+import com.kosa.fillinv.stock.entity.StockLedgerType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class StockLedgerRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * serviceKey 별 변화량을 이력으로 추가 (stocks 행은 건드리지 않으므로 행 잠금 경합이 없다)
+     */
+    public void append(Map<String, Integer> deltas, StockLedgerType type) {
+        insert(deltas, type, false);
+    }
+
+    /**
+     * 이미 stocks 에 반영한 변화량을 반영된 이력(folded_at = 기록 시각)으로 추가한다.
+     * 스냅샷 계산에는 포함되지 않고 좌석 분쟁 시 확인용 이력으로만 남는다.
+     */
+    public void appendFolded(Map<String, Integer> deltas, StockLedgerType type) {
+        insert(deltas, type, true);
+    }
+
+    /**
+     * 스냅샷 + 반영되지 않은 변화량 합 (재고 행이 없으면 empty)
+     */
+    public Optional<Integer> findAvailable(String serviceKey) {
+        List<Integer> available = jdbcTemplate.queryForList(
+                "SELECT s.quantity + COALESCE((SELECT SUM(l.delta) FROM stock_ledger l " +
+                        "WHERE l.service_key = s.service_key AND l.folded_at IS NULL), 0) " +
+                        "FROM stocks s WHERE s.service_key = ?",
+                Integer.class, serviceKey);
+        return available.stream().findFirst();
+    }
+
+    /**
+     * 반영되지 않은 이력을 오래된 순으로 최대 limit 개 잠그고 serviceKey 별 변화량 합과 id 목록을 반환
+     */
+    public Fold lockUnfolded(int limit) {
+        Map<String, Integer> deltas = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+
+        jdbcTemplate.query(
+                "SELECT stock_ledger_id, service_key, delta FROM stock_ledger " +
+                        "WHERE folded_at IS NULL ORDER BY stock_ledger_id LIMIT ? FOR UPDATE",
+                rs -> {
+                    ids.add(rs.getLong("stock_ledger_id"));
+                    deltas.merge(rs.getString("service_key"), rs.getInt("delta"), Integer::sum);
+                },
+                limit);
+
+        return new Fold(ids, deltas);
+    }
+
+    public void markFolded(List<Long> ids) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.from(Instant.now()));
+        args.addAll(ids);
+
+        jdbcTemplate.update(
+                "UPDATE stock_ledger SET folded_at = ? WHERE stock_ledger_id IN (" + placeholders + ")",
+                args.toArray());
+    }
+
+    private void insert(Map<String, Integer> deltas, StockLedgerType type, boolean folded) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(deltas.entrySet());
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO stock_ledger (service_key, entry_type, delta, created_at, folded_at) VALUES (?, ?, ?, ?, ?)",
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setString(1, entry.getKey());
+                    ps.setString(2, type.name());
+                    ps.setInt(3, entry.getValue());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, folded ? now : null);
+                });
+    }
+
+    public record Fold(List<Long> ids, Map<String, Integer> deltas) {
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface StockRepository extends JpaRepository<Stock, String> {
 
@@ -21,4 +22,6 @@ public interface StockRepository extends JpaRepository<Stock, String> {
     int increaseQuantity(@Param("key") String key);
 
     List<Stock> findAllByServiceKeyIn(Collection<String> serviceKeys);
+
+    Optional<Stock> findByServiceKey(String serviceKey);
 }
@@ -0,0 +1,65 @@
+package com.kosa.fillinv.stock.service;
+
+import com.kosa.fillinv.stock.entity.Stock;
+import com.kosa.fillinv.stock.entity.StockLedgerType;
+import com.kosa.fillinv.stock.repository.StockBulkRepository;
+import com.kosa.fillinv.stock.repository.StockLedgerRepository;
+import com.kosa.fillinv.stock.repository.StockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * stocks 행을 직접 갱신하는 좌석 재고 (기본 구현)
+ * 조건부 UPDATE 의 행 잠금으로 초과 판매를 막으므로 여러 인스턴스가 같은 DB 를 공유해도 안전하다.
+ * 차감/반환은 같은 트랜잭션에서 stock_ledger 에 반영된 이력으로도 남긴다. (좌석 분쟁 확인용, 스냅샷 계산에는 쓰지 않는다)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fillinv.stock.inventory", havingValue = "database", matchIfMissing = true)
+public class DatabaseSeatInventory implements SeatInventory {
+
+    private final StockRepository stockRepository;
+    private final StockBulkRepository stockBulkRepository;
+    private final StockLedgerRepository stockLedgerRepository;
+
+    @Override
+    public boolean reserve(String serviceKey) {
+        if (stockRepository.decreaseQuantity(serviceKey) == 0) {
+            return false;
+        }
+
+        stockLedgerRepository.appendFolded(Map.of(serviceKey, -1), StockLedgerType.RESERVE);
+        return true;
+    }
+
+    @Override
+    public boolean reserveAll(Map<String, Integer> counts) {
+        if (!stockBulkRepository.takeAll(counts)) {
+            return false;
+        }
+
+        Map<String, Integer> deltas = new HashMap<>();
+        counts.forEach((serviceKey, count) -> deltas.put(serviceKey, -count));
+        stockLedgerRepository.appendFolded(deltas, StockLedgerType.RESERVE);
+        return true;
+    }
+
+    @Override
+    public void release(String serviceKey) {
+        if (stockRepository.increaseQuantity(serviceKey) > 0) {
+            stockLedgerRepository.appendFolded(Map.of(serviceKey, 1), StockLedgerType.RELEASE);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> getRemaining(Set<String> serviceKeys) {
+        return stockRepository.findAllByServiceKeyIn(serviceKeys).stream()
+                .collect(Collectors.toMap(Stock::getServiceKey, Stock::getQuantity));
+    }
+}
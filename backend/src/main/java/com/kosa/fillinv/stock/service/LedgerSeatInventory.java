@@ -0,0 +1,144 @@
+package com.kosa.fillinv.stock.service;
+
+import com.kosa.fillinv.global.util.TransactionCallbacks;
+import com.kosa.fillinv.stock.entity.StockLedgerType;
+import com.kosa.fillinv.stock.repository.StockBulkRepository;
+import com.kosa.fillinv.stock.repository.StockLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 추가 전용 이력(stock_ledger) 기반 좌석 재고
+ * <p>
+ * - 예약/반환은 stocks 행을 갱신하지 않고 호출 측 트랜잭션 안에서 이력 INSERT 만 하므로 행 잠금 경합이 없다.
+ * - 남은 좌석 수는 stocks.quantity(스냅샷) + 반영되지 않은 이력의 합이며, 초과 판매는 메모리 카운터(StripedSeatCounter)로 막는다.
+ * - 이력은 스케쥴과 같은 트랜잭션으로 커밋되므로 서버가 종료되어도 잃지 않고, 재시작 시 스냅샷 + 이력으로 카운터를 다시 만든다.
+ * - 주기적으로 반영되지 않은 이력을 스냅샷에 합치고 folded_at 을 기록한다. 이력은 지우지 않는다.
+ * 카운터가 인스턴스 메모리에 있으므로 striped 구현과 같이 단일 인스턴스 배포 전용이며, 그래서 기본 구현이 아니라
+ * fillinv.stock.inventory=ledger 로 선택한다. 다른 구현(database, striped)도 같은 stock_ledger 에 반영된 이력을 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fillinv.stock.inventory", havingValue = "ledger")
+public class LedgerSeatInventory implements SeatInventory {
+
+    private static final int MAX_STRIPES = Runtime.getRuntime().availableProcessors();
+    private static final int COMPACT_BATCH_SIZE = 1000;
+
+    private final StockLedgerRepository stockLedgerRepository;
+    private final StockBulkRepository stockBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, StripedSeatCounter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean reserve(String serviceKey) {
+        return reserveAll(Map.of(serviceKey, 1));
+    }
+
+    @Override
+    public boolean reserveAll(Map<String, Integer> counts) {
+        Map<StripedSeatCounter, Integer> acquired = new HashMap<>();
+
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            StripedSeatCounter counter = counter(entry.getKey());
+            for (int i = 0; i < entry.getValue(); i++) {
+                if (counter == null || !counter.tryAcquire()) {
+                    // 하나라도 부족하면 이미 잡은 좌석을 모두 돌려준다
+                    acquired.forEach(this::releaseAll);
+                    return false;
+                }
+                acquired.merge(counter, 1, Integer::sum);
+            }
+        }
+
+        TransactionCallbacks.afterRollback(() -> acquired.forEach(this::releaseAll));
+
+        Map<String, Integer> deltas = new HashMap<>();
+        counts.forEach((serviceKey, count) -> deltas.put(serviceKey, -count));
+        stockLedgerRepository.append(deltas, StockLedgerType.RESERVE);
+        return true;
+    }
+
+    @Override
+    public void release(String serviceKey) {
+        stockLedgerRepository.append(Map.of(serviceKey, 1), StockLedgerType.RELEASE);
+
+        TransactionCallbacks.afterCommit(() -> {
+            StripedSeatCounter counter = counters.get(serviceKey);
+            if (counter != null) {
+                counter.release();
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Integer> getRemaining(Set<String> serviceKeys) {
+        Map<String, Integer> remaining = new HashMap<>();
+        for (String serviceKey : serviceKeys) {
+            StripedSeatCounter counter = counter(serviceKey);
+            if (counter != null) {
+                remaining.put(serviceKey, counter.remaining());
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * 반영되지 않은 이력을 스냅샷(stocks.quantity)에 합친다.
+     * 스냅샷 갱신과 folded_at 기록이 한 트랜잭션이므로 남은 좌석 수 계산은 어느 시점에도 같은 값을 본다.
+     */
+    @Scheduled(
+            initialDelayString = "${fillinv.stock.ledger.compact-interval-ms:5000}",
+            fixedDelayString = "${fillinv.stock.ledger.compact-interval-ms:5000}"
+    )
+    public void compact() {
+        int folded;
+        do {
+            try {
+                folded = transactionTemplate.execute(status -> {
+                    StockLedgerRepository.Fold fold = stockLedgerRepository.lockUnfolded(COMPACT_BATCH_SIZE);
+                    if (fold.ids().isEmpty()) {
+                        return 0;
+                    }
+
+                    stockBulkRepository.bulkAddQuantity(fold.deltas());
+                    stockLedgerRepository.markFolded(fold.ids());
+                    return fold.ids().size();
+                });
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도
+                log.warn("Failed to compact stock ledger.", e);
+                return;
+            }
+        } while (folded == COMPACT_BATCH_SIZE);
+    }
+
+    private StripedSeatCounter counter(String serviceKey) {
+        StripedSeatCounter counter = counters.get(serviceKey);
+        if (counter != null) {
+            return counter;
+        }
+
+        // 재고 행이 없는 key 는 캐시하지 않는다 (레슨 생성 트랜잭션이 아직 커밋되지 않았을 수 있음)
+        return stockLedgerRepository.findAvailable(serviceKey)
+                .map(available -> counters.computeIfAbsent(serviceKey, k -> new StripedSeatCounter(available, MAX_STRIPES)))
+                .orElse(null);
+    }
+
+    private void releaseAll(StripedSeatCounter counter, int count) {
+        for (int i = 0; i < count; i++) {
+            counter.release();
+        }
+    }
+}
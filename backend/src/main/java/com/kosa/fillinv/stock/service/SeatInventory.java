@@ -0,0 +1,32 @@
+package com.kosa.fillinv.stock.service;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * serviceKey(원데이: availableTimeId, 스터디: lessonId) 단위 좌석 재고
+ * 구현은 fillinv.stock.inventory 설정으로 선택한다. (기본값 database)
+ * 어느 구현이든 예약/반환은 호출 측 트랜잭션에서 stock_ledger 이력으로 남는다.
+ */
+public interface SeatInventory {
+
+    /**
+     * 좌석 1개를 예약한다. 남은 좌석이 없거나 재고가 없는 key 면 false
+     * 호출 측 트랜잭션이 롤백되면 예약도 취소된다.
+     */
+    boolean reserve(String serviceKey);
+
+    /**
+     * 여러 key 의 좌석을 한 번에 예약한다. (serviceKey -> 좌석 수)
+     * 하나라도 부족하면 아무것도 예약하지 않고 false 를 반환한다.
+     * 호출 측 트랜잭션이 롤백되면 예약도 취소된다.
+     */
+    boolean reserveAll(Map<String, Integer> counts);
+
+    /**
+     * 좌석 1개를 반환한다. 호출 측 트랜잭션이 커밋된 경우에만 반영된다.
+     */
+    void release(String serviceKey);
+
+    Map<String, Integer> getRemaining(Set<String> serviceKeys);
+}
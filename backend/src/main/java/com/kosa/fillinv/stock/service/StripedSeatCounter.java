@@ -0,0 +1,59 @@
+package com.kosa.fillinv.stock.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 잠금 없는 좌석 카운터
+ * 남은 좌석을 여러 슬롯(stripe)에 나눠 담고, 각 슬롯은 0 아래로 내려가지 않도록 CAS 로만 감소시킨다.
+ * 동시 요청은 서로 다른 슬롯에서 시작하므로 한 값에 대한 CAS 경합이 줄어든다.
+ */
+class StripedSeatCounter {
+
+    // 슬롯끼리 같은 캐시 라인을 공유하지 않도록 64 byte 간격으로 배치
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray slots;
+    private final int stripeCount;
+
+    StripedSeatCounter(int quantity, int maxStripes) {
+        int remaining = Math.max(quantity, 0);
+        this.stripeCount = Math.max(1, Math.min(maxStripes, remaining));
+        this.slots = new AtomicIntegerArray(stripeCount * PADDING);
+
+        for (int i = 0; i < stripeCount; i++) {
+            int share = remaining / stripeCount + (i < remaining % stripeCount ? 1 : 0);
+            slots.set(i * PADDING, share);
+        }
+    }
+
+    boolean tryAcquire() {
+        int start = ThreadLocalRandom.current().nextInt(stripeCount);
+
+        for (int i = 0; i < stripeCount; i++) {
+            int index = ((start + i) % stripeCount) * PADDING;
+
+            int current = slots.get(index);
+            while (current > 0) {
+                if (slots.compareAndSet(index, current, current - 1)) {
+                    return true;
+                }
+                current = slots.get(index);
+            }
+        }
+        return false;
+    }
+
+    void release() {
+        int stripe = ThreadLocalRandom.current().nextInt(stripeCount);
+        slots.incrementAndGet(stripe * PADDING);
+    }
+
+    int remaining() {
+        int sum = 0;
+        for (int i = 0; i < stripeCount; i++) {
+            sum += slots.get(i * PADDING);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,199 @@
+package com.kosa.fillinv.stock.service;
+
+import com.kosa.fillinv.global.util.TransactionCallbacks;
+import com.kosa.fillinv.stock.entity.Stock;
+import com.kosa.fillinv.stock.entity.StockLedgerType;
+import com.kosa.fillinv.stock.repository.StockBulkRepository;
+import com.kosa.fillinv.stock.repository.StockLedgerRepository;
+import com.kosa.fillinv.stock.repository.StockRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메모리 좌석 재고 (fillinv.stock.inventory=striped 로 선택)
+ * 예약/반환은 serviceKey 별 잠금 없는 카운터에서 처리하므로 인기 레슨 오픈 시에도 stocks 행 잠금을 기다리지 않는다.
+ * 커밋된 변화량만 모아 두었다가 주기적으로 stocks 에 일괄 반영한다. (write-behind)
+ *
+ * 반영 전에 서버가 종료되어 변화량을 잃더라도, 시작 시 (좌석 수 - 취소되지 않은 스케쥴 수) 와 다른 재고만 골라
+ * 다시 맞추므로 스케쥴 테이블 기준으로 복구된다.
+ * 예약/반환은 호출 측 트랜잭션에서 stock_ledger 에 반영된 이력(folded)으로 남긴다. stocks 반영은 write-behind 로 늦어지지만,
+ * 반영 전 유실분도 시작 시 스케쥴 기준으로 다시 맞추므로 이력은 ledger 구현의 남은 좌석 계산에 중복으로 더하지 않는다.
+ * 카운터가 인스턴스 메모리에 있으므로 단일 인스턴스 배포 전용이다. 인스턴스가 둘 이상이면 각자 다른 카운터로 판매해
+ * 초과 판매되므로 반드시 기본값인 database 구현을 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fillinv.stock.inventory", havingValue = "striped")
+public class StripedSeatInventory implements SeatInventory {
+
+    private static final int MAX_STRIPES = Runtime.getRuntime().availableProcessors();
+
+    private final StockRepository stockRepository;
+    private final StockBulkRepository stockBulkRepository;
+    private final StockLedgerRepository stockLedgerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, StripedSeatCounter> counters = new ConcurrentHashMap<>();
+
+    // 커밋되었지만 아직 stocks 에 반영되지 않은 변화량
+    private final Map<String, AtomicInteger> pendingDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * 기대 수량과 다른 재고만 잠금 없는 조회로 고른 뒤 PK 로 갱신한다. (정상 종료 후에는 갱신할 행이 없다)
+     */
+    @PostConstruct
+    public void recover() {
+        List<StockBulkRepository.QuantityDrift> drifts = stockBulkRepository.findDrifts();
+        if (drifts.isEmpty()) {
+            return;
+        }
+
+        Integer fixed = transactionTemplate.execute(status -> stockBulkRepository.fixDrifts(drifts));
+        log.info("Stocks reconciled from schedules. drifted={}, fixed={}", drifts.size(), fixed);
+    }
+
+    @Override
+    public boolean reserve(String serviceKey) {
+        StripedSeatCounter counter = counter(serviceKey);
+        if (counter == null || !counter.tryAcquire()) {
+            return false;
+        }
+
+        TransactionCallbacks.afterCommit(() -> addPending(serviceKey, -1));
+        TransactionCallbacks.afterRollback(counter::release);
+
+        stockLedgerRepository.appendFolded(Map.of(serviceKey, -1), StockLedgerType.RESERVE);
+        return true;
+    }
+
+    @Override
+    public boolean reserveAll(Map<String, Integer> counts) {
+        Map<StripedSeatCounter, Integer> acquired = new HashMap<>();
+
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            StripedSeatCounter counter = counter(entry.getKey());
+            for (int i = 0; i < entry.getValue(); i++) {
+                if (counter == null || !counter.tryAcquire()) {
+                    // 하나라도 부족하면 이미 잡은 좌석을 모두 돌려준다
+                    acquired.forEach((it, count) -> releaseAll(it, count));
+                    return false;
+                }
+                acquired.merge(counter, 1, Integer::sum);
+            }
+        }
+
+        TransactionCallbacks.afterCommit(() -> counts.forEach((serviceKey, count) -> addPending(serviceKey, -count)));
+        TransactionCallbacks.afterRollback(() -> acquired.forEach(this::releaseAll));
+
+        Map<String, Integer> deltas = new HashMap<>();
+        counts.forEach((serviceKey, count) -> deltas.put(serviceKey, -count));
+        stockLedgerRepository.appendFolded(deltas, StockLedgerType.RESERVE);
+        return true;
+    }
+
+    @Override
+    public void release(String serviceKey) {
+        StripedSeatCounter counter = counter(serviceKey);
+        if (counter == null) {
+            return;
+        }
+
+        stockLedgerRepository.appendFolded(Map.of(serviceKey, 1), StockLedgerType.RELEASE);
+        TransactionCallbacks.afterCommit(() -> {
+            counter.release();
+            addPending(serviceKey, 1);
+        });
+    }
+
+    @Override
+    public Map<String, Integer> getRemaining(Set<String> serviceKeys) {
+        Map<String, Integer> remaining = new HashMap<>();
+
+        List<String> missing = new ArrayList<>();
+        for (String serviceKey : serviceKeys) {
+            StripedSeatCounter counter = counters.get(serviceKey);
+            if (counter == null) {
+                missing.add(serviceKey);
+            } else {
+                remaining.put(serviceKey, counter.remaining());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (Stock stock : stockRepository.findAllByServiceKeyIn(missing)) {
+                StripedSeatCounter counter = counters.computeIfAbsent(stock.getServiceKey(), k -> newCounter(stock));
+                remaining.put(stock.getServiceKey(), counter.remaining());
+            }
+        }
+
+        return remaining;
+    }
+
+    @Scheduled(
+            initialDelayString = "${fillinv.stock.write-behind-interval-ms:200}",
+            fixedDelayString = "${fillinv.stock.write-behind-interval-ms:200}"
+    )
+    public synchronized void flush() {
+        Map<String, Integer> deltas = new HashMap<>();
+        pendingDeltas.forEach((serviceKey, delta) -> {
+            int value = delta.getAndSet(0);
+            if (value != 0) {
+                deltas.put(serviceKey, value);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> stockBulkRepository.bulkAddQuantity(deltas));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영
+            deltas.forEach(this::addPending);
+            log.warn("Failed to write back stock deltas. keys={}", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private StripedSeatCounter counter(String serviceKey) {
+        StripedSeatCounter counter = counters.get(serviceKey);
+        if (counter != null) {
+            return counter;
+        }
+
+        // 재고 행이 없는 key 는 캐시하지 않는다 (레슨 생성 트랜잭션이 아직 커밋되지 않았을 수 있음)
+        return stockRepository.findByServiceKey(serviceKey)
+                .map(stock -> counters.computeIfAbsent(serviceKey, k -> newCounter(stock)))
+                .orElse(null);
+    }
+
+    private StripedSeatCounter newCounter(Stock stock) {
+        return new StripedSeatCounter(stock.getQuantity(), MAX_STRIPES);
+    }
+
+    private void releaseAll(StripedSeatCounter counter, int count) {
+        for (int i = 0; i < count; i++) {
+            counter.release();
+        }
+    }
+
+    private void addPending(String serviceKey, int delta) {
+        pendingDeltas.computeIfAbsent(serviceKey, k -> new AtomicInteger()).addAndGet(delta);
+    }
+}
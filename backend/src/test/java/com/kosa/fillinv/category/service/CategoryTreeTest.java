@@ -0,0 +1,59 @@
+package com.kosa.fillinv.category.service;
+
+import com.kosa.fillinv.category.dto.CategoryResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CategoryTreeTest {
+
+    private final CategoryTree tree = CategoryTree.of(List.of(
+            new CategoryResponseDto(3L, "개발", null, "3"),
+            new CategoryResponseDto(30L, "디자인", null, "30"),
+            new CategoryResponseDto(27L, "백엔드 개발자", 3L, "3:27"),
+            new CategoryResponseDto(28L, "프론트엔드 개발자", 3L, "3:28"),
+            new CategoryResponseDto(31L, "UI 디자이너", 30L, "30:31")
+    ));
+
+    @Test
+    @DisplayName("id 로 카테고리를 조회한다.")
+    void getById() {
+        assertThat(tree.get(27L)).hasValueSatisfying(c -> assertThat(c.name()).isEqualTo("백엔드 개발자"));
+        assertThat(tree.get(999L)).isEmpty();
+        assertThat(tree.get(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경로로 자신과 하위 카테고리를 조회하며, 문자열 접두사만 같은 카테고리는 제외한다.")
+    void subtree() {
+        assertThat(tree.subtree("3"))
+                .extracting(CategoryResponseDto::categoryId)
+                .containsExactly(3L, 27L, 28L);
+        assertThat(tree.subtree("30"))
+                .extracting(CategoryResponseDto::categoryId)
+                .containsExactly(30L, 31L);
+        assertThat(tree.subtree("3:27"))
+                .extracting(CategoryResponseDto::categoryId)
+                .containsExactly(27L);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 원본 목록이 바뀌어도 영향을 받지 않으며 수정할 수 없다.")
+    void immutable() {
+        List<CategoryResponseDto> source = new ArrayList<>(List.of(new CategoryResponseDto(1L, "a", null, "1")));
+        CategoryTree snapshot = CategoryTree.of(source);
+
+        source.add(new CategoryResponseDto(2L, "b", null, "2"));
+
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThatThrownBy(() -> snapshot.all().add(new CategoryResponseDto(3L, "c", null, "3")))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.asMap().remove(1L))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package com.kosa.fillinv.global.concurrent;
+
+import com.kosa.fillinv.global.exception.BusinessException;
+import com.kosa.fillinv.global.exception.ResourceException;
+import com.kosa.fillinv.global.response.ErrorCode;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutScopeTest {
+
+    @Test
+    @DisplayName("fork 한 작업들은 동시에 실행되어 전체 시간은 가장 느린 작업의 시간에 가깝다.")
+    void runsConcurrently() {
+        long start = System.nanoTime();
+
+        try (FanOutScope scope = FanOutScope.open(Duration.ofSeconds(2))) {
+            Supplier<String> a = scope.fork(() -> sleepAndReturn(300, "a"));
+            Supplier<String> b = scope.fork(() -> sleepAndReturn(300, "b"));
+            Supplier<String> c = scope.fork(() -> sleepAndReturn(300, "c"));
+
+            scope.join();
+
+            assertThat(a.get() + b.get() + c.get()).isEqualTo("abc");
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(800));
+    }
+
+    @Test
+    @DisplayName("작업 하나가 실패하면 원래 예외를 그대로 던지고 나머지 작업은 취소된다.")
+    void failureCancelsSiblings() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (FanOutScope scope = FanOutScope.open(Duration.ofSeconds(5))) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            scope.fork(() -> {
+                throw new ResourceException.NotFound("not found");
+            });
+
+            assertThatThrownBy(scope::join).isInstanceOf(ResourceException.NotFound.class);
+        }
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업이 timeout 을 넘기면 TIMEOUT 예외가 발생한다.")
+    void timeout() {
+        try (FanOutScope scope = FanOutScope.open(Duration.ofMillis(100))) {
+            scope.fork(() -> sleepAndReturn(2_000, "slow"));
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.TIMEOUT);
+        }
+    }
+
+    private String sleepAndReturn(long millis, String value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+
+    @Test
+    @DisplayName("bulkhead 와 함께 열면 허가 수를 넘는 작업은 동시에 실행되지 않는다.")
+    void bulkheadLimitsConcurrency() {
+        DbCallBulkhead bulkhead = new DbCallBulkhead(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        try (FanOutScope scope = FanOutScope.open(Duration.ofSeconds(2), bulkhead)) {
+            for (int i = 0; i < 6; i++) {
+                scope.fork(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleepAndReturn(50, "done");
+                    running.decrementAndGet();
+                    return null;
+                });
+            }
+            scope.join();
+        }
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(bulkhead.permits().availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("허가 수를 지정하지 않으면 커넥션 풀 크기의 절반으로 정한다.")
+    void bulkheadDerivesPermitsFromPool() {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(20);
+
+            assertThat(new DbCallBulkhead(dataSource, 0).permits().availablePermits()).isEqualTo(10);
+            assertThat(new DbCallBulkhead(dataSource, 3).permits().availablePermits()).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kosa.fillinv.global.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedWheelTimerTest {
+
+    @Test
+    @DisplayName("예약한 작업은 지연 시간이 지난 뒤 만료 순서대로 실행된다.")
+    void expiresInDeadlineOrder() throws InterruptedException {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        long start = System.nanoTime();
+
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(10), 8)) {
+            timer.schedule(() -> {
+                fired.add("late");
+                done.countDown();
+            }, Duration.ofMillis(200));
+            timer.schedule(() -> {
+                fired.add("early");
+                done.countDown();
+            }, Duration.ofMillis(50));
+
+            assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(fired).containsExactly("early", "late");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 지연도 남은 바퀴 수만큼 기다린 뒤 실행된다.")
+    void waitsRemainingRounds() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        // 휠 한 바퀴 = 10ms * 8 = 80ms
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(10), 8)) {
+            timer.schedule(done::countDown, Duration.ofMillis(250));
+
+            assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않는다.")
+    void cancelledTaskDoesNotRun() throws InterruptedException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CountDownLatch other = new CountDownLatch(1);
+
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(10), 8)) {
+            HashedWheelTimer.Timeout timeout = timer.schedule(cancelled::countDown, Duration.ofMillis(50));
+            timer.schedule(other::countDown, Duration.ofMillis(100));
+            timeout.cancel();
+
+            assertThat(other.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(cancelled.getCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,48 @@
+package com.kosa.fillinv.global.log;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class HttpLoggingFilterTest {
+
+    private final HttpLoggingFilter httpLoggingFilter = new HttpLoggingFilter();
+
+    @Test
+    @DisplayName("캘린더 구독 경로는 응답을 캐싱하지 않고 원본 요청, 응답으로 넘긴다.")
+    void calendarFeedIsNotCached() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/schedules/calendar/feed/secret-token.ics");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = mock(FilterChain.class);
+
+        httpLoggingFilter.doFilter(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("그 밖의 경로는 응답을 캐싱한다.")
+    void otherUriIsCached() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/schedules/calendar");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        httpLoggingFilter.doFilter(request, response, (req, res) ->
+                assertThat(res).isInstanceOf(ContentCachingResponseWrapper.class));
+    }
+
+    @Test
+    @DisplayName("요청 로그에는 구독 토큰을 가린 URI 를 남긴다.")
+    void maskFeedToken() {
+        assertThat(HttpLoggingFilter.maskFeedToken("/api/v1/schedules/calendar/feed/secret-token.ics"))
+                .isEqualTo("/api/v1/schedules/calendar/feed/****");
+        assertThat(HttpLoggingFilter.maskFeedToken("/api/v1/schedules/calendar/feed"))
+                .isEqualTo("/api/v1/schedules/calendar/feed");
+    }
+}
@@ -0,0 +1,66 @@
+package com.kosa.fillinv.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ICalendarWriterTest {
+
+    private static final Instant START = Instant.parse("2026-03-02T01:00:00Z");
+
+    @Test
+    @DisplayName("일정은 UTC 시각과 이스케이프된 텍스트로 CRLF 줄바꿈하여 작성된다.")
+    void writeEvent() throws IOException {
+        StringWriter out = new StringWriter();
+        ICalendarWriter writer = new ICalendarWriter(out);
+
+        writer.begin("-//TEST//KO", "일정");
+        writer.event(new ICalendarWriter.Event(
+                "time-1@test", START, START, START.plusSeconds(3600),
+                "Spring; JPA, 기초\n", "멘토 / 승인", ICalendarWriter.Status.CONFIRMED));
+        writer.end();
+
+        assertThat(out.toString()).isEqualTo(String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "VERSION:2.0",
+                "PRODID:-//TEST//KO",
+                "CALSCALE:GREGORIAN",
+                "X-WR-CALNAME:일정",
+                "BEGIN:VEVENT",
+                "UID:time-1@test",
+                "DTSTAMP:20260302T010000Z",
+                "DTSTART:20260302T010000Z",
+                "DTEND:20260302T020000Z",
+                "SUMMARY:Spring\\; JPA\\, 기초\\n",
+                "DESCRIPTION:멘토 / 승인",
+                "STATUS:CONFIRMED",
+                "END:VEVENT",
+                "END:VCALENDAR",
+                ""));
+    }
+
+    @Test
+    @DisplayName("75 octet 을 넘는 줄은 한글 문자를 자르지 않고 공백으로 시작하는 줄로 접는다.")
+    void foldLongLine() throws IOException {
+        StringWriter out = new StringWriter();
+        ICalendarWriter writer = new ICalendarWriter(out);
+
+        writer.begin("-//TEST//KO", "가".repeat(60));
+
+        String[] lines = out.toString().split("\r\n");
+        String[] folded = Arrays.copyOfRange(lines, 4, lines.length);
+
+        assertThat(folded.length).isGreaterThan(1);
+        assertThat(folded).allSatisfy(line -> assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75));
+        assertThat(Arrays.stream(folded).skip(1)).allMatch(line -> line.startsWith(" "));
+        assertThat(String.join("", folded).replace(" ", ""))
+                .isEqualTo("X-WR-CALNAME:" + "가".repeat(60));
+    }
+}
@@ -0,0 +1,39 @@
+package com.kosa.fillinv.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationStampsTest {
+
+    @Test
+    @DisplayName("시점을 받은 뒤 무효화된 키만 최신이 아니다.")
+    void isFresh() {
+        InvalidationStamps stamps = new InvalidationStamps(10);
+
+        long stamp = stamps.now();
+        stamps.invalidate("a");
+
+        assertThat(stamps.isFresh("a", stamp)).isFalse();
+        assertThat(stamps.isFresh("b", stamp)).isTrue();
+        assertThat(stamps.isFresh("a", stamps.now())).isTrue();
+    }
+
+    @Test
+    @DisplayName("기록은 capacity 개로 제한되며, 밀려난 키는 하한 시점 이전의 조회만 최신이 아닌 것으로 본다.")
+    void boundedByCapacity() {
+        InvalidationStamps stamps = new InvalidationStamps(2);
+
+        long beforeAll = stamps.now();
+        for (int i = 0; i < 100; i++) {
+            stamps.invalidate("key-" + i);
+        }
+        long afterAll = stamps.now();
+
+        assertThat(stamps.size()).isEqualTo(2);
+        assertThat(stamps.isFresh("key-0", beforeAll)).isFalse();
+        assertThat(stamps.isFresh("key-0", afterAll)).isTrue();
+        assertThat(stamps.isFresh("key-99", afterAll)).isTrue();
+    }
+}
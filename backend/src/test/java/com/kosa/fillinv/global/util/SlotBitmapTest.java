@@ -0,0 +1,83 @@
+package com.kosa.fillinv.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotBitmapTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 2);
+
+    @Test
+    @DisplayName("이용 가능 시간은 완전히 포함된 슬롯만, 예약 시간은 걸치는 슬롯을 모두 표시한다.")
+    void markWithinAndCovering() {
+        SlotBitmap open = new SlotBitmap();
+        open.markWithin(at(9, 5), at(10, 0));
+
+        SlotBitmap booked = new SlotBitmap();
+        booked.markCovering(at(9, 5), at(9, 15));
+
+        assertThat(SlotBitmap.ranges(DATE, open.day(DATE)))
+                .containsExactly(new SlotBitmap.Range(at(9, 10), at(10, 0)));
+        assertThat(SlotBitmap.ranges(DATE, booked.day(DATE)))
+                .containsExactly(new SlotBitmap.Range(at(9, 0), at(9, 20)));
+    }
+
+    @Test
+    @DisplayName("이용 가능 슬롯에서 예약된 슬롯을 빼면 남은 연속 구간이 반환된다.")
+    void andNot() {
+        SlotBitmap open = new SlotBitmap();
+        open.markWithin(at(9, 0), at(12, 0));
+        open.markWithin(at(14, 0), at(15, 0));
+
+        SlotBitmap booked = new SlotBitmap();
+        booked.markCovering(at(10, 0), at(11, 0));
+
+        long[] free = SlotBitmap.andNot(open.day(DATE), booked.day(DATE));
+
+        assertThat(SlotBitmap.ranges(DATE, free)).containsExactly(
+                new SlotBitmap.Range(at(9, 0), at(10, 0)),
+                new SlotBitmap.Range(at(11, 0), at(12, 0)),
+                new SlotBitmap.Range(at(14, 0), at(15, 0))
+        );
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 구간은 두 일자에 나누어 표시되고, 하루 끝 슬롯까지 표시할 수 있다.")
+    void acrossMidnight() {
+        SlotBitmap slots = new SlotBitmap();
+        slots.markWithin(at(23, 0), SlotBitmap.startOf(DATE.plusDays(1)).plusSeconds(30 * 60));
+
+        assertThat(SlotBitmap.datesOf(at(23, 0), SlotBitmap.startOf(DATE.plusDays(1))))
+                .containsExactly(DATE);
+        assertThat(SlotBitmap.ranges(DATE, slots.day(DATE)))
+                .containsExactly(new SlotBitmap.Range(at(23, 0), SlotBitmap.startOf(DATE.plusDays(1))));
+        assertThat(SlotBitmap.ranges(DATE.plusDays(1), slots.day(DATE.plusDays(1)))).containsExactly(
+                new SlotBitmap.Range(SlotBitmap.startOf(DATE.plusDays(1)), SlotBitmap.startOf(DATE.plusDays(1)).plusSeconds(30 * 60)));
+    }
+
+    @Test
+    @DisplayName("clearBefore 는 주어진 슬롯 이전의 슬롯을 모두 지운다.")
+    void clearBefore() {
+        SlotBitmap slots = new SlotBitmap();
+        slots.markWithin(at(0, 0), SlotBitmap.startOf(DATE.plusDays(1)));
+
+        long[] bits = slots.day(DATE);
+        SlotBitmap.clearBefore(bits, SlotBitmap.slotOf(at(13, 20)));
+
+        List<SlotBitmap.Range> ranges = SlotBitmap.ranges(DATE, bits);
+        assertThat(ranges).containsExactly(new SlotBitmap.Range(at(13, 20), SlotBitmap.startOf(DATE.plusDays(1))));
+    }
+
+    private Instant at(int hour, int minute) {
+        return LocalDateTime.of(DATE.getYear(), DATE.getMonth(), DATE.getDayOfMonth(), hour, minute)
+                .atZone(SlotBitmap.ZONE)
+                .toInstant();
+    }
+}
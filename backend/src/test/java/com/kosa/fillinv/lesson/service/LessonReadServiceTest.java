@@ -1,7 +1,9 @@
 package com.kosa.fillinv.lesson.service;
 
 import com.kosa.fillinv.category.service.CategoryService;
+import com.kosa.fillinv.global.concurrent.DbCallBulkhead;
 import com.kosa.fillinv.lesson.controller.dto.LessonSearchRequest;
+import com.kosa.fillinv.lesson.entity.LessonThumbnailModel;
 import com.kosa.fillinv.lesson.entity.LessonType;
 import com.kosa.fillinv.lesson.service.client.*;
 import com.kosa.fillinv.lesson.service.dto.LessonSearchCondition;
@@ -36,6 +38,7 @@ class LessonReadServiceTest {
     private StockClient stockClient;
     private CategoryService categoryService;
     private ScheduleClient scheduleClient;
+    private LessonThumbnailProjector lessonThumbnailProjector;
 
     private LessonReadService lessonReadService;
 
@@ -47,8 +50,9 @@ class LessonReadServiceTest {
         stockClient = mock(StockClient.class);
         categoryService = mock(CategoryService.class);
         scheduleClient = mock(ScheduleClient.class);
+        lessonThumbnailProjector = mock(LessonThumbnailProjector.class);
 
-        lessonReadService = new LessonReadService(lessonService, reviewClient, profileClient, stockClient, categoryService, scheduleClient);
+        lessonReadService = new LessonReadService(lessonService, reviewClient, profileClient, stockClient, categoryService, scheduleClient, lessonThumbnailProjector, new DbCallBulkhead(5));
     }
 
     @Test
@@ -148,6 +152,50 @@ class LessonReadServiceTest {
         assertThat(thumbnail.rating()).isEqualTo(4.5f);
     }
 
+    @Test
+    @DisplayName("lesson_thumbnail 읽기 모델이 있는 레슨은 집계 조회 없이 변환하고, 없는 레슨만 기존 방식으로 조립한다.")
+    void searchUsesThumbnailReadModel() {
+        // given
+        LessonDTO lesson1 = create("lesson-001", "Java 강의", LessonType.MENTORING, "mentor-001", 1L);
+        LessonDTO lesson2 = create("lesson-002", "Spring 강의", LessonType.ONEDAY, "mentor-002", 2L);
+
+        given(lessonService.searchLesson(any()))
+                .willReturn(new PageImpl<>(List.of(lesson1, lesson2)));
+
+        given(lessonThumbnailProjector.getAll(Set.of("lesson-001", "lesson-002")))
+                .willReturn(Map.of(
+                        "lesson-001", LessonThumbnailModel.builder()
+                                .lessonId("lesson-001")
+                                .mentorId("mentor-001")
+                                .mentorNickname("홍길동")
+                                .categoryName("백엔드")
+                                .ratingSum(9L)
+                                .reviewCount(2L)
+                                .menteeCount(3)
+                                .build()
+                ));
+
+        given(profileClient.getMentors(Set.of("mentor-002")))
+                .willReturn(Map.of("mentor-002", new MentorSummaryDTO("mentor-002", "임꺽정", null, null)));
+
+        // when
+        Page<LessonThumbnail> result = lessonReadService.search();
+
+        // then
+        LessonThumbnail t1 = result.getContent().get(0);
+        assertThat(t1.mentorNickName()).isEqualTo("홍길동");
+        assertThat(t1.rating()).isEqualTo(4.5f);
+        assertThat(t1.category()).isEqualTo("백엔드");
+        assertThat(t1.menteeCount()).isEqualTo(3);
+
+        LessonThumbnail t2 = result.getContent().get(1);
+        assertThat(t2.mentorNickName()).isEqualTo("임꺽정");
+
+        // 읽기 모델에 없는 레슨만 집계 조회
+        verify(profileClient).getMentors(Set.of("mentor-002"));
+        verify(reviewClient).getAverageRating(Set.of("lesson-002"));
+    }
+
     public static LessonDTO create(
             String id,
             String title,
@@ -175,6 +175,7 @@ class LessonServiceTest {
                 "수정된 설명",
                 "부산",
                 1L,
+                "1",
                 Instant.now().truncatedTo(ChronoUnit.SECONDS).plus(7, ChronoUnit.DAYS)
         );
 
@@ -460,7 +461,7 @@ class LessonServiceTest {
     }
 
     @Test
-    @DisplayName("레슨 제목으로 검색이 가능하다.")
+    @DisplayName("레슨 제목/설명으로 검색이 가능하다.")
     void searchKeyword() {
         // given
         String keyword = "시니어";
@@ -471,11 +472,17 @@ class LessonServiceTest {
 
         // then
         List<Lesson> allByTitleContaining = lessonRepository.findAllByTitleContainingAndDeletedAtIsNull(keyword);
+        long allByTitleOrDescriptionContaining = lessonRepository.findAll().stream()
+                .filter(l -> l.getDeletedAt() == null)
+                .filter(l -> l.getTitle().contains(keyword)
+                        || (l.getDescription() != null && l.getDescription().contains(keyword)))
+                .count();
         assertFalse(allByTitleContaining.isEmpty());
-        assertEquals(allByTitleContaining.size(), lessonDTOS.getTotalElements());
+        assertEquals(allByTitleOrDescriptionContaining, lessonDTOS.getTotalElements());
         assertFalse(
                 lessonDTOS.stream().anyMatch(
                         l -> !l.title().contains(keyword)
+                                && (l.description() == null || !l.description().contains(keyword))
                 )
         );
     }
@@ -538,6 +545,33 @@ class LessonServiceTest {
                 );
     }
 
+    @Test
+    @DisplayName("카테고리 경로 검색은 문자열 접두사만 같은 카테고리를 포함하지 않는다.")
+    void searchCategoryExcludesPrefixSibling() {
+        // given
+        Category parent = categoryRepository.save(
+                new Category(null, "개발", null, "9999")
+        );
+
+        Category sibling = categoryRepository.save(
+                new Category(null, "디자인", null, "99991")
+        );
+
+        lessonService.createLesson(createCommand(parent.getId(), parent.getCategoryPath()));
+        lessonService.createLesson(createCommand(sibling.getId(), sibling.getCategoryPath()));
+        entityManager.flush(); entityManager.clear();
+
+        LessonSearchCondition condition = new LessonSearchCondition(null, null, "9999", null, null, 0, 5);
+
+        // when
+        Page<LessonDTO> result = lessonService.searchLesson(condition);
+
+        // then
+        assertThat(result.getContent())
+                .extracting(LessonDTO::categoryId)
+                .containsExactly(parent.getId());
+    }
+
     @Test
     @DisplayName("최신순 정렬이 가능하다")
     void searchWithSortByCreatedAtDesc() {
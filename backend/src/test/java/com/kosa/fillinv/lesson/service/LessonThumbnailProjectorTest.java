@@ -0,0 +1,123 @@
+package com.kosa.fillinv.lesson.service;
+
+import com.kosa.fillinv.category.dto.CategoryResponseDto;
+import com.kosa.fillinv.category.service.CategoryService;
+import com.kosa.fillinv.lesson.entity.Lesson;
+import com.kosa.fillinv.lesson.entity.LessonThumbnailModel;
+import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.lesson.repository.LessonBulkRepository;
+import com.kosa.fillinv.lesson.repository.LessonRepository;
+import com.kosa.fillinv.lesson.repository.LessonThumbnailModelRepository;
+import com.kosa.fillinv.lesson.service.client.MentorSummaryDTO;
+import com.kosa.fillinv.lesson.service.client.ProfileClient;
+import com.kosa.fillinv.lesson.service.client.ReviewClient;
+import com.kosa.fillinv.lesson.service.client.ScheduleClient;
+import com.kosa.fillinv.lesson.service.dto.LessonRatingVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class LessonThumbnailProjectorTest {
+
+    private LessonThumbnailModelRepository lessonThumbnailModelRepository;
+    private LessonRepository lessonRepository;
+    private LessonBulkRepository lessonBulkRepository;
+    private ProfileClient profileClient;
+    private ReviewClient reviewClient;
+    private ScheduleClient scheduleClient;
+    private CategoryService categoryService;
+
+    private LessonThumbnailProjector lessonThumbnailProjector;
+
+    @BeforeEach
+    void setUp() {
+        lessonThumbnailModelRepository = mock(LessonThumbnailModelRepository.class);
+        lessonRepository = mock(LessonRepository.class);
+        lessonBulkRepository = mock(LessonBulkRepository.class);
+        profileClient = mock(ProfileClient.class);
+        reviewClient = mock(ReviewClient.class);
+        scheduleClient = mock(ScheduleClient.class);
+        categoryService = mock(CategoryService.class);
+
+        lessonThumbnailProjector = new LessonThumbnailProjector(
+                lessonThumbnailModelRepository, lessonRepository, lessonBulkRepository, profileClient,
+                reviewClient, scheduleClient, categoryService, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    @DisplayName("시작 시 보정은 원본과 다른 행만 고치며, 있는 행의 평점과 수강생 수는 유지하고 전체를 지우지 않는다.")
+    void rebuildRepairsOnlyDriftedRows() {
+        // given
+        LessonThumbnailModel stale = LessonThumbnailModel.builder()
+                .lessonId("lesson-1")
+                .mentorId("mentor-1")
+                .mentorNickname("이전 닉네임")
+                .categoryName("백엔드")
+                .ratingSum(9L)
+                .reviewCount(2L)
+                .menteeCount(3)
+                .build();
+
+        given(lessonThumbnailModelRepository.findOrphanLessonIds(anyInt()))
+                .willReturn(List.of("lesson-deleted"), List.of());
+        given(lessonThumbnailModelRepository.findDriftedLessonIds("", 500)).willReturn(List.of("lesson-1", "lesson-2"));
+        given(lessonThumbnailModelRepository.findDriftedLessonIds("lesson-2", 500)).willReturn(List.of());
+        given(lessonRepository.findAllById(List.of("lesson-1", "lesson-2")))
+                .willReturn(List.of(lesson("lesson-1"), lesson("lesson-2")));
+        given(lessonThumbnailModelRepository.findAllById(List.of("lesson-1", "lesson-2"))).willReturn(List.of(stale));
+        given(categoryService.getAllCategoriesMap())
+                .willReturn(Map.of(1L, new CategoryResponseDto(1L, "백엔드", null, "1")));
+        given(profileClient.getMentors(anySet()))
+                .willReturn(Map.of("mentor-1", new MentorSummaryDTO("mentor-1", "새 닉네임", "image.png", "소개")));
+        given(reviewClient.getRatings(Set.of("lesson-2"))).willReturn(Map.of("lesson-2", new LessonRatingVO("lesson-2", 4L, 1L)));
+        given(scheduleClient.countByLessonIdInAndStatusIn(eq(Set.of("lesson-2")), any())).willReturn(Map.of("lesson-2", 1));
+
+        // when
+        lessonThumbnailProjector.rebuild();
+
+        // then
+        verify(lessonThumbnailModelRepository).deleteAllByIdInBatch(List.of("lesson-deleted"));
+        verify(lessonThumbnailModelRepository, never()).deleteAllInBatch();
+
+        assertThat(stale.getMentorNickname()).isEqualTo("새 닉네임");
+        assertThat(stale.getMentorProfileImage()).isEqualTo("image.png");
+        assertThat(stale.getRatingSum()).isEqualTo(9L);
+        assertThat(stale.getMenteeCount()).isEqualTo(3);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LessonThumbnailModel>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(lessonBulkRepository).bulkInsertLessonThumbnail(inserted.capture());
+        assertThat(inserted.getValue()).singleElement().satisfies(model -> {
+            assertThat(model.getLessonId()).isEqualTo("lesson-2");
+            assertThat(model.getRatingSum()).isEqualTo(4L);
+            assertThat(model.getMenteeCount()).isEqualTo(1);
+        });
+    }
+
+    private Lesson lesson(String id) {
+        return Lesson.builder()
+                .id(id)
+                .title("제목")
+                .lessonType(LessonType.MENTORING)
+                .description("설명")
+                .mentorId("mentor-1")
+                .categoryId(1L)
+                .categoryPath("1")
+                .price(10000)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.kosa.fillinv.lesson.service.cache;
+
+import com.kosa.fillinv.lesson.entity.LessonTemp;
+import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.lesson.service.dto.LessonDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LessonDetailCacheTest {
+
+    @Test
+    @DisplayName("무효화되면 이전 항목은 조회되지 않는다.")
+    void invalidateRemovesEntry() {
+        LessonDetailCache cache = new LessonDetailCache(1_000_000, 60_000);
+
+        cache.put("lesson-1", cache.stamp(), lesson("lesson-1"));
+        assertThat(cache.get("lesson-1")).isPresent();
+
+        cache.invalidate("lesson-1");
+
+        assertThat(cache.get("lesson-1")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 도중 레슨이 변경되면 오래된 결과는 저장하지 않는다.")
+    void stalePutIsIgnored() {
+        LessonDetailCache cache = new LessonDetailCache(1_000_000, 60_000);
+
+        long stampAtRead = cache.stamp();
+        cache.invalidate("lesson-1");
+        cache.put("lesson-1", stampAtRead, lesson("lesson-1"));
+
+        assertThat(cache.size()).isZero();
+
+        // 다른 레슨의 변경은 영향을 주지 않는다
+        long stamp = cache.stamp();
+        cache.invalidate("lesson-2");
+        cache.put("lesson-1", stamp, lesson("lesson-1"));
+
+        assertThat(cache.get("lesson-1")).isPresent();
+    }
+
+    @Test
+    @DisplayName("인기 점수가 갱신되면 캐시된 항목의 점수만 교체한다.")
+    void refreshScores() {
+        LessonDetailCache cache = new LessonDetailCache(1_000_000, 60_000);
+        cache.put("lesson-1", cache.stamp(), lesson("lesson-1"));
+
+        cache.refreshScores(List.of(new LessonTemp("lesson-1", 0.75), new LessonTemp("lesson-2", 0.5)));
+
+        assertThat(cache.get("lesson-1")).hasValueSatisfying(lesson -> assertThat(lesson.popularityScore()).isEqualTo(0.75));
+        assertThat(cache.get("lesson-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 크기가 한도를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.")
+    void evictsLeastRecentlyUsedByWeight() {
+        long entryWeight = LessonDetailCache.estimateWeight(lesson("lesson-1"));
+        LessonDetailCache cache = new LessonDetailCache(entryWeight * 2, 60_000);
+
+        cache.put("lesson-1", 0, lesson("lesson-1"));
+        cache.put("lesson-2", 0, lesson("lesson-2"));
+        cache.get("lesson-1"); // lesson-1 을 최근 사용으로 갱신
+        cache.put("lesson-3", 0, lesson("lesson-3"));
+
+        assertThat(cache.get("lesson-1")).isPresent();
+        assertThat(cache.get("lesson-2")).isEmpty();
+        assertThat(cache.get("lesson-3")).isPresent();
+        assertThat(cache.weight()).isLessThanOrEqualTo(entryWeight * 2);
+    }
+
+    @Test
+    @DisplayName("저장 후 ttl 이 지난 항목은 조회되지 않는다.")
+    void expiresAfterWrite() {
+        AtomicLong now = new AtomicLong();
+        LessonDetailCache cache = new LessonDetailCache(1_000_000, 1_000, now::get);
+
+        cache.put("lesson-1", cache.stamp(), lesson("lesson-1"));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(cache.get("lesson-1")).isPresent();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(cache.get("lesson-1")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+    }
+
+    private LessonDTO lesson(String id) {
+        return new LessonDTO(
+                id, "title", LessonType.MENTORING, "thumbnail", "description", "location",
+                "mentor-1", 1L, Instant.now(), null, 10000, null, null, null, 0.0,
+                List.of(), List.of()
+        );
+    }
+}
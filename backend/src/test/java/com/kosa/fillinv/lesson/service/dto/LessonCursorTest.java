@@ -0,0 +1,48 @@
+package com.kosa.fillinv.lesson.service.dto;
+
+import com.kosa.fillinv.global.exception.ResourceException;
+import com.kosa.fillinv.lesson.entity.LessonType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LessonCursorTest {
+
+    @Test
+    @DisplayName("마지막 레슨의 정렬 값과 id 로 만든 커서는 디코딩 시 동일한 값으로 복원된다.")
+    void encodeAndDecode() {
+        LessonDTO last = lesson("lesson-010", Instant.parse("2025-01-01T10:15:30.123456Z"), 30000, 0.75);
+
+        assertThat(LessonCursor.decode(LessonCursor.of(LessonSortType.CREATED_AT_DESC, last).encode(), LessonSortType.CREATED_AT_DESC))
+                .isEqualTo(new LessonCursor(LessonSortType.CREATED_AT_DESC, last.createdAt(), "lesson-010"));
+        assertThat(LessonCursor.decode(LessonCursor.of(LessonSortType.PRICE_ASC, last).encode(), LessonSortType.PRICE_ASC))
+                .isEqualTo(new LessonCursor(LessonSortType.PRICE_ASC, 30000, "lesson-010"));
+        assertThat(LessonCursor.decode(LessonCursor.of(LessonSortType.POPULARITY, last).encode(), LessonSortType.POPULARITY))
+                .isEqualTo(new LessonCursor(LessonSortType.POPULARITY, 0.75, "lesson-010"));
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지로 간주하고, 정렬 기준이 다르거나 손상된 커서는 예외가 발생한다.")
+    void decodeInvalid() {
+        String token = LessonCursor.of(LessonSortType.PRICE_DESC, lesson("lesson-1", Instant.now(), 1000, 0.0)).encode();
+
+        assertThat(LessonCursor.decode(null, LessonSortType.PRICE_DESC)).isNull();
+        assertThatThrownBy(() -> LessonCursor.decode(token, LessonSortType.POPULARITY))
+                .isInstanceOf(ResourceException.InvalidArgument.class);
+        assertThatThrownBy(() -> LessonCursor.decode("not-a-cursor", LessonSortType.PRICE_DESC))
+                .isInstanceOf(ResourceException.InvalidArgument.class);
+    }
+
+    private LessonDTO lesson(String id, Instant createdAt, Integer price, Double popularityScore) {
+        return new LessonDTO(
+                id, "title", LessonType.MENTORING, "thumbnail", "description", "location",
+                "mentor-1", 1L, createdAt, null, price, null, null, null, popularityScore,
+                List.of(), List.of()
+        );
+    }
+}
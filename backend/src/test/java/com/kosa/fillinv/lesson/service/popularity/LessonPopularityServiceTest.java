@@ -0,0 +1,114 @@
+package com.kosa.fillinv.lesson.service.popularity;
+
+import com.kosa.fillinv.lesson.repository.LessonBulkRepository;
+import com.kosa.fillinv.lesson.repository.LessonPopularityRepository;
+import com.kosa.fillinv.lesson.service.cache.LessonDetailCache;
+import com.kosa.fillinv.review.event.ReviewCreatedEvent;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+class LessonPopularityServiceTest {
+
+    private LessonPopularityRepository lessonPopularityRepository;
+    private LessonBulkRepository lessonBulkRepository;
+    private LessonDetailCache lessonDetailCache;
+
+    private LessonPopularityService lessonPopularityService;
+
+    @BeforeEach
+    void setUp() {
+        lessonPopularityRepository = mock(LessonPopularityRepository.class);
+        lessonBulkRepository = mock(LessonBulkRepository.class);
+        lessonDetailCache = mock(LessonDetailCache.class);
+
+        lessonPopularityService = new LessonPopularityService(lessonPopularityRepository, lessonBulkRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), lessonDetailCache);
+    }
+
+    @Test
+    @DisplayName("이벤트의 변화량은 메모리에 두지 않고 발행한 트랜잭션에서 outbox 에 기록한다.")
+    void recordsDeltaToOutbox() {
+        lessonPopularityService.on(new ReviewCreatedEvent("review-1", "lesson-1", 5));
+
+        ArgumentCaptor<PopularityDelta> delta = ArgumentCaptor.forClass(PopularityDelta.class);
+        verify(lessonPopularityRepository).appendOutbox(delta.capture());
+        assertThat(delta.getValue().getLessonId()).isEqualTo("lesson-1");
+        assertThat(delta.getValue().getReviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영한 outbox 행은 점수 갱신과 같은 트랜잭션에서 삭제한다.")
+    void flushAppliesAndDeletesOutbox() {
+        PopularityDelta delta = new PopularityDelta("lesson-1");
+        delta.addStatusCount(ScheduleStatus.APPROVED, 1);
+        given(lessonPopularityRepository.claimOutbox(anyInt()))
+                .willReturn(new PopularityOutboxBatch(List.of(1L, 2L), List.of(delta)));
+        given(lessonPopularityRepository.findNorms(any())).willReturn(new PopularityNorms(1, 1, 4.0));
+        given(lessonPopularityRepository.findInputs(eq(List.of("lesson-1")), any()))
+                .willReturn(List.of(new PopularityInput("lesson-1", 1, 0, 0, 0, 0, 1, 0, 0)));
+
+        lessonPopularityService.flush();
+
+        verify(lessonPopularityRepository).applyDeltas(List.of(delta));
+        verify(lessonBulkRepository).bulkUpdatePopularity(anyList(), anyLong());
+        verify(lessonPopularityRepository).deleteOutbox(List.of(1L, 2L));
+        verify(lessonDetailCache).refreshScores(anyList());
+    }
+
+    @Test
+    @DisplayName("수시 반영은 발급된 회차를 함께 기록해 진행 중인 야간 반영이 덮어쓰지 않게 한다.")
+    void flushStampsClaimedGeneration() {
+        PopularityDelta delta = new PopularityDelta("lesson-1");
+        given(lessonBulkRepository.findClaimedGenerationForShare()).willReturn(7L);
+        given(lessonPopularityRepository.claimOutbox(anyInt()))
+                .willReturn(new PopularityOutboxBatch(List.of(1L), List.of(delta)));
+        given(lessonPopularityRepository.findNorms(any())).willReturn(new PopularityNorms(1, 1, 4.0));
+        given(lessonPopularityRepository.findInputs(eq(List.of("lesson-1")), any()))
+                .willReturn(List.of(new PopularityInput("lesson-1", 1, 0, 0, 0, 0, 1, 0, 0)));
+
+        lessonPopularityService.flush();
+
+        verify(lessonBulkRepository).bulkUpdatePopularity(anyList(), eq(7L));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 outbox 행을 지우지 않아 다음 주기에 다시 반영된다.")
+    void failedFlushKeepsOutbox() {
+        PopularityDelta delta = new PopularityDelta("lesson-1");
+        given(lessonPopularityRepository.claimOutbox(anyInt()))
+                .willReturn(new PopularityOutboxBatch(List.of(1L), List.of(delta)));
+        willThrow(new IllegalStateException("db down")).given(lessonPopularityRepository).applyDeltas(anyList());
+
+        lessonPopularityService.flush();
+
+        verify(lessonPopularityRepository, never()).deleteOutbox(anyList());
+        verify(lessonDetailCache, never()).refreshScores(anyList());
+    }
+
+    @Test
+    @DisplayName("이력 재집계는 시작 전까지 기록된 outbox 변화량을 함께 삭제한다.")
+    void rebuildDropsOutboxIncludedInHistory() {
+        given(lessonPopularityRepository.findMaxOutboxId()).willReturn(42L);
+        given(lessonPopularityRepository.findAllLessonIds()).willReturn(List.of("lesson-1"));
+
+        lessonPopularityService.rebuildFromHistory();
+
+        verify(lessonPopularityRepository).deleteOutboxUpTo(42L);
+    }
+}
@@ -0,0 +1,58 @@
+package com.kosa.fillinv.lesson.service.popularity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PopularityScoreCalculatorTest {
+
+    @Test
+    @DisplayName("증가형 가중치로 누적한 가중 평균은 현재 시각 기준 감쇠 가중 평균과 같다.")
+    void growthWeightMatchesDecayedAverage() {
+        Instant now = Instant.parse("2026-06-01T00:00:00Z");
+        Instant old = now.minus(730, ChronoUnit.DAYS);
+
+        // 현재 기준: 5점(가중치 1), 1점(2년 전, 가중치 0.25)
+        double expected = (5 * 1.0 + 1 * 0.25) / (1.0 + 0.25);
+
+        double wNow = PopularityScoreCalculator.decayWeight(now);
+        double wOld = PopularityScoreCalculator.decayWeight(old);
+        PopularityInput input = input(0, 2, 5 * wNow + 1 * wOld, wNow + wOld, 0, 0);
+
+        assertThat(input.weightedAverage()).isCloseTo(expected, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("최댓값을 가진 레슨은 신청 수, 리뷰 수 항목에서 만점을 받고 취소율만큼 감점된다.")
+    void score() {
+        PopularityNorms norms = new PopularityNorms(10, 5, 4.0);
+
+        // 신청 10/10, 리뷰 5/5, 평점 (5/10)*5 + (5/10)*4 = 4.5, 취소율 1/4
+        PopularityInput input = input(10, 5, 25.0, 5.0, 3, 1);
+
+        double base = 0.6 + 0.2 + (4.5 / 5.0) * 0.2;
+        double expected = Math.round(base * 0.75 * 100.0 * 100.0) / 100.0;
+
+        assertThat(PopularityScoreCalculator.score(input, norms)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("증분 갱신 중 최댓값을 넘는 레슨이 생기면 기준값만 올라간다.")
+    void raiseNorms() {
+        PopularityNorms norms = new PopularityNorms(10, 5, 4.0);
+
+        assertThat(norms.raise(input(3, 2, 0, 0, 0, 0))).isSameAs(norms);
+        assertThat(norms.raise(input(12, 2, 0, 0, 0, 0))).isEqualTo(new PopularityNorms(12, 5, 4.0));
+    }
+
+    private PopularityInput input(long recentBookings, long reviewCount, double scoreSum, double weightSum,
+                                  long approved, long canceled) {
+        return new PopularityInput("lesson-1", recentBookings, reviewCount, scoreSum, weightSum,
+                0, approved, 0, canceled);
+    }
+}
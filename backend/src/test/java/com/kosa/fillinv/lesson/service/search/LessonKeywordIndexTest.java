@@ -0,0 +1,101 @@
+package com.kosa.fillinv.lesson.service.search;
+
+import com.kosa.fillinv.lesson.repository.LessonRepository;
+import com.kosa.fillinv.lesson.service.dto.LessonKeywordVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class LessonKeywordIndexTest {
+
+    private LessonKeywordIndex lessonKeywordIndex;
+
+    @BeforeEach
+    void setUp() {
+        LessonRepository lessonRepository = mock(LessonRepository.class);
+        given(lessonRepository.findAllKeywordSources()).willReturn(List.of(
+                new LessonKeywordVO("lesson-1", "시니어 백엔드 멘토링", "Spring 실무 코드 리뷰"),
+                new LessonKeywordVO("lesson-2", "주니어 프론트엔드 스터디", "React 기초부터 시작"),
+                new LessonKeywordVO("lesson-3", "원데이 클래스", "시니어 개발자가 알려주는 면접 준비")
+        ));
+
+        lessonKeywordIndex = new LessonKeywordIndex(lessonRepository);
+        lessonKeywordIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열로 제목과 설명을 모두 검색한다.")
+    void searchKoreanPartialMatch() {
+        assertThat(lessonKeywordIndex.search("시니어")).hasValueSatisfying(ids ->
+                assertThat(ids).containsExactlyInAnyOrder("lesson-1", "lesson-3"));
+        assertThat(lessonKeywordIndex.search("엔드")).hasValueSatisfying(ids ->
+                assertThat(ids).containsExactlyInAnyOrder("lesson-1", "lesson-2"));
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고, 토큰은 모두 포함하지만 연속하지 않는 문서는 제외한다.")
+    void searchIgnoresCaseAndFiltersFalsePositive() {
+        assertThat(lessonKeywordIndex.search("spring")).hasValueSatisfying(ids ->
+                assertThat(ids).containsExactly("lesson-1"));
+        // '시니' 와 '니어' 토큰은 있지만 '시니 어' 는 없다.
+        assertThat(lessonKeywordIndex.search("시니 어")).hasValueSatisfying(ids ->
+                assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("레슨 수정 시 이전 토큰은 제거되고, 삭제 시 검색되지 않는다.")
+    void updateAndRemove() {
+        lessonKeywordIndex.index("lesson-2", "Kotlin 스터디", "코루틴 입문");
+
+        assertThat(lessonKeywordIndex.search("프론트")).hasValueSatisfying(ids ->
+                assertThat(ids).isEmpty());
+        assertThat(lessonKeywordIndex.search("코루틴")).hasValueSatisfying(ids ->
+                assertThat(ids).containsExactly("lesson-2"));
+
+        lessonKeywordIndex.remove("lesson-2");
+
+        assertThat(lessonKeywordIndex.search("코루틴")).hasValueSatisfying(ids ->
+                assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드는 색인으로 처리하지 않고 LIKE 검색으로 위임한다.")
+    void shortKeywordFallsBack() {
+        assertThat(lessonKeywordIndex.search("시")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("후보가 많아도 LIKE 검색으로 위임하지 않고 모든 후보를 반환한다.")
+    void manyCandidatesAreReturned() {
+        for (int i = 0; i < 1200; i++) {
+            lessonKeywordIndex.index("common-" + i, "자바 입문 " + i, "설명");
+        }
+
+        assertThat(lessonKeywordIndex.search("자바 입문")).hasValueSatisfying(ids ->
+                assertThat(ids).hasSize(1200).allMatch(id -> id.startsWith("common-")));
+        assertThat(lessonKeywordIndex.search("주니어")).hasValueSatisfying(ids ->
+                assertThat(ids).containsExactly("lesson-2"));
+    }
+
+    @Test
+    @DisplayName("재구성 중 색인된 레슨은 재구성에서 읽은 이전 원문으로 덮어쓰지 않는다.")
+    void rebuildKeepsConcurrentUpdate() {
+        LessonRepository lessonRepository = mock(LessonRepository.class);
+        LessonKeywordIndex index = new LessonKeywordIndex(lessonRepository);
+        given(lessonRepository.findAllKeywordSources()).willAnswer(invocation -> {
+            index.index("lesson-1", "Kotlin 멘토링", "코루틴");
+            return List.of(new LessonKeywordVO("lesson-1", "시니어 백엔드 멘토링", "Spring 실무 코드 리뷰"));
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("코루틴")).hasValueSatisfying(ids -> assertThat(ids).containsExactly("lesson-1"));
+        assertThat(index.search("시니어")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+}
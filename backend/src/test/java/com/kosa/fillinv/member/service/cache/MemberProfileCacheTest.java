@@ -0,0 +1,97 @@
+package com.kosa.fillinv.member.service.cache;
+
+import com.kosa.fillinv.member.dto.profile.MemberSummaryDto;
+import com.kosa.fillinv.member.event.MemberProfileChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberProfileCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final MemberProfileCache cache = new MemberProfileCache(2, 1_000, now::get);
+    private final List<Set<String>> loads = new ArrayList<>();
+
+    @Test
+    @DisplayName("캐시에 없는 회원만 한 번에 조회하고, 이후에는 조회 없이 반환한다.")
+    void loadsOnlyMisses() {
+        cache.getAll(List.of("member-1"), this::load);
+
+        Map<String, MemberSummaryDto> profiles = cache.getAll(List.of("member-1", "member-2", "member-2"), this::load);
+        cache.getAll(List.of("member-1", "member-2"), this::load);
+
+        assertThat(profiles).containsOnlyKeys("member-1", "member-2");
+        assertThat(loads).containsExactly(Set.of("member-1"), Set.of("member-2"));
+    }
+
+    @Test
+    @DisplayName("프로필이 변경되면 해당 회원만 다시 조회한다.")
+    void evictsOnProfileChange() {
+        cache.getAll(List.of("member-1", "member-2"), this::load);
+
+        cache.on(new MemberProfileChangedEvent("member-1"));
+        cache.getAll(List.of("member-1", "member-2"), this::load);
+
+        assertThat(loads).containsExactly(Set.of("member-1", "member-2"), Set.of("member-1"));
+    }
+
+    @Test
+    @DisplayName("조회 도중 프로필이 변경되면 조회 결과를 캐시에 저장하지 않는다.")
+    void skipsStaleLoad() {
+        cache.getAll(List.of("member-1"), memberIds -> {
+            cache.evict("member-1");
+            return load(memberIds);
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 결과에 포함되지 않고, 항목 수가 최대치를 넘으면 오래 사용되지 않은 항목부터 제거한다.")
+    void missingMemberAndLru() {
+        Map<String, MemberSummaryDto> profiles = cache.getAll(List.of("member-1", "unknown"), this::load);
+        cache.getAll(List.of("member-2"), this::load);
+        cache.getAll(List.of("member-1"), this::load);
+        cache.getAll(List.of("member-3"), this::load);
+
+        assertThat(profiles).containsOnlyKeys("member-1");
+        assertThat(cache.size()).isEqualTo(2);
+
+        loads.clear();
+        cache.getAll(List.of("member-1", "member-2"), this::load);
+        assertThat(loads).containsExactly(Set.of("member-2"));
+    }
+
+    @Test
+    @DisplayName("저장 후 ttl 이 지난 회원은 다시 조회한다.")
+    void reloadsAfterTtl() {
+        cache.getAll(List.of("member-1"), this::load);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        cache.getAll(List.of("member-1"), this::load);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        cache.getAll(List.of("member-1"), this::load);
+
+        assertThat(loads).containsExactly(Set.of("member-1"), Set.of("member-1"));
+    }
+
+    private Map<String, MemberSummaryDto> load(Set<String> memberIds) {
+        loads.add(Set.copyOf(memberIds));
+
+        Map<String, MemberSummaryDto> profiles = new HashMap<>();
+        memberIds.stream()
+                .filter(memberId -> memberId.startsWith("member-"))
+                .forEach(memberId -> profiles.put(memberId,
+                        new MemberSummaryDto(memberId, "nick-" + memberId, null)));
+        return profiles;
+    }
+}
@@ -30,7 +30,10 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @Transactional
@@ -132,6 +135,8 @@ class PaymentServiceTest {
                 paymentKey, checkout.orderId(), checkout.amount()
         );
 
+        given(scheduleRepository.findByIdForUpdate(scheduleId))
+                .willReturn(Optional.of(createPaymentPendingSchedule(scheduleId)));
         given(tossPaymentClient.confirm(command))
                 .willReturn(createSuccessResult(paymentKey, checkout));
 
@@ -171,6 +176,8 @@ class PaymentServiceTest {
                 paymentKey, checkout.orderId(), checkout.amount()
         );
 
+        given(scheduleRepository.findByIdForUpdate(scheduleId))
+                .willReturn(Optional.of(createPaymentPendingSchedule(scheduleId)));
         given(tossPaymentClient.confirm(command))
                 .willThrow(createFailException());
 
@@ -189,6 +196,45 @@ class PaymentServiceTest {
                 .contains(PaymentStatus.EXECUTING, PaymentStatus.FAILURE);
     }
 
+    @Test
+    @DisplayName("좌석 점유가 만료되어 취소된 스케쥴은 결제사에 승인을 요청하지 않고 실패 처리한다")
+    void confirmAfterHoldExpired() {
+        // given
+        String scheduleId = "dummyScheduleId";
+        Schedule schedule = createMentoringSchedule(scheduleId);
+
+        given(scheduleRepository.findById(scheduleId))
+                .willReturn(Optional.of(schedule));
+
+        CheckoutResult checkout = paymentService.checkout(new CheckoutCommand(scheduleId));
+        entityManager.flush();
+        entityManager.clear();
+
+        PaymentConfirmCommand command = new PaymentConfirmCommand(
+                "dummyPaymentKey", checkout.orderId(), checkout.amount()
+        );
+
+        Schedule canceled = createMentoringSchedule(scheduleId);
+        canceled.updateStatus(ScheduleStatus.CANCELED);
+        given(scheduleRepository.findByIdForUpdate(scheduleId))
+                .willReturn(Optional.of(canceled));
+
+        // when
+        PaymentConfirmResult confirm = paymentService.confirm(command);
+
+        // then
+        verify(tossPaymentClient, never()).confirm(any());
+        assertThat(confirm.status()).isEqualTo(PaymentStatus.FAILURE);
+        assertThat(paymentRepository.findByOrderId(checkout.orderId()).orElseThrow().getPaymentStatus())
+                .isEqualTo(PaymentStatus.FAILURE);
+    }
+
+    private Schedule createPaymentPendingSchedule(String scheduleId) {
+        Schedule schedule = createMentoringSchedule(scheduleId);
+        schedule.updateStatus(ScheduleStatus.PAYMENT_PENDING);
+        return schedule;
+    }
+
     private Schedule createMentoringSchedule(String scheduleId) {
         Schedule schedule = Schedule.builder()
                 .id(scheduleId)
@@ -0,0 +1,235 @@
+package com.kosa.fillinv.schedule.repository;
+
+import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.entity.ScheduleTime;
+import com.kosa.fillinv.schedule.event.ScheduleStatusChangedEvent;
+import com.kosa.fillinv.schedule.service.MemberScheduleTimeProjector;
+import com.kosa.fillinv.schedule.service.dto.ScheduleCursor;
+import com.kosa.fillinv.schedule.service.dto.ScheduleSearchCondition;
+import com.kosa.fillinv.schedule.service.dto.ScheduleSortType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+class ScheduleSearchRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2025-03-01T09:00:00Z");
+
+    @Autowired
+    private ScheduleSearchRepository scheduleSearchRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private ScheduleTimeRepository scheduleTimeRepository;
+    @Autowired
+    private MemberScheduleTimeProjector memberScheduleTimeProjector;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("자기 레슨을 예약한 스케쥴은 역할을 지정하지 않은 조회에서 한 번만 나온다.")
+    void selfBookedScheduleIsReturnedOnce() {
+        // given
+        save("schedule-self", "member-self", "member-self", ScheduleStatus.APPROVED, "Spring 멘토링", 0, 1);
+        save("schedule-other", "member-self", "mentee-other", ScheduleStatus.APPROVED, "Java 멘토링", 2);
+
+        ScheduleSearchCondition both = ScheduleSearchCondition.defaultCondition().participate("member-self");
+
+        // when
+        Page<String> page = scheduleSearchRepository.searchScheduleTimeIds(both);
+        Page<String> secondPage = scheduleSearchRepository.searchScheduleTimeIds(both.withSize(2).withPage(1));
+        Slice<ScheduleCursor> slice = scheduleSearchRepository.searchScheduleTimesAfter(both, null);
+
+        // then
+        assertThat(page.getContent()).hasSize(3).doesNotHaveDuplicates();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(secondPage.getTotalElements()).isEqualTo(3);
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(slice.getContent()).extracting(ScheduleCursor::scheduleTimeId)
+                .containsExactlyElementsOf(page.getContent());
+    }
+
+    @ParameterizedTest(name = "[{index}] role={0}, from={1}, to={2}, status={3}, keyword={4}, sort={5}")
+    @MethodSource("conditions")
+    @DisplayName("모든 조건 조합에서 페이지, 전체 수, 커서 조회 결과가 기존 Specification 조회와 같다.")
+    void matchesSpecificationQuery(ScheduleParticipantRole role, Instant from, Instant to, ScheduleStatus status,
+                                   String keyword, ScheduleSortType sortType) {
+        // given
+        saveFixtures();
+        ScheduleSearchCondition condition = ScheduleSearchCondition.builder()
+                .memberId("member-1")
+                .participantRole(role)
+                .from(from)
+                .to(to)
+                .status(status)
+                .keyword(keyword)
+                .sortType(sortType)
+                .build();
+
+        List<String> expected = findBySpecification(condition);
+
+        // when
+        Page<String> all = scheduleSearchRepository.searchScheduleTimeIds(condition.withSize(100));
+
+        // then
+        assertThat(all.getContent()).containsExactlyElementsOf(expected);
+        assertThat(all.getTotalElements()).isEqualTo(expected.size());
+        assertThat(pageThrough(condition.withSize(2), expected.size())).containsExactlyElementsOf(expected);
+        assertThat(cursorThrough(condition.withSize(2))).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("자기 레슨을 예약한 스케쥴은 멘토, 멘티 역할 조회에 각각 나온다.")
+    void selfBookedScheduleMatchesEachRole() {
+        // given
+        save("schedule-self", "member-self", "member-self", ScheduleStatus.APPROVED, "Spring 멘토링", 0);
+
+        // when
+        Page<String> asMentor = scheduleSearchRepository.searchScheduleTimeIds(
+                ScheduleSearchCondition.defaultCondition().mentor("member-self"));
+        Page<String> asMentee = scheduleSearchRepository.searchScheduleTimeIds(
+                ScheduleSearchCondition.defaultCondition().mentee("member-self"));
+
+        // then
+        assertThat(asMentor.getContent()).hasSize(1);
+        assertThat(asMentee.getContent()).isEqualTo(asMentor.getContent());
+    }
+
+    static Stream<Arguments> conditions() {
+        List<ScheduleParticipantRole> roles = Arrays.asList(
+                null, ScheduleParticipantRole.BOTH, ScheduleParticipantRole.MENTOR, ScheduleParticipantRole.MENTEE);
+        List<Instant> froms = Arrays.asList(null, BASE.plus(1, ChronoUnit.DAYS));
+        List<Instant> tos = Arrays.asList(null, BASE.plus(5, ChronoUnit.DAYS));
+        List<ScheduleStatus> statuses = Arrays.asList(null, ScheduleStatus.APPROVED);
+        // 색인 조회 + LIKE, 대소문자/공백 포함, 색인 없이 LIKE 만(1글자), 토큰 수 상한 초과
+        List<String> keywords = Arrays.asList(null, "spring", "SPRING 백엔", "a", "스프링 부트 입문 과정 멘토링 심화편");
+
+        List<Arguments> arguments = new ArrayList<>();
+        for (ScheduleParticipantRole role : roles) {
+            for (Instant from : froms) {
+                for (Instant to : tos) {
+                    for (ScheduleStatus status : statuses) {
+                        for (String keyword : keywords) {
+                            for (ScheduleSortType sortType : ScheduleSortType.values()) {
+                                arguments.add(Arguments.of(role, from, to, status, keyword, sortType));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    // member-1 이 멘토, 멘티, 자기 예약으로 참여한 스케쥴과 참여하지 않은 스케쥴
+    private void saveFixtures() {
+        save("schedule-1", "member-1", "member-2", ScheduleStatus.APPROVED, "Spring 백엔드 멘토링", 0, 1);
+        save("schedule-2", "member-1", "member-3", ScheduleStatus.COMPLETED, "Java 심화 멘토링", 2);
+        save("schedule-3", "member-2", "member-1", ScheduleStatus.APPROVED, "스프링 부트 입문", 3, 4);
+        save("schedule-4", "member-1", "member-1", ScheduleStatus.APPROVED, "Spring 자기 예약", 5);
+        save("schedule-5", "member-3", "member-2", ScheduleStatus.CANCELED, "Spring React 입문", 1, 6);
+        // schedule-1 과 시작 시각이 같은 시간 (schedule_time_id 로 순서를 정한다)
+        save("schedule-6", "member-2", "member-1", ScheduleStatus.PAYMENT_PENDING, "spring boot a to z", 1, 7);
+    }
+
+    // 기존 검색 (participantRole 이 없으면 새 조회와 같이 BOTH 로 본다)
+    private List<String> findBySpecification(ScheduleSearchCondition condition) {
+        ScheduleParticipantRole role = condition.participantRole() == null
+                ? ScheduleParticipantRole.BOTH : condition.participantRole();
+        Sort.Direction direction = condition.sortType().getDirection();
+
+        return scheduleTimeRepository.findAll(
+                        ScheduleTimeSpecifications.search(
+                                condition.keyword(),
+                                condition.from(),
+                                condition.to(),
+                                condition.status(),
+                                role == ScheduleParticipantRole.MENTEE ? null : condition.memberId(),
+                                role == ScheduleParticipantRole.MENTOR ? null : condition.memberId(),
+                                role),
+                        Sort.by(direction, "startTime").and(Sort.by(direction, "id")))
+                .stream()
+                .map(ScheduleTime::getId)
+                .toList();
+    }
+
+    private List<String> pageThrough(ScheduleSearchCondition condition, long expectedTotal) {
+        List<String> ids = new ArrayList<>();
+        Page<String> page;
+        int pageNumber = 0;
+        do {
+            page = scheduleSearchRepository.searchScheduleTimeIds(condition.withPage(pageNumber++));
+            assertThat(page.getTotalElements()).isEqualTo(expectedTotal);
+            ids.addAll(page.getContent());
+        } while (page.hasNext());
+        return ids;
+    }
+
+    private List<String> cursorThrough(ScheduleSearchCondition condition) {
+        List<String> ids = new ArrayList<>();
+        ScheduleCursor cursor = null;
+        Slice<ScheduleCursor> slice;
+        do {
+            slice = scheduleSearchRepository.searchScheduleTimesAfter(condition, cursor);
+            slice.getContent().forEach(next -> ids.add(next.scheduleTimeId()));
+            cursor = slice.hasContent() ? slice.getContent().getLast() : null;
+        } while (slice.hasNext());
+        return ids;
+    }
+
+    // 스케쥴 생성 이벤트로 읽기 모델까지 기록 (startDays 마다 1시간짜리 스케쥴 시간)
+    private void save(String id, String mentorId, String menteeId, ScheduleStatus status, String lessonTitle,
+                      int... startDays) {
+        Schedule schedule = Schedule.builder()
+                .id(id)
+                .status(status)
+                .requestContent("요청 사항입니다")
+                .lessonTitle(lessonTitle)
+                .lessonType("MENTORING")
+                .lessonDescription("설명")
+                .lessonLocation("ONLINE")
+                .lessonCategoryName("백엔드")
+                .mentorNickname("멘토닉")
+                .optionName("60분")
+                .optionMinute(60)
+                .price(30000)
+                .lessonId("lesson-" + id)
+                .mentorId(mentorId)
+                .menteeId(menteeId)
+                .optionId("option-" + id)
+                .build();
+
+        for (int day : startDays) {
+            Instant start = BASE.plus(day, ChronoUnit.DAYS);
+            schedule.addScheduleTime(ScheduleTime.of(start, start.plus(1, ChronoUnit.HOURS), schedule));
+        }
+
+        scheduleRepository.save(schedule);
+        memberScheduleTimeProjector.on(ScheduleStatusChangedEvent.created(schedule));
+        entityManager.flush();
+    }
+}
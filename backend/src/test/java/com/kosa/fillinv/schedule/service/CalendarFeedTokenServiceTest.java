@@ -0,0 +1,57 @@
+package com.kosa.fillinv.schedule.service;
+
+import com.kosa.fillinv.global.exception.BusinessException;
+import com.kosa.fillinv.global.response.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+class CalendarFeedTokenServiceTest {
+
+    @Autowired
+    private CalendarFeedTokenService calendarFeedTokenService;
+
+    @Test
+    @DisplayName("발급한 토큰으로 회원을 찾는다.")
+    void findMemberIdByIssuedToken() {
+        String token = calendarFeedTokenService.issue("member-feed");
+
+        assertThat(calendarFeedTokenService.findMemberId(token)).isEqualTo("member-feed");
+    }
+
+    @Test
+    @DisplayName("다시 발급하면 이전 토큰은 쓸 수 없다.")
+    void reissueRevokesPreviousToken() {
+        String previous = calendarFeedTokenService.issue("member-feed");
+        String current = calendarFeedTokenService.issue("member-feed");
+
+        assertThat(current).isNotEqualTo(previous);
+        assertThat(calendarFeedTokenService.findMemberId(current)).isEqualTo("member-feed");
+        assertThatThrownBy(() -> calendarFeedTokenService.findMemberId(previous))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CALENDAR_FEED_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 쓸 수 없다.")
+    void revokedTokenIsRejected() {
+        String token = calendarFeedTokenService.issue("member-feed");
+
+        calendarFeedTokenService.revoke("member-feed");
+
+        assertThatThrownBy(() -> calendarFeedTokenService.findMemberId(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CALENDAR_FEED_NOT_FOUND);
+    }
+}
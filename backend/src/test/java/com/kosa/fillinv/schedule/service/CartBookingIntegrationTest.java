@@ -0,0 +1,272 @@
+package com.kosa.fillinv.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+import com.kosa.fillinv.global.exception.BusinessException;
+import com.kosa.fillinv.global.response.ErrorCode;
+import com.kosa.fillinv.lesson.entity.AvailableTime;
+import com.kosa.fillinv.lesson.entity.Lesson;
+import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.lesson.repository.AvailableTimeRepository;
+import com.kosa.fillinv.lesson.repository.LessonRepository;
+import com.kosa.fillinv.member.entity.Member;
+import com.kosa.fillinv.member.repository.MemberRepository;
+import com.kosa.fillinv.payment.controller.dto.CartCheckoutCommand;
+import com.kosa.fillinv.payment.controller.dto.CheckoutResult;
+import com.kosa.fillinv.payment.entity.Payment;
+import com.kosa.fillinv.payment.repository.PaymentRepository;
+import com.kosa.fillinv.payment.service.PaymentService;
+import com.kosa.fillinv.schedule.dto.request.ScheduleCreateRequest;
+import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.exception.ScheduleException;
+import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.schedule.service.dto.CartBookingResult;
+import com.kosa.fillinv.stock.entity.Stock;
+import com.kosa.fillinv.stock.repository.StockBulkRepository;
+import com.kosa.fillinv.stock.repository.StockLedgerRepository;
+import com.kosa.fillinv.stock.repository.StockRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+class CartBookingIntegrationTest {
+
+    @Autowired
+    private ScheduleCreateService scheduleCreateService;
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+    @Autowired
+    private AvailableTimeRepository availableTimeRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private StockRepository stockRepository;
+    @Autowired
+    private StockBulkRepository stockBulkRepository;
+    @Autowired
+    private StockLedgerRepository stockLedgerRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(Optional.of(Member.builder().id("mentor-cart").nickname("멘토").build()))
+                .when(memberRepository)
+                .findById(anyString());
+
+        Lesson lesson = lessonRepository.save(
+                Lesson.builder()
+                        .id("lesson-cart")
+                        .title("원데이 레슨")
+                        .lessonType(LessonType.ONEDAY)
+                        .mentorId("mentor-cart")
+                        .categoryId(1L)
+                        .description("설명")
+                        .location("오프라인")
+                        .thumbnailImage("thumbnail.png")
+                        .build()
+        );
+
+        availableTimeRepository.saveAll(List.of(
+                new AvailableTime("at-cart-1", lesson,
+                        Instant.parse("2025-02-01T09:00:00Z"), Instant.parse("2025-02-01T12:00:00Z"), 30000, 5),
+                new AvailableTime("at-cart-2", lesson,
+                        Instant.parse("2025-02-08T09:00:00Z"), Instant.parse("2025-02-08T12:00:00Z"), 20000, 5)
+        ));
+
+        stockRepository.saveAll(List.of(
+                Stock.builder().id("stock-cart-1").serviceKey("at-cart-1").quantity(5).build(),
+                Stock.builder().id("stock-cart-2").serviceKey("at-cart-2").quantity(5).build()
+        ));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("장바구니 예약은 모든 항목을 같은 cartId 로 만들고 재고를 항목마다 차감한다.")
+    void createCartSchedules() {
+        // when
+        CartBookingResult result = scheduleCreateService.createCartSchedules("mentee-cart", List.of(
+                oneday("at-cart-1"), oneday("at-cart-2")));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        List<Schedule> schedules = scheduleRepository.findAllByCartId(result.cartId());
+        assertThat(schedules).hasSize(2)
+                .allSatisfy(schedule -> assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.PAYMENT_PENDING));
+        assertThat(quantity("at-cart-1")).isEqualTo(4);
+        assertThat(quantity("at-cart-2")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("기본 재고는 차감을 반영된 이력으로 stock_ledger 에 남기고 남은 좌석 수에는 중복으로 더하지 않는다.")
+    void recordFoldedLedger() {
+        // when
+        scheduleCreateService.createCartSchedules("mentee-cart", List.of(
+                oneday("at-cart-1"), oneday("at-cart-2")));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        List<Map<String, Object>> entries = jdbcTemplate.queryForList(
+                "SELECT service_key, entry_type, delta, folded_at FROM stock_ledger WHERE service_key IN ('at-cart-1', 'at-cart-2')");
+        assertThat(entries).hasSize(2)
+                .allSatisfy(entry -> {
+                    assertThat(entry.get("entry_type")).isEqualTo("RESERVE");
+                    assertThat(((Number) entry.get("delta")).intValue()).isEqualTo(-1);
+                    assertThat(entry.get("folded_at")).isNotNull();
+                });
+        assertThat(stockLedgerRepository.findAvailable("at-cart-1")).contains(4);
+    }
+
+    @Test
+    @DisplayName("단건 예약은 예약 트랜잭션 안에서 재고를 차감하고, 좌석이 없으면 예약하지 않는다.")
+    void createScheduleTakesSeat() {
+        // given
+        stockRepository.save(Stock.builder().id("stock-cart-3").serviceKey("at-cart-3").quantity(0).build());
+        availableTimeRepository.save(new AvailableTime("at-cart-3", lessonRepository.findById("lesson-cart").orElseThrow(),
+                Instant.parse("2025-02-15T09:00:00Z"), Instant.parse("2025-02-15T12:00:00Z"), 10000, 0));
+        entityManager.flush();
+
+        // when
+        String scheduleId = scheduleCreateService.createSchedule("mentee-cart", oneday("at-cart-1"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(scheduleRepository.findById(scheduleId)).isPresent();
+        assertThat(quantity("at-cart-1")).isEqualTo(4);
+        assertThatThrownBy(() -> scheduleCreateService.createSchedule("mentee-cart", oneday("at-cart-3")))
+                .isInstanceOf(ScheduleException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NO_SEAT);
+    }
+
+    @Test
+    @DisplayName("같은 재고 key 를 두 번 담으면 아무것도 예약하지 않고 거절한다.")
+    void rejectDuplicateStockKey() {
+        assertThatThrownBy(() -> scheduleCreateService.createCartSchedules("mentee-cart", List.of(
+                oneday("at-cart-1"), oneday("at-cart-1"))))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.DUPLICATE_CART_ITEM);
+
+        entityManager.clear();
+        assertThat(quantity("at-cart-1")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("여러 key 차감은 하나라도 부족하면 아무것도 차감하지 않는다.")
+    void takeAllIsAllOrNothing() {
+        // given
+        stockRepository.save(Stock.builder().id("stock-cart-3").serviceKey("at-cart-3").quantity(0).build());
+        entityManager.flush();
+
+        // when
+        boolean insufficient = stockBulkRepository.takeAll(Map.of("at-cart-1", 1, "at-cart-3", 1));
+        boolean sufficient = stockBulkRepository.takeAll(Map.of("at-cart-1", 2, "at-cart-2", 5));
+        entityManager.clear();
+
+        // then
+        assertThat(insufficient).isFalse();
+        assertThat(sufficient).isTrue();
+        assertThat(quantity("at-cart-1")).isEqualTo(3);
+        assertThat(quantity("at-cart-2")).isZero();
+        assertThat(quantity("at-cart-3")).isZero();
+    }
+
+    @Test
+    @DisplayName("장바구니 결제는 스케쥴 금액의 합으로 cartId 주문 하나를 만든다.")
+    void checkoutCart() {
+        // given
+        CartBookingResult booking = scheduleCreateService.createCartSchedules("mentee-cart", List.of(
+                oneday("at-cart-1"), oneday("at-cart-2")));
+        entityManager.flush();
+
+        // when
+        CheckoutResult result = paymentService.checkoutCart(new CartCheckoutCommand(booking.cartId()));
+
+        // then
+        assertThat(result.amount()).isEqualTo(50000);
+        assertThat(result.orderName()).isEqualTo("원데이 레슨 외 1건");
+
+        Payment payment = paymentRepository.findByOrderId(booking.cartId()).orElseThrow();
+        assertThat(payment.getAmount()).isEqualTo(50000);
+        assertThat(payment.getSellerId()).isEqualTo("mentor-cart");
+    }
+
+    @Test
+    @DisplayName("결제 대기가 아닌 스케쥴이 섞인 장바구니는 결제를 만들지 않는다.")
+    void checkoutCartRejectsNonPendingSchedule() {
+        // given
+        CartBookingResult booking = scheduleCreateService.createCartSchedules("mentee-cart", List.of(
+                oneday("at-cart-1"), oneday("at-cart-2")));
+        scheduleRepository.findById(booking.scheduleIds().get(0)).orElseThrow().updateStatus(ScheduleStatus.CANCELED);
+        entityManager.flush();
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.checkoutCart(new CartCheckoutCommand(booking.cartId())))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_SCHEDULE_STATUS);
+        assertThat(paymentRepository.findByOrderId(booking.cartId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("cartId 로 결제를 완료하면 장바구니의 스케쥴이 모두 승인 대기가 된다.")
+    void completeCartPayment() {
+        // given
+        CartBookingResult booking = scheduleCreateService.createCartSchedules("mentee-cart", List.of(
+                oneday("at-cart-1"), oneday("at-cart-2")));
+        entityManager.flush();
+
+        // when
+        scheduleService.completePayment(booking.cartId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(scheduleRepository.findAllByCartId(booking.cartId()))
+                .hasSize(2)
+                .allSatisfy(schedule -> assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.APPROVAL_PENDING));
+    }
+
+    private ScheduleCreateRequest oneday(String availableTimeId) {
+        return new ScheduleCreateRequest("lesson-cart", null, availableTimeId, null);
+    }
+
+    private int quantity(String serviceKey) {
+        return stockRepository.findByServiceKey(serviceKey).orElseThrow().getQuantity();
+    }
+}
@@ -0,0 +1,237 @@
+package com.kosa.fillinv.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kosa.fillinv.global.response.ErrorCode;
+import com.kosa.fillinv.lesson.entity.AvailableTime;
+import com.kosa.fillinv.lesson.entity.Lesson;
+import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.lesson.repository.LessonRepository;
+import com.kosa.fillinv.member.entity.Member;
+import com.kosa.fillinv.member.repository.MemberRepository;
+import com.kosa.fillinv.schedule.dto.request.ScheduleCreateRequest;
+import com.kosa.fillinv.schedule.exception.ScheduleException;
+import com.kosa.fillinv.stock.entity.Stock;
+import com.kosa.fillinv.stock.repository.StockRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 동시 예약 부하 테스트 (./gradlew loadTest)
+ * 로컬 MySQL(test 프로파일)에 좌석 N 개짜리 STUDY/ONEDAY 레슨을 만들고, 가상 스레드로 예약 M 건을 동시에 요청한다.
+ * 처리량, 지연 시간 백분위, InnoDB 행 잠금 대기 시간을 출력하고 초과 판매가 없는지, 재고와 스케쥴 수가 맞는지 확인한다.
+ * 좌석/요청 수는 -Ploadtest.seats=50 -Ploadtest.bookings=500 으로 바꿀 수 있다.
+ */
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+class ScheduleCreateLoadTest {
+
+    private static final int SEATS = Integer.getInteger("loadtest.seats", 50);
+    private static final int BOOKINGS = Integer.getInteger("loadtest.bookings", 500);
+    private static final Duration STOCK_SYNC_TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private ScheduleCreateService scheduleCreateService;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("STUDY 레슨에 동시에 예약해도 좌석 수를 넘겨 예약되지 않고 재고와 스케쥴 수가 일치한다.")
+    void studyBookings() throws InterruptedException {
+        Lesson lesson = seedLesson(LessonType.STUDY);
+        seedStock(lesson.getId());
+
+        LoadResult result = run("STUDY", mentee -> new ScheduleCreateRequest(lesson.getId(), null, null, null));
+
+        assertNoOversell(result, lesson.getId(), "lesson_id");
+    }
+
+    @Test
+    @DisplayName("ONEDAY 레슨에 동시에 예약해도 좌석 수를 넘겨 예약되지 않고 재고와 스케쥴 수가 일치한다.")
+    void onedayBookings() throws InterruptedException {
+        Lesson lesson = seedLesson(LessonType.ONEDAY);
+        String availableTimeId = lesson.getAvailableTimeList().get(0).getId();
+        seedStock(availableTimeId);
+
+        LoadResult result = run("ONEDAY", mentee -> new ScheduleCreateRequest(lesson.getId(), null, availableTimeId, null));
+
+        assertNoOversell(result, availableTimeId, "available_time_id");
+    }
+
+    private LoadResult run(String name, Function<String, ScheduleCreateRequest> requestFactory) throws InterruptedException {
+        long[] latencies = new long[BOOKINGS];
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long[] lockBefore = rowLockStatus();
+        long startNanos;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < BOOKINGS; i++) {
+                int index = i;
+                String mentee = "load-mentee-" + i;
+                executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        scheduleCreateService.createSchedule(mentee, requestFactory.apply(mentee));
+                        booked.incrementAndGet();
+                    } catch (ScheduleException e) {
+                        (e.getErrorCode() == ErrorCode.NO_SEAT ? soldOut : failed).incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - begin;
+                    }
+                    return null;
+                });
+            }
+
+            startNanos = System.nanoTime();
+            start.countDown();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        long[] lockAfter = rowLockStatus();
+
+        LoadResult result = new LoadResult(booked.get(), soldOut.get(), failed.get());
+        report(name, result, elapsed, latencies, lockAfter[0] - lockBefore[0], lockAfter[1] - lockBefore[1]);
+        return result;
+    }
+
+    private void assertNoOversell(LoadResult result, String serviceKey, String scheduleColumn) throws InterruptedException {
+        assertThat(result.failed()).isZero();
+        assertThat(result.booked()).isEqualTo(Math.min(SEATS, BOOKINGS));
+        assertThat(result.booked() + result.soldOut()).isEqualTo(BOOKINGS);
+
+        Integer schedules = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM schedules WHERE " + scheduleColumn + " = ? AND status <> 'CANCELED'",
+                Integer.class, serviceKey);
+        assertThat(schedules).isEqualTo(result.booked());
+
+        // write-behind 재고 구현은 잠시 뒤에 stocks 에 반영된다
+        int expected = SEATS - schedules;
+        Instant deadline = Instant.now().plus(STOCK_SYNC_TIMEOUT);
+        int quantity = stockQuantity(serviceKey);
+        while (quantity != expected && Instant.now().isBefore(deadline)) {
+            Thread.sleep(100);
+            quantity = stockQuantity(serviceKey);
+        }
+        assertThat(quantity).isEqualTo(expected);
+    }
+
+    private void report(String name, LoadResult result, Duration elapsed, long[] latencies, long lockWaits, long lockWaitMillis) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        System.out.printf(
+                "[loadtest] %s seats=%d bookings=%d booked=%d soldOut=%d failed=%d elapsed=%dms throughput=%.1f/s "
+                        + "p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms rowLockWaits=%d rowLockWaitTime=%dms%n",
+                name, SEATS, BOOKINGS, result.booked(), result.soldOut(), result.failed(), elapsed.toMillis(),
+                BOOKINGS * 1_000.0 / Math.max(1, elapsed.toMillis()),
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 1.0),
+                lockWaits, lockWaitMillis);
+    }
+
+    private double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    // InnoDB 행 잠금 대기 횟수와 누적 대기 시간(ms)
+    private long[] rowLockStatus() {
+        return new long[]{globalStatus("Innodb_row_lock_waits"), globalStatus("Innodb_row_lock_time")};
+    }
+
+    private long globalStatus(String name) {
+        String value = jdbcTemplate.queryForObject(
+                "SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = ?", String.class, name);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    private int stockQuantity(String serviceKey) {
+        return stockRepository.findByServiceKey(serviceKey).orElseThrow().getQuantity();
+    }
+
+    private Lesson seedLesson(LessonType lessonType) {
+        String suffix = UUID.randomUUID().toString();
+        String mentorId = "load-mentor-" + suffix;
+
+        return transactionTemplate.execute(status -> {
+            memberRepository.save(Member.builder()
+                    .id(mentorId)
+                    .nickname("부하 테스트 멘토")
+                    .phoneNum("010-0000-0000")
+                    .email(suffix + "@loadtest.local")
+                    .password("password")
+                    .build());
+
+            Lesson lesson = Lesson.builder()
+                    .id("load-lesson-" + suffix)
+                    .title("부하 테스트 " + lessonType.name())
+                    .lessonType(lessonType)
+                    .thumbnailImage("thumbnail.png")
+                    .description("설명")
+                    .location("온라인")
+                    .mentorId(mentorId)
+                    .categoryId(1L)
+                    .categoryPath("1")
+                    .closeAt(Instant.now().plus(30, ChronoUnit.DAYS))
+                    .price(10000)
+                    .seats(lessonType == LessonType.STUDY ? SEATS : null)
+                    .build();
+
+            Instant startTime = Instant.now().plus(7, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+            lesson.getAvailableTimeList().add(AvailableTime.builder()
+                    .id("load-time-" + suffix)
+                    .lesson(lesson)
+                    .startTime(startTime)
+                    .endTime(startTime.plus(2, ChronoUnit.HOURS))
+                    .price(10000)
+                    .seats(lessonType == LessonType.ONEDAY ? SEATS : null)
+                    .build());
+
+            return lessonRepository.save(lesson);
+        });
+    }
+
+    private void seedStock(String serviceKey) {
+        stockRepository.save(Stock.builder()
+                .id(UUID.randomUUID().toString())
+                .serviceKey(serviceKey)
+                .quantity(SEATS)
+                .build());
+    }
+
+    private record LoadResult(int booked, int soldOut, int failed) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.kosa.fillinv.schedule.service;
+
+import com.kosa.fillinv.global.response.ErrorCode;
+import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.schedule.dto.request.ScheduleCreateRequest;
+import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.exception.ScheduleException;
+import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.schedule.service.booking.BookableLessonSnapshot;
+import com.kosa.fillinv.schedule.service.booking.MentorBookingIndex;
+import com.kosa.fillinv.stock.service.SeatInventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class ScheduleCreateServiceTest {
+
+    private static final Instant START = Instant.parse("2025-02-01T09:00:00Z");
+
+    private final ScheduleValidator validator = mock(ScheduleValidator.class);
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final SeatInventory seatInventory = mock(SeatInventory.class);
+    private final MentorBookingIndex mentorBookingIndex = mock(MentorBookingIndex.class);
+
+    private final ScheduleCreateService scheduleCreateService = new ScheduleCreateService(
+            validator, new ScheduleMapper(), scheduleRepository, seatInventory, mock(SeatHoldService.class),
+            mentorBookingIndex, mock(ApplicationEventPublisher.class));
+
+    @Test
+    @DisplayName("원데이 예약은 이용 가능 시간 재고를 차감하고 스케쥴을 저장한다.")
+    void onedayTakesSeat() {
+        given(validator.getBookableLesson("lesson-1")).willReturn(lesson(LessonType.ONEDAY));
+        given(seatInventory.reserve("at-1")).willReturn(true);
+
+        scheduleCreateService.createSchedule("mentee-1", new ScheduleCreateRequest("lesson-1", null, "at-1", null));
+
+        ArgumentCaptor<Schedule> saved = ArgumentCaptor.forClass(Schedule.class);
+        verify(scheduleRepository).save(saved.capture());
+        assertThat(saved.getValue().getAvailableTimeId()).isEqualTo("at-1");
+        verify(seatInventory).reserve("at-1");
+    }
+
+    @Test
+    @DisplayName("좌석이 없으면 스케쥴을 저장하지 않는다.")
+    void noSeatIsRejected() {
+        given(validator.getBookableLesson("lesson-1")).willReturn(lesson(LessonType.ONEDAY));
+        given(seatInventory.reserve("at-1")).willReturn(false);
+
+        assertThatThrownBy(() -> scheduleCreateService.createSchedule(
+                "mentee-1", new ScheduleCreateRequest("lesson-1", null, "at-1", null)))
+                .isInstanceOf(ScheduleException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NO_SEAT);
+        verify(scheduleRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("멘토링 예약은 색인 사전 확인 뒤 DB 기준으로 시간 겹침을 확인하고 재고는 차감하지 않는다.")
+    void mentoringChecksOverlapInDatabase() {
+        given(validator.getBookableLesson("lesson-1")).willReturn(lesson(LessonType.MENTORING));
+
+        scheduleCreateService.createSchedule("mentee-1", new ScheduleCreateRequest("lesson-1", "option-1", null, START));
+
+        var order = inOrder(mentorBookingIndex, validator, scheduleRepository);
+        order.verify(mentorBookingIndex).reserve(any(Schedule.class));
+        order.verify(validator).validateMentorTimeAvailable(any(Schedule.class));
+        order.verify(scheduleRepository).save(any(Schedule.class));
+        verifyNoInteractions(seatInventory);
+    }
+
+    private BookableLessonSnapshot lesson(LessonType type) {
+        return new BookableLessonSnapshot(
+                "lesson-1", type, "레슨", "설명", "온라인", 10000, "mentor-1", "멘토", "백엔드",
+                Map.of("option-1", new BookableLessonSnapshot.OptionSlot("option-1", "60분", 60, 30000)),
+                Map.of("at-1", new BookableLessonSnapshot.TimeSlot("at-1", START, START.plusSeconds(3600), 20000)),
+                0L, 0L);
+    }
+}
@@ -0,0 +1,101 @@
+package com.kosa.fillinv.schedule.service;
+
+import com.kosa.fillinv.payment.entity.Payment;
+import com.kosa.fillinv.payment.repository.PaymentRepository;
+import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.stock.service.SeatInventory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class SeatHoldServiceTest {
+
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final SeatInventory seatInventory = mock(SeatInventory.class);
+
+    private final SeatHoldService seatHoldService = new SeatHoldService(
+            scheduleRepository, paymentRepository, seatInventory, mock(ApplicationEventPublisher.class),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @AfterEach
+    void tearDown() {
+        seatHoldService.shutdown();
+    }
+
+    @Test
+    @DisplayName("점유가 만료되어도 결제 승인이 시작된 스케쥴은 취소하지 않는다.")
+    void keepsHoldWhilePaymentExecuting() {
+        Schedule unpaid = oneday("schedule-unpaid", null);
+        Schedule paying = oneday("schedule-paying", null);
+        given(scheduleRepository.findAllByIdInAndStatusForUpdate(anyCollection(), eq(ScheduleStatus.PAYMENT_PENDING)))
+                .willReturn(List.of(unpaid, paying));
+        given(paymentRepository.findAllByOrderIdInAndPaymentStatusIn(anyCollection(), anyCollection()))
+                .willReturn(List.of(executing("schedule-paying")));
+
+        int canceled = seatHoldService.cancelUnpaid(List.of("schedule-unpaid", "schedule-paying"));
+
+        assertThat(canceled).isEqualTo(1);
+        assertThat(unpaid.getStatus()).isEqualTo(ScheduleStatus.CANCELED);
+        assertThat(paying.getStatus()).isEqualTo(ScheduleStatus.PAYMENT_PENDING);
+        verify(seatInventory).release("time-schedule-unpaid");
+        verify(seatInventory, never()).release("time-schedule-paying");
+    }
+
+    @Test
+    @DisplayName("장바구니 결제가 승인 중이면 장바구니의 스케쥴은 취소하지 않는다.")
+    void keepsCartHoldWhilePaymentExecuting() {
+        Schedule inCart = oneday("schedule-cart", "cart-1");
+        given(scheduleRepository.findAllByIdInAndStatusForUpdate(anyCollection(), eq(ScheduleStatus.PAYMENT_PENDING)))
+                .willReturn(List.of(inCart));
+        given(paymentRepository.findAllByOrderIdInAndPaymentStatusIn(anyCollection(), anyCollection()))
+                .willReturn(List.of(executing("cart-1")));
+
+        int canceled = seatHoldService.cancelUnpaid(List.of("schedule-cart"));
+
+        assertThat(canceled).isZero();
+        assertThat(inCart.getStatus()).isEqualTo(ScheduleStatus.PAYMENT_PENDING);
+        verifyNoInteractions(seatInventory);
+    }
+
+    private Schedule oneday(String id, String cartId) {
+        return Schedule.builder()
+                .id(id)
+                .status(ScheduleStatus.PAYMENT_PENDING)
+                .lessonTitle("원데이 클래스")
+                .lessonType("ONEDAY")
+                .lessonId("lesson-1")
+                .mentorId("mentor-1")
+                .menteeId("mentee-1")
+                .availableTimeId("time-" + id)
+                .cartId(cartId)
+                .price(10000)
+                .build();
+    }
+
+    private Payment executing(String orderId) {
+        Payment payment = Payment.builder()
+                .id("payment-" + orderId)
+                .orderId(orderId)
+                .orderName("원데이 클래스")
+                .buyerId("mentee-1")
+                .sellerId("mentor-1")
+                .amount(10000)
+                .build();
+        payment.markExecuting();
+        return payment;
+    }
+}
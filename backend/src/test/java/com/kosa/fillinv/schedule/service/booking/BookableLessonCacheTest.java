@@ -0,0 +1,76 @@
+package com.kosa.fillinv.schedule.service.booking;
+
+import com.kosa.fillinv.lesson.entity.LessonType;
+import com.kosa.fillinv.lesson.service.cache.LessonDetailCache;
+import com.kosa.fillinv.member.event.MemberProfileChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookableLessonCacheTest {
+
+    private final LessonDetailCache lessonDetailCache = new LessonDetailCache(1_000_000, 60_000);
+    private final AtomicLong now = new AtomicLong();
+    private final BookableLessonCache cache = new BookableLessonCache(lessonDetailCache, 2, 1_000, now::get);
+
+    @Test
+    @DisplayName("레슨이 변경되면 이전 스냅샷은 조회되지 않는다.")
+    void lessonChangeInvalidates() {
+        cache.put(snapshot("lesson-1", "mentor-1"));
+        assertThat(cache.get("lesson-1")).isPresent();
+
+        lessonDetailCache.invalidate("lesson-1");
+
+        assertThat(cache.get("lesson-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("멘토 프로필이 변경되면 해당 멘토의 스냅샷만 조회되지 않는다.")
+    void mentorProfileChangeInvalidates() {
+        cache.put(snapshot("lesson-1", "mentor-1"));
+        cache.put(snapshot("lesson-2", "mentor-2"));
+
+        cache.on(new MemberProfileChangedEvent("mentor-1"));
+
+        assertThat(cache.get("lesson-1")).isEmpty();
+        assertThat(cache.get("lesson-2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("항목 수가 최대치를 넘으면 가장 오래 사용되지 않은 스냅샷부터 제거한다.")
+    void evictsLeastRecentlyUsed() {
+        cache.put(snapshot("lesson-1", "mentor-1"));
+        cache.put(snapshot("lesson-2", "mentor-1"));
+        cache.get("lesson-1");
+
+        cache.put(snapshot("lesson-3", "mentor-1"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("lesson-1")).isPresent();
+        assertThat(cache.get("lesson-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 후 ttl 이 지난 스냅샷은 조회되지 않는다.")
+    void expiresAfterWrite() {
+        cache.put(snapshot("lesson-1", "mentor-1"));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(cache.get("lesson-1")).isPresent();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(cache.get("lesson-1")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    private BookableLessonSnapshot snapshot(String lessonId, String mentorId) {
+        return new BookableLessonSnapshot(
+                lessonId, LessonType.STUDY, "제목", "설명", "온라인", 10000,
+                mentorId, "멘토", "카테고리", Map.of(), Map.of(),
+                cache.lessonStamp(), cache.mentorStamp());
+    }
+}
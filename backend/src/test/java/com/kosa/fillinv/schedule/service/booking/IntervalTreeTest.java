@@ -0,0 +1,102 @@
+package com.kosa.fillinv.schedule.service.booking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("반열린 구간 기준으로 겹침을 판단한다. 끝과 시작이 맞닿는 구간은 겹치지 않는다.")
+    void overlaps() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(10, 20, "a");
+        tree.insert(30, 40, "b");
+
+        assertThat(tree.overlaps(15, 25)).isTrue();
+        assertThat(tree.overlaps(5, 11)).isTrue();
+        assertThat(tree.overlaps(0, 50)).isTrue();
+        assertThat(tree.overlaps(20, 30)).isFalse();
+        assertThat(tree.overlaps(0, 10)).isFalse();
+        assertThat(tree.overlaps(40, 50)).isFalse();
+    }
+
+    @Test
+    @DisplayName("overlapping 은 주어진 구간과 겹치는 구간을 시작 순으로 모두 반환한다.")
+    void overlapping() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(0, 10, "a");
+        tree.insert(5, 30, "b");
+        tree.insert(20, 25, "c");
+        tree.insert(40, 50, "d");
+
+        assertThat(tree.overlapping(10, 40))
+                .extracting(IntervalTree.Entry::value)
+                .containsExactly("b", "c");
+    }
+
+    @Test
+    @DisplayName("같은 구간에 여러 값을 넣을 수 있고, 값을 모두 제거해야 구간이 사라진다.")
+    void sharedInterval() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(10, 20, "a");
+        tree.insert(10, 20, "b");
+
+        assertThat(tree.remove(10, 20, "a")).isTrue();
+        assertThat(tree.overlaps(10, 20)).isTrue();
+
+        assertThat(tree.remove(10, 20, "b")).isTrue();
+        assertThat(tree.overlaps(10, 20)).isFalse();
+        assertThat(tree.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("삽입/삭제를 반복해도 겹침 판단과 조회 결과가 전체 탐색 결과와 같다.")
+    void matchesBruteForce() {
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        List<long[]> intervals = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2_000; i++) {
+            long start = random.nextInt(100_000);
+            long end = start + 1 + random.nextInt(100);
+            tree.insert(start, end, i);
+            intervals.add(new long[]{start, end, i});
+
+            if (i % 3 == 0) {
+                long[] removed = intervals.remove(random.nextInt(intervals.size()));
+                assertThat(tree.remove(removed[0], removed[1], (int) removed[2])).isTrue();
+            }
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            long start = random.nextInt(100_000);
+            long end = start + 1 + random.nextInt(50);
+            boolean expected = intervals.stream().anyMatch(it -> it[0] < end && start < it[1]);
+            assertThat(tree.overlaps(start, end)).isEqualTo(expected);
+        }
+
+        long since = 50_000;
+        assertThat(tree.endingAfter(since)).hasSize((int) intervals.stream().filter(it -> it[1] > since).count());
+        assertThat(tree.size()).isEqualTo(intervals.size());
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 값만 제거한다.")
+    void removeIf() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(10, 20, "a");
+        tree.insert(30, 40, "b");
+        tree.insert(50, 60, "a");
+
+        assertThat(tree.removeIf(entry -> entry.value().equals("a"))).isEqualTo(2);
+        assertThat(tree.endingAfter(Long.MIN_VALUE))
+                .extracting(IntervalTree.Entry::value)
+                .containsExactly("b");
+    }
+}
@@ -0,0 +1,135 @@
+package com.kosa.fillinv.schedule.service.booking;
+
+import com.kosa.fillinv.lesson.service.dto.BookedTimeVO;
+import com.kosa.fillinv.schedule.entity.Schedule;
+import com.kosa.fillinv.schedule.entity.ScheduleStatus;
+import com.kosa.fillinv.schedule.entity.ScheduleTime;
+import com.kosa.fillinv.schedule.exception.ScheduleException;
+import com.kosa.fillinv.schedule.repository.ScheduleRepository;
+import com.kosa.fillinv.schedule.service.dto.MentorBookedTimeVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class MentorBookingIndexTest {
+
+    @Test
+    @DisplayName("여러 스케쥴이 같은 시간을 쓰면 예약된 시간은 한 번만 반환한다.")
+    void bookedTimesAreDistinct() {
+        // given
+        Instant start = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        Instant end = start.plus(1, ChronoUnit.HOURS);
+        Instant nextStart = end.plus(1, ChronoUnit.HOURS);
+        Instant nextEnd = nextStart.plus(1, ChronoUnit.HOURS);
+
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        given(scheduleRepository.findMentorBookedTimes(eq("mentor-1"), anyCollection(), any(Instant.class)))
+                .willReturn(List.of(
+                        new MentorBookedTimeVO("schedule-1", start, end),
+                        new MentorBookedTimeVO("schedule-2", start, end),
+                        new MentorBookedTimeVO("schedule-3", nextStart, nextEnd)));
+
+        MentorBookingIndex index = new MentorBookingIndex(scheduleRepository, 60_000, System::nanoTime);
+
+        // when
+        List<BookedTimeVO> bookedTimes = index.getBookedTimes("mentor-1", Instant.now());
+
+        // then
+        assertThat(bookedTimes).containsExactlyInAnyOrder(
+                new BookedTimeVO(start, end),
+                new BookedTimeVO(nextStart, nextEnd));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 취소되어 색인에만 남은 예약과 겹치면 DB 로 확인하고 예약을 받는다.")
+    void staleConflictIsDiscarded() {
+        // given
+        Instant start = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        Instant end = start.plus(1, ChronoUnit.HOURS);
+
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        given(scheduleRepository.findMentorBookedTimes(eq("mentor-1"), anyCollection(), any(Instant.class)))
+                .willReturn(List.of(new MentorBookedTimeVO("schedule-canceled", start, end)));
+        given(scheduleRepository.findIdsByIdInAndStatusIn(anyCollection(), anyCollection())).willReturn(List.of());
+
+        MentorBookingIndex index = new MentorBookingIndex(scheduleRepository, 60_000, System::nanoTime);
+
+        // when
+        index.reserve(mentoring("schedule-new", start, end));
+
+        // then
+        assertThat(index.getBookedTimes("mentor-1", Instant.now())).containsExactly(new BookedTimeVO(start, end));
+    }
+
+    @Test
+    @DisplayName("DB 에서도 시간을 점유하고 있는 예약과 겹치면 거절한다.")
+    void bookedConflictIsRejected() {
+        // given
+        Instant start = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        Instant end = start.plus(1, ChronoUnit.HOURS);
+
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        given(scheduleRepository.findMentorBookedTimes(eq("mentor-1"), anyCollection(), any(Instant.class)))
+                .willReturn(List.of(new MentorBookedTimeVO("schedule-booked", start, end)));
+        given(scheduleRepository.findIdsByIdInAndStatusIn(anyCollection(), anyCollection()))
+                .willReturn(List.of("schedule-booked"));
+
+        MentorBookingIndex index = new MentorBookingIndex(scheduleRepository, 60_000, System::nanoTime);
+
+        // when & then
+        assertThatThrownBy(() -> index.reserve(mentoring("schedule-new", start.plus(30, ChronoUnit.MINUTES), end)))
+                .isInstanceOf(ScheduleException.class);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 DB 에서 색인을 다시 구성한다.")
+    void reloadsAfterTtl() {
+        // given
+        Instant start = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        Instant end = start.plus(1, ChronoUnit.HOURS);
+
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        given(scheduleRepository.findMentorBookedTimes(eq("mentor-1"), anyCollection(), any(Instant.class)))
+                .willReturn(List.of(new MentorBookedTimeVO("schedule-1", start, end)))
+                .willReturn(List.of());
+
+        AtomicLong now = new AtomicLong();
+        MentorBookingIndex index = new MentorBookingIndex(scheduleRepository, 1_000, now::get);
+
+        // when
+        List<BookedTimeVO> before = index.getBookedTimes("mentor-1", Instant.now());
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        List<BookedTimeVO> after = index.getBookedTimes("mentor-1", Instant.now());
+
+        // then
+        assertThat(before).hasSize(1);
+        assertThat(after).isEmpty();
+    }
+
+    private Schedule mentoring(String id, Instant start, Instant end) {
+        Schedule schedule = Schedule.builder()
+                .id(id)
+                .status(ScheduleStatus.PAYMENT_PENDING)
+                .lessonType("MENTORING")
+                .mentorId("mentor-1")
+                .menteeId("mentee-1")
+                .scheduleTimeList(new ArrayList<>())
+                .build();
+        schedule.addScheduleTime(ScheduleTime.of(start, end, schedule));
+        return schedule;
+    }
+}
@@ -0,0 +1,34 @@
+package com.kosa.fillinv.schedule.service.dto;
+
+import com.kosa.fillinv.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScheduleCursorTest {
+
+    @Test
+    @DisplayName("마지막 스케쥴 시간의 시작 시각과 id 로 만든 커서는 디코딩 시 동일한 값으로 복원된다.")
+    void encodeAndDecode() {
+        ScheduleCursor cursor = new ScheduleCursor(
+                ScheduleSortType.START_TIME_DESC, Instant.parse("2026-03-02T10:15:30.123456Z"), "schedule-time-10");
+
+        assertThat(ScheduleCursor.decode(cursor.encode(), ScheduleSortType.START_TIME_DESC)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지로 간주하고, 정렬 방향이 다르거나 손상된 커서는 예외가 발생한다.")
+    void decodeInvalid() {
+        String token = new ScheduleCursor(ScheduleSortType.START_TIME_ASC, Instant.now(), "schedule-time-1").encode();
+
+        assertThat(ScheduleCursor.decode(null, ScheduleSortType.START_TIME_ASC)).isNull();
+        assertThatThrownBy(() -> ScheduleCursor.decode(token, ScheduleSortType.START_TIME_DESC))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> ScheduleCursor.decode("not-a-cursor", ScheduleSortType.START_TIME_ASC))
+                .isInstanceOf(BusinessException.class);
+    }
+}
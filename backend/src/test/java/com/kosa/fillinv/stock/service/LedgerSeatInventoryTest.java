@@ -0,0 +1,154 @@
+package com.kosa.fillinv.stock.service;
+
+import com.kosa.fillinv.stock.entity.StockLedgerType;
+import com.kosa.fillinv.stock.repository.StockBulkRepository;
+import com.kosa.fillinv.stock.repository.StockLedgerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LedgerSeatInventoryTest {
+
+    private static final String KEY = "available-time-1";
+
+    private final FakeLedger ledger = new FakeLedger(Map.of(KEY, 10));
+    private final LedgerSeatInventory inventory = new LedgerSeatInventory(
+            ledger, new FakeStockBulkRepository(ledger), new DirectTransactionTemplate());
+
+    @Test
+    @DisplayName("동시에 예약해도 좌석 수만큼만 예약되고, 예약마다 이력이 추가된다.")
+    void reserveConcurrently() {
+        AtomicInteger granted = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                executor.submit(() -> {
+                    if (inventory.reserve(KEY)) {
+                        granted.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertThat(granted.get()).isEqualTo(10);
+        assertThat(ledger.entries).hasSize(10).allMatch(entry -> entry.type() == StockLedgerType.RESERVE);
+        assertThat(ledger.findAvailable(KEY)).contains(0);
+        assertThat(ledger.snapshot.get(KEY)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("반환도 이력으로 남고, 압축하면 스냅샷에 합쳐지지만 이력은 지워지지 않는다.")
+    void releaseAndCompact() {
+        inventory.reserveAll(Map.of(KEY, 3));
+        inventory.release(KEY);
+
+        inventory.compact();
+
+        assertThat(ledger.snapshot.get(KEY)).isEqualTo(8);
+        assertThat(ledger.entries).hasSize(2).allMatch(Entry::folded);
+        assertThat(ledger.findAvailable(KEY)).contains(8);
+        assertThat(inventory.getRemaining(Set.of(KEY))).containsEntry(KEY, 8);
+    }
+
+    @Test
+    @DisplayName("재고가 없는 key 가 섞여 있으면 아무것도 예약하지 않는다.")
+    void reserveAllWithUnknownKey() {
+        boolean reserved = inventory.reserveAll(Map.of(KEY, 2, "unknown", 1));
+
+        assertThat(reserved).isFalse();
+        assertThat(ledger.entries).isEmpty();
+        assertThat(inventory.getRemaining(Set.of(KEY))).containsEntry(KEY, 10);
+    }
+
+    private record Entry(long id, String serviceKey, StockLedgerType type, int delta, boolean folded) {
+    }
+
+    private static class FakeLedger extends StockLedgerRepository {
+
+        private final Map<String, Integer> snapshot;
+        private final List<Entry> entries = new ArrayList<>();
+        private long sequence = 0;
+
+        FakeLedger(Map<String, Integer> snapshot) {
+            super(null);
+            this.snapshot = new HashMap<>(snapshot);
+        }
+
+        @Override
+        public synchronized void append(Map<String, Integer> deltas, StockLedgerType type) {
+            deltas.forEach((serviceKey, delta) -> entries.add(new Entry(++sequence, serviceKey, type, delta, false)));
+        }
+
+        @Override
+        public synchronized Optional<Integer> findAvailable(String serviceKey) {
+            if (!snapshot.containsKey(serviceKey)) {
+                return Optional.empty();
+            }
+
+            int unfolded = entries.stream()
+                    .filter(entry -> entry.serviceKey().equals(serviceKey) && !entry.folded())
+                    .mapToInt(Entry::delta)
+                    .sum();
+            return Optional.of(snapshot.get(serviceKey) + unfolded);
+        }
+
+        @Override
+        public synchronized Fold lockUnfolded(int limit) {
+            List<Long> ids = new ArrayList<>();
+            Map<String, Integer> deltas = new HashMap<>();
+            entries.stream()
+                    .filter(entry -> !entry.folded())
+                    .limit(limit)
+                    .forEach(entry -> {
+                        ids.add(entry.id());
+                        deltas.merge(entry.serviceKey(), entry.delta(), Integer::sum);
+                    });
+            return new Fold(ids, deltas);
+        }
+
+        @Override
+        public synchronized void markFolded(List<Long> ids) {
+            entries.replaceAll(entry -> ids.contains(entry.id())
+                    ? new Entry(entry.id(), entry.serviceKey(), entry.type(), entry.delta(), true)
+                    : entry);
+        }
+    }
+
+    private static class FakeStockBulkRepository extends StockBulkRepository {
+
+        private final FakeLedger ledger;
+
+        FakeStockBulkRepository(FakeLedger ledger) {
+            super(null);
+            this.ledger = ledger;
+        }
+
+        @Override
+        public void bulkAddQuantity(Map<String, Integer> deltas) {
+            synchronized (ledger) {
+                deltas.forEach((serviceKey, delta) -> ledger.snapshot.merge(serviceKey, delta, Integer::sum));
+            }
+        }
+    }
+
+    // 트랜잭션 없이 바로 실행
+    private static class DirectTransactionTemplate extends TransactionTemplate {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            return action.doInTransaction(null);
+        }
+    }
+}
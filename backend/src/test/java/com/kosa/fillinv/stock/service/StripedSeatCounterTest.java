@@ -0,0 +1,49 @@
+package com.kosa.fillinv.stock.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedSeatCounterTest {
+
+    @Test
+    @DisplayName("동시에 요청해도 좌석 수보다 많이 예약되지 않는다.")
+    void neverOversells() {
+        StripedSeatCounter counter = new StripedSeatCounter(100, 8);
+        AtomicInteger acquired = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                executor.submit(() -> {
+                    if (counter.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertThat(acquired.get()).isEqualTo(100);
+        assertThat(counter.remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("슬롯 하나가 비어도 다른 슬롯의 좌석을 예약한다.")
+    void acquiresFromOtherStripes() {
+        StripedSeatCounter counter = new StripedSeatCounter(3, 8);
+
+        assertThat(counter.tryAcquire()).isTrue();
+        assertThat(counter.tryAcquire()).isTrue();
+        assertThat(counter.tryAcquire()).isTrue();
+        assertThat(counter.tryAcquire()).isFalse();
+
+        counter.release();
+
+        assertThat(counter.remaining()).isEqualTo(1);
+        assertThat(counter.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,60 @@
+package com.kosa.fillinv.stock.service;
+
+import com.kosa.fillinv.stock.entity.Stock;
+import com.kosa.fillinv.stock.entity.StockLedgerType;
+import com.kosa.fillinv.stock.repository.StockBulkRepository;
+import com.kosa.fillinv.stock.repository.StockLedgerRepository;
+import com.kosa.fillinv.stock.repository.StockRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class StripedSeatInventoryTest {
+
+    private static final String KEY = "available-time-1";
+
+    private final StockRepository stockRepository = mock(StockRepository.class);
+    private final StockLedgerRepository stockLedgerRepository = mock(StockLedgerRepository.class);
+
+    private final StripedSeatInventory inventory = new StripedSeatInventory(
+            stockRepository, mock(StockBulkRepository.class), stockLedgerRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Test
+    @DisplayName("예약과 반환은 반영된 이력으로 stock_ledger 에 남는다.")
+    void recordsLedger() {
+        given(stockRepository.findByServiceKey(KEY))
+                .willReturn(Optional.of(Stock.builder().id("stock-1").serviceKey(KEY).quantity(1).build()));
+
+        assertThat(inventory.reserve(KEY)).isTrue();
+        assertThat(inventory.reserveAll(Map.of(KEY, 1))).isFalse();
+        inventory.release(KEY);
+
+        verify(stockLedgerRepository).appendFolded(Map.of(KEY, -1), StockLedgerType.RESERVE);
+        verify(stockLedgerRepository).appendFolded(Map.of(KEY, 1), StockLedgerType.RELEASE);
+        verifyNoMoreInteractions(stockLedgerRepository);
+        assertThat(inventory.getRemaining(Set.of(KEY))).containsEntry(KEY, 1);
+    }
+
+    @Test
+    @DisplayName("재고가 없는 key 는 이력을 남기지 않는다.")
+    void unknownKeyIsNotRecorded() {
+        given(stockRepository.findByServiceKey(any())).willReturn(Optional.empty());
+
+        assertThat(inventory.reserve(KEY)).isFalse();
+        inventory.release(KEY);
+
+        verify(stockLedgerRepository, never()).appendFolded(anyMap(), any());
+    }
+}